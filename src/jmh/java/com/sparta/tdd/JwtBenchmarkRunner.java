@@ -0,0 +1,26 @@
+package com.sparta.tdd;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JWT 인증 경로 벤치마크 실행기 (처리량 ops/s + gc 프로파일러의 gc.alloc.rate.norm)<br>
+ * 인증 관련 최적화 전후로 같은 명령을 실행해 결과를 비교합니다<br>
+ * 인자로 벤치마크 이름 정규식을 넘기면 해당 벤치마크만 실행합니다 (예: JwtAuthenticationFilterBenchmark)
+ */
+public class JwtBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com.sparta.tdd.*Benchmark";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sparta.tdd.domain.auth.service;
+
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.jwt.JwtBenchmarkFixtures;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 블랙리스트 조회 경로별 비용<br>
+ * 대부분의 요청은 Bloom filter 음성 판정(notBlacklisted)에서 끝나야 합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBlacklistBenchmark {
+
+    // 이미 쌓여있는 블랙리스트 규모 (Bloom filter 채움 정도)
+    @Param({"0", "10000"})
+    private int blacklistedTokens;
+
+    private TokenBlacklistService tokenBlacklistService;
+    private String activeToken;
+    private String loggedOutToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AccessTokenProvider accessTokenProvider = JwtBenchmarkFixtures.accessTokenProvider();
+        RefreshTokenProvider refreshTokenProvider = JwtBenchmarkFixtures.refreshTokenProvider();
+        tokenBlacklistService = JwtBenchmarkFixtures.tokenBlacklistService(accessTokenProvider, refreshTokenProvider);
+
+        for (long userId = 0; userId < blacklistedTokens; userId++) {
+            tokenBlacklistService.addAccessTokenToBlacklist(
+                accessTokenProvider.generateToken("user" + userId, userId, UserAuthority.CUSTOMER));
+        }
+
+        activeToken = accessTokenProvider.generateToken("active", -1L, UserAuthority.CUSTOMER);
+        loggedOutToken = accessTokenProvider.generateToken("loggedOut", -2L, UserAuthority.CUSTOMER);
+        tokenBlacklistService.addAccessTokenToBlacklist(loggedOutToken);
+    }
+
+    @Benchmark
+    public boolean notBlacklisted() {
+        return tokenBlacklistService.isAccessTokenBlacklisted(activeToken);
+    }
+
+    @Benchmark
+    public boolean blacklisted() {
+        return tokenBlacklistService.isAccessTokenBlacklisted(loggedOutToken);
+    }
+
+    @Benchmark
+    public String toBlacklistKey() {
+        return TokenBlacklistService.toBlacklistKey(activeToken);
+    }
+}
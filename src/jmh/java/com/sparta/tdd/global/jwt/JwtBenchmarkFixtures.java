@@ -0,0 +1,54 @@
+package com.sparta.tdd.global.jwt;
+
+import com.sparta.tdd.domain.auth.repository.InMemoryTokenBlacklistStore;
+import com.sparta.tdd.domain.auth.service.TokenBlacklistService;
+import com.sparta.tdd.global.config.CacheConfig;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import java.util.List;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크 간 공통 준비물 (Spring 컨텍스트 없이 실제 구현체를 직접 조립)
+ */
+public final class JwtBenchmarkFixtures {
+
+    private JwtBenchmarkFixtures() {
+    }
+
+    public static AccessTokenProvider accessTokenProvider() {
+        AccessTokenProvider provider = new AccessTokenProvider();
+        ReflectionTestUtils.setField(provider, "accessSecretKey", "benchAccessSecretbenchAccessSecret");
+        ReflectionTestUtils.setField(provider, "accessExpiration", 3_600_000L);
+        provider.init();
+        return provider;
+    }
+
+    public static RefreshTokenProvider refreshTokenProvider() {
+        RefreshTokenProvider provider = new RefreshTokenProvider();
+        ReflectionTestUtils.setField(provider, "refreshSecretKey", "benchRefreshSecretbenchRefreshSecret");
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 3_600_000L);
+        provider.init();
+        return provider;
+    }
+
+    // 운영과 같은 Caffeine near-cache 구성 + 메모리 저장소, Bloom filter 준비 완료 상태
+    public static TokenBlacklistService tokenBlacklistService(
+        AccessTokenProvider accessTokenProvider,
+        RefreshTokenProvider refreshTokenProvider
+    ) {
+        CacheConfig cacheConfig = new CacheConfig();
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+            cacheConfig.accessTokenBlacklistCache(),
+            cacheConfig.refreshTokenBlacklistCache()
+        ));
+        cacheManager.initializeCaches();
+
+        TokenBlacklistService service = new TokenBlacklistService(new InMemoryTokenBlacklistStore(),
+            cacheManager, accessTokenProvider, refreshTokenProvider, 1_000_000L, 0.01, 30_000L);
+        service.rebuildBloomFilter();
+        return service;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.tdd.global.jwt;
+
+import com.sparta.tdd.domain.auth.service.TokenBlacklistService;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import io.jsonwebtoken.Claims;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 토큰 발급 / 검증 / 헤더 파싱 단건 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private AccessTokenProvider accessTokenProvider;
+    private JwtTokenValidator jwtTokenValidator;
+
+    private String accessToken;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accessTokenProvider = JwtBenchmarkFixtures.accessTokenProvider();
+        RefreshTokenProvider refreshTokenProvider = JwtBenchmarkFixtures.refreshTokenProvider();
+        TokenBlacklistService tokenBlacklistService =
+            JwtBenchmarkFixtures.tokenBlacklistService(accessTokenProvider, refreshTokenProvider);
+        jwtTokenValidator = new JwtTokenValidator(accessTokenProvider, refreshTokenProvider, tokenBlacklistService);
+
+        accessToken = accessTokenProvider.generateToken("benchUser", 1L, UserAuthority.CUSTOMER);
+        authorizationHeader = "Bearer " + accessToken;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return accessTokenProvider.generateToken("benchUser", 1L, UserAuthority.CUSTOMER);
+    }
+
+    @Benchmark
+    public Claims validateAndGetAccessClaims() {
+        return jwtTokenValidator.validateAndGetAccessClaims(accessToken);
+    }
+
+    @Benchmark
+    public Optional<String> extractAccessToken() {
+        return JwtTokenParser.extractAccessToken(authorizationHeader);
+    }
+}
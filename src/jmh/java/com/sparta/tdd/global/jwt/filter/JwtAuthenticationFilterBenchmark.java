@@ -0,0 +1,77 @@
+package com.sparta.tdd.global.jwt.filter;
+
+import com.sparta.tdd.domain.auth.service.TokenBlacklistService;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.jwt.JwtBenchmarkFixtures;
+import com.sparta.tdd.global.jwt.JwtTokenValidator;
+import com.sparta.tdd.global.jwt.VerifiedAccessTokenCache;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 인증 필터 한 번 통과 비용 (헤더 파싱 -> 블랙리스트 -> 검증 -> SecurityContext 설정)<br>
+ * verifiedCacheTtlMs 가 0 이면 매 요청 서명 검증, 그 외에는 VerifiedAccessTokenCache 적중 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "30000"})
+    private long verifiedCacheTtlMs;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String authorizationHeader;
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AccessTokenProvider accessTokenProvider = JwtBenchmarkFixtures.accessTokenProvider();
+        RefreshTokenProvider refreshTokenProvider = JwtBenchmarkFixtures.refreshTokenProvider();
+        TokenBlacklistService tokenBlacklistService =
+            JwtBenchmarkFixtures.tokenBlacklistService(accessTokenProvider, refreshTokenProvider);
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+            new JwtTokenValidator(accessTokenProvider, refreshTokenProvider, tokenBlacklistService),
+            new VerifiedAccessTokenCache(10_000L, verifiedCacheTtlMs)
+        );
+        authorizationHeader = "Bearer " + accessTokenProvider.generateToken("benchUser", 1L, UserAuthority.CUSTOMER);
+    }
+
+    @Benchmark
+    public int doFilterInternal() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/orders");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
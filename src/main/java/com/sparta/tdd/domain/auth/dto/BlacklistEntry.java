@@ -0,0 +1,23 @@
+package com.sparta.tdd.domain.auth.dto;
+
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import java.time.LocalDateTime;
+
+/**
+ * 공유 블랙리스트 저장소의 항목
+ *
+ * @param sequence  저장소에 추가된 순서 (커밋 순서와 다를 수 있어 한 번의 조회 안에서만 커서로 사용)
+ * @param tokenType 액세스 / 리프레시 구분
+ * @param tokenKey  블랙리스트 키
+ * @param expiresAt 이 시각 이후로는 블랙리스트에 남아있을 필요가 없음
+ * @param createdAt 저장소에 추가된 시각 (노드 간 동기화 구간의 기준)
+ */
+public record BlacklistEntry(
+    long sequence,
+    BlacklistTokenType tokenType,
+    String tokenKey,
+    LocalDateTime expiresAt,
+    LocalDateTime createdAt
+) {
+
+}
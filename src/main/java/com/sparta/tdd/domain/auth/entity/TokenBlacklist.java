@@ -0,0 +1,61 @@
+package com.sparta.tdd.domain.auth.entity;
+
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "p_token_blacklist", indexes = {
+    @Index(name = "idx_token_blacklist_type_key", columnList = "token_type, token_key"),
+    @Index(name = "idx_token_blacklist_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_token_blacklist_created_at", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenBlacklist {
+
+    // 추가된 순서대로 증가하지만 커밋 순서와는 다를 수 있음 -> 한 번의 동기화 안에서 페이지 커서로만 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "token_blacklist_id", nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "token_type", nullable = false, length = 10)
+    private BlacklistTokenType tokenType;
+
+    @Column(name = "token_key", nullable = false, length = 32)
+    private String tokenKey;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 노드 간 동기화는 이 시각 기준의 구간으로 다시 읽음 (늦게 커밋된 항목도 구간 안에 있으면 반영)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TokenBlacklist(BlacklistTokenType tokenType, String tokenKey, LocalDateTime expiresAt) {
+        this.tokenType = tokenType;
+        this.tokenKey = tokenKey;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public BlacklistEntry toEntry() {
+        return new BlacklistEntry(id, tokenType, tokenKey, expiresAt, createdAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sparta.tdd.domain.auth.enums;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BlacklistTokenType {
+    ACCESS("accessTokenBlacklist", Duration.ofHours(2)),
+    REFRESH("refreshTokenBlacklist", Duration.ofDays(7));
+
+    // 로컬 near-cache 이름 (CacheConfig 참고)
+    private final String cacheName;
+    // 토큰에 exp 가 없을 때만 사용하는 보관 기간 (정상 발급된 토큰은 exp 까지만 보관)
+    private final Duration fallbackRetention;
+}
@@ -0,0 +1,66 @@
+package com.sparta.tdd.domain.auth.repository;
+
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+// 프로세스 내부에서만 공유되는 구현체 -> 로컬 개발 / 테스트용
+@Repository
+@ConditionalOnProperty(name = "jwt.blacklist.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBlacklistStore implements TokenBlacklistStore {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, BlacklistEntry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, LocalDateTime> expiresAtByKey = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(BlacklistTokenType tokenType, String tokenKey, LocalDateTime expiresAt) {
+        long seq = sequence.incrementAndGet();
+        expiresAtByKey.merge(toKey(tokenType, tokenKey), expiresAt,
+            (prev, next) -> prev.isAfter(next) ? prev : next);
+        entries.put(seq, new BlacklistEntry(seq, tokenType, tokenKey, expiresAt, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findExpiresAt(BlacklistTokenType tokenType, String tokenKey) {
+        return Optional.ofNullable(expiresAtByKey.get(toKey(tokenType, tokenKey)))
+            .filter(expiresAt -> expiresAt.isAfter(LocalDateTime.now()));
+    }
+
+    @Override
+    public List<BlacklistEntry> findAddedAfter(long sequence, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return entries.tailMap(sequence, false).values().stream()
+            .filter(entry -> entry.expiresAt().isAfter(now))
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public List<BlacklistEntry> findAddedSince(LocalDateTime since, long sequence, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return entries.tailMap(sequence, false).values().stream()
+            .filter(entry -> !entry.createdAt().isBefore(since))
+            .filter(entry -> entry.expiresAt().isAfter(now))
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public void removeExpired(LocalDateTime now) {
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        expiresAtByKey.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    private String toKey(BlacklistTokenType tokenType, String tokenKey) {
+        return tokenType.name() + ":" + tokenKey;
+    }
+}
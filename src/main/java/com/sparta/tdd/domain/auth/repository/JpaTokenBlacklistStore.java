@@ -0,0 +1,64 @@
+package com.sparta.tdd.domain.auth.repository;
+
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.entity.TokenBlacklist;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// DB(p_token_blacklist) 를 원본으로 사용 -> 여러 인스턴스가 같은 블랙리스트를 바라봄
+@Repository
+@ConditionalOnProperty(name = "jwt.blacklist.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaTokenBlacklistStore implements TokenBlacklistStore {
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+
+    @Override
+    @Transactional
+    public void add(BlacklistTokenType tokenType, String tokenKey, LocalDateTime expiresAt) {
+        tokenBlacklistRepository.save(TokenBlacklist.builder()
+            .tokenType(tokenType)
+            .tokenKey(tokenKey)
+            .expiresAt(expiresAt)
+            .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findExpiresAt(BlacklistTokenType tokenType, String tokenKey) {
+        return tokenBlacklistRepository.findFirstByTokenTypeAndTokenKeyAndExpiresAtAfter(
+                tokenType, tokenKey, LocalDateTime.now())
+            .map(TokenBlacklist::getExpiresAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BlacklistEntry> findAddedAfter(long sequence, int limit) {
+        return tokenBlacklistRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                sequence, LocalDateTime.now(), Limit.of(limit)).stream()
+            .map(TokenBlacklist::toEntry)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BlacklistEntry> findAddedSince(LocalDateTime since, long sequence, int limit) {
+        return tokenBlacklistRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                since, sequence, LocalDateTime.now(), Limit.of(limit)).stream()
+            .map(TokenBlacklist::toEntry)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void removeExpired(LocalDateTime now) {
+        tokenBlacklistRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.tdd.domain.auth.repository;
+
+import com.sparta.tdd.domain.auth.entity.TokenBlacklist;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, Long> {
+
+    Optional<TokenBlacklist> findFirstByTokenTypeAndTokenKeyAndExpiresAtAfter(
+        BlacklistTokenType tokenType, String tokenKey, LocalDateTime now);
+
+    List<TokenBlacklist> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+        Long id, LocalDateTime now, Limit limit);
+
+    List<TokenBlacklist> findByCreatedAtGreaterThanEqualAndIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+        LocalDateTime since, Long id, LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM TokenBlacklist t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
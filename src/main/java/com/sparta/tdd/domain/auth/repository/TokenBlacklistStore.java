@@ -0,0 +1,37 @@
+package com.sparta.tdd.domain.auth.repository;
+
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 함께 바라보는 토큰 블랙리스트 원본 저장소<br>
+ * 키는 토큰 전체가 아닌 서명 앞부분(고정 길이)이며, 각 항목은 토큰의 exp 까지만 유지됩니다<br>
+ * jwt.blacklist.store 설정으로 구현체를 선택합니다 (memory: 단일 인스턴스/테스트용, jpa: DB 공유)
+ */
+public interface TokenBlacklistStore {
+
+    void add(BlacklistTokenType tokenType, String tokenKey, LocalDateTime expiresAt);
+
+    /**
+     * 블랙리스트에 있다면 해당 항목의 만료 시각을 반환합니다
+     */
+    Optional<LocalDateTime> findExpiresAt(BlacklistTokenType tokenType, String tokenKey);
+
+    /**
+     * sequence 이후에 추가된, 아직 만료되지 않은 항목을 추가된 순서대로 최대 limit 건 반환합니다<br>
+     * 로컬 Bloom filter 를 원본 전체로 새로 만들 때 사용합니다
+     */
+    List<BlacklistEntry> findAddedAfter(long sequence, int limit);
+
+    /**
+     * since 이후에 추가된 항목 중 sequence 다음부터, 아직 만료되지 않은 항목을 추가된 순서대로 최대 limit 건 반환합니다<br>
+     * 다른 인스턴스에서 추가된 블랙리스트를 로컬 Bloom filter 에 반영할 때 사용합니다
+     * (sequence 는 커밋 순서와 다를 수 있으므로 동기화 기준은 추가 시각이고, sequence 는 구간 안의 페이지 커서)
+     */
+    List<BlacklistEntry> findAddedSince(LocalDateTime since, long sequence, int limit);
+
+    void removeExpired(LocalDateTime now);
+}
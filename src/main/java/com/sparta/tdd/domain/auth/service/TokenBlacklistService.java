@@ -1,37 +1,201 @@
 package com.sparta.tdd.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import com.sparta.tdd.domain.auth.repository.TokenBlacklistStore;
+import com.sparta.tdd.domain.auth.util.BlacklistBloomFilter;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.JwtTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import io.jsonwebtoken.JwtException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 토큰 블랙리스트 조회/등록<br>
+ * 원본은 공유 저장소(TokenBlacklistStore) 이고, 요청마다 원본을 조회하지 않도록 로컬에 두 단계를 둡니다
+ * <ol>
+ *     <li>near-cache : 블랙리스트로 확인된 토큰만 보관 (양성 결과만 캐싱하므로 오래 들고 있어도 안전)</li>
+ *     <li>Bloom filter : "확실히 블랙리스트가 아님" 을 로컬에서 판정 (대부분의 요청이 여기서 끝남)</li>
+ * </ol>
+ * 다른 인스턴스에서 추가된 블랙리스트는 syncFromStore 주기(jwt.blacklist.sync-interval-ms) 안에 반영됩니다<br>
+ * 동기화는 sequence 가 아닌 추가 시각 기준으로, 직전 동기화 시각보다 jwt.blacklist.sync-window-ms 만큼 앞에서부터 다시 읽습니다
+ * (IDENTITY 값은 커밋 순서와 다를 수 있어, 늦게 커밋된 항목도 구간 안에 있으면 놓치지 않음)<br>
+ * 키는 토큰 전체(300자 이상) 대신 서명 앞 22자(약 128bit)를 사용하고, 토큰의 exp 가 지나면 모든 단계에서 사라집니다
+ */
+@Slf4j(topic = "TokenBlacklistService")
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
 
+    private static final int SYNC_BATCH_SIZE = 500;
+    // HS256 서명(base64url 43자) 중 앞 22자 -> 검증 전에도 파싱 없이 꺼낼 수 있는 고정 길이 키
+    private static final int BLACKLIST_KEY_LENGTH = 22;
+
+    private final TokenBlacklistStore tokenBlacklistStore;
     private final CacheManager cacheManager;
+    private final AccessTokenProvider accessTokenProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration syncWindow;
+
+    private volatile BlacklistBloomFilter bloomFilter;
+    // 최초 rebuild 전에는 필터가 비어있으므로 원본 저장소로 판정
+    private volatile boolean bloomFilterReady = false;
+    // 직전 동기화(또는 rebuild)를 시작한 시각 -> 다음 동기화는 이 시각 - syncWindow 부터 다시 읽음 (put 은 멱등)
+    private LocalDateTime lastSyncedAt;
+
+    public TokenBlacklistService(
+        TokenBlacklistStore tokenBlacklistStore,
+        CacheManager cacheManager,
+        AccessTokenProvider accessTokenProvider,
+        RefreshTokenProvider refreshTokenProvider,
+        @Value("${jwt.blacklist.bloom.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${jwt.blacklist.sync-window-ms:30000}") long syncWindowMillis
+    ) {
+        this.tokenBlacklistStore = tokenBlacklistStore;
+        this.cacheManager = cacheManager;
+        this.accessTokenProvider = accessTokenProvider;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncWindow = Duration.ofMillis(syncWindowMillis);
+        this.bloomFilter = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+    }
 
     public void addAccessTokenToBlacklist(String token) {
-        Cache cache = cacheManager.getCache("accessTokenBlacklist");
-        if (cache != null) {
-            cache.put(token, true);
-        }
+        addToBlacklist(BlacklistTokenType.ACCESS, accessTokenProvider, token);
     }
 
     public void addRefreshTokenToBlacklist(String token) {
-        Cache cache = cacheManager.getCache("refreshTokenBlacklist");
-        if (cache != null) {
-            cache.put(token, true);
-        }
+        addToBlacklist(BlacklistTokenType.REFRESH, refreshTokenProvider, token);
     }
 
     public boolean isAccessTokenBlacklisted(String token) {
-        Cache cache = cacheManager.getCache("accessTokenBlacklist");
-        return cache != null && cache.get(token) != null;
+        return isBlacklisted(BlacklistTokenType.ACCESS, token);
     }
 
     public boolean isRefreshTokenBlacklisted(String token) {
-        Cache cache = cacheManager.getCache("refreshTokenBlacklist");
-        return cache != null && cache.get(token) != null;
+        return isBlacklisted(BlacklistTokenType.REFRESH, token);
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 블랙리스트를 로컬 Bloom filter 에 반영합니다
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-interval-ms:1000}")
+    public synchronized void syncFromStore() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // 스케줄이 밀려 주기를 건너뛰었어도 직전 동기화 시각 기준이므로 빈 구간이 생기지 않음
+        LocalDateTime since = (lastSyncedAt != null ? lastSyncedAt : startedAt).minus(syncWindow);
+        int loaded = load(bloomFilter, sequence -> tokenBlacklistStore.findAddedSince(since, sequence, SYNC_BATCH_SIZE));
+        lastSyncedAt = startedAt;
+        log.debug("Token blacklist synced {} entries since {}", loaded, since);
+
+        if (bloomFilter.isSaturated()) {
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * 만료된 항목을 정리하고 Bloom filter 를 원본 기준으로 새로 만들어 교체합니다<br>
+     * Bloom filter 는 삭제가 불가능하므로, 만료된 토큰이 쌓여 오탐률이 오르는 것을 막기 위함입니다
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:3600000}")
+    public synchronized void rebuildBloomFilter() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        tokenBlacklistStore.removeExpired(startedAt);
+
+        BlacklistBloomFilter rebuilt = new BlacklistBloomFilter(expectedInsertions, falsePositiveRate);
+        int loaded = load(rebuilt, sequence -> tokenBlacklistStore.findAddedAfter(sequence, SYNC_BATCH_SIZE));
+        bloomFilter = rebuilt;
+        bloomFilterReady = true;
+        lastSyncedAt = startedAt;
+
+        log.info("Token blacklist bloom filter rebuilt ({} entries)", loaded);
+    }
+
+    private void addToBlacklist(BlacklistTokenType tokenType, JwtTokenProvider tokenProvider, String token) {
+        Date expiration;
+        try {
+            expiration = tokenProvider.getExpiration(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료됐거나 서명이 올바르지 않은 토큰은 어차피 검증을 통과하지 못하므로 보관할 필요 없음
+            log.debug("Skip blacklisting unusable token: {}", e.getMessage());
+            return;
+        }
+
+        LocalDateTime expiresAt = expiration != null
+            ? LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault())
+            : LocalDateTime.now().plus(tokenType.getFallbackRetention());
+        String key = toBlacklistKey(token);
+
+        tokenBlacklistStore.add(tokenType, key, expiresAt);
+        bloomFilter.put(bloomKey(tokenType, key));
+        putNearCache(tokenType, key, expiresAt);
+    }
+
+    private boolean isBlacklisted(BlacklistTokenType tokenType, String token) {
+        String key = toBlacklistKey(token);
+
+        Cache nearCache = cacheManager.getCache(tokenType.getCacheName());
+        if (nearCache != null && nearCache.get(key) != null) {
+            return true;
+        }
+
+        if (bloomFilterReady && !bloomFilter.mightContain(bloomKey(tokenType, key))) {
+            return false;
+        }
+
+        Optional<LocalDateTime> expiresAt = tokenBlacklistStore.findExpiresAt(tokenType, key);
+        expiresAt.ifPresent(value -> putNearCache(tokenType, key, value));
+        return expiresAt.isPresent();
+    }
+
+    // near-cache 값은 만료 시각(epoch millis) -> CacheConfig 의 Expiry 가 항목별 TTL 로 사용
+    private void putNearCache(BlacklistTokenType tokenType, String key, LocalDateTime expiresAt) {
+        Cache nearCache = cacheManager.getCache(tokenType.getCacheName());
+        if (nearCache != null) {
+            nearCache.put(key, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    // sequence 는 한 번의 조회 안에서만 페이지 커서로 사용 (조회 구간은 page 함수가 정함)
+    private int load(BlacklistBloomFilter target, LongFunction<List<BlacklistEntry>> page) {
+        long sequence = 0L;
+        int loaded = 0;
+        List<BlacklistEntry> entries;
+        do {
+            entries = page.apply(sequence);
+            for (BlacklistEntry entry : entries) {
+                target.put(bloomKey(entry.tokenType(), entry.tokenKey()));
+                sequence = entry.sequence();
+            }
+            loaded += entries.size();
+        } while (entries.size() == SYNC_BATCH_SIZE);
+
+        return loaded;
+    }
+
+    private String bloomKey(BlacklistTokenType tokenType, String key) {
+        return tokenType.name() + ":" + key;
+    }
+
+    static String toBlacklistKey(String token) {
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        return signature.length() > BLACKLIST_KEY_LENGTH
+            ? signature.substring(0, BLACKLIST_KEY_LENGTH)
+            : signature;
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package com.sparta.tdd.domain.auth.service;
 
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
 import com.sparta.tdd.domain.orderMenu.repository.OrderMenuRepository;
 import com.sparta.tdd.domain.payment.repository.PaymentRepository;
 import com.sparta.tdd.domain.review.repository.ReviewReplyRepository;
 import com.sparta.tdd.domain.review.repository.ReviewRepository;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.store.service.StoreSearchCache;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +29,8 @@ public class WithdrawalDataCleanService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final OrderMenuRepository orderMenuRepository;
+    private final MenuCatalogCache menuCatalogCache;
+    private final StoreSearchCache storeSearchCache;
 
     public void deleteOwnerRelatedData(Long userId, LocalDateTime deletedAt) {
         List<UUID> storeIds = storeRepository.findStoreIdsByUserIdAndDeletedAtIsNull(userId);
@@ -36,6 +41,9 @@ public class WithdrawalDataCleanService {
                 reviewReplyRepository.bulkSoftDeleteByReviewIds(reviewIds, deletedAt, userId);
             }
             reviewRepository.bulkSoftDeleteByStoreIds(storeIds, deletedAt, userId);
+            // 탈퇴는 드물어 가게별 카테고리를 다시 조회하지 않고 검색 캐시를 모두 무효화
+            storeSearchCache.evictAfterCommit(StoreCategory.values());
+            menuCatalogCache.bumpAfterCommit(storeIds);
         }
 
         storeRepository.bulkSoftDeleteByUserId(userId, deletedAt, userId);
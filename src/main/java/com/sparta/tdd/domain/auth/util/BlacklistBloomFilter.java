@@ -0,0 +1,86 @@
+package com.sparta.tdd.domain.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블랙리스트 "음성" 판정용 Bloom filter<br>
+ * mightContain 이 false 라면 해당 키는 절대 추가된 적이 없으므로 원본 저장소를 조회하지 않아도 됩니다<br>
+ * true 인 경우에만 (오탐 가능) near-cache / 원본 저장소로 확인합니다<br>
+ * 삭제를 지원하지 않으므로 만료 항목은 주기적으로 새 필터를 만들어 교체합니다
+ */
+public class BlacklistBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    public BlacklistBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter 설정이 올바르지 않습니다.");
+        }
+        long optimalBits = (long) Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = words * 64L;
+        this.hashCount = Math.max(1,
+            (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << (index & 63);
+            bits.accumulateAndGet((int) (index >>> 6), mask, (prev, m) -> prev | m);
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 예상 건수를 넘기면 오탐률이 급격히 올라가므로 재생성 대상
+    public boolean isSaturated() {
+        return insertions.sum() > expectedInsertions;
+    }
+
+    // FNV-1a 64bit
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // murmur3 fmix64
+    private static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -1,11 +1,13 @@
 package com.sparta.tdd.domain.cart.repository;
 
 import com.sparta.tdd.domain.cart.entity.Cart;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,18 @@ public interface CartRepository extends JpaRepository<Cart, UUID> {
         """)
     Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
 
+    // 같은 장바구니에 대한 아이템 추가를 직렬화 (기존 아이템 확인 ~ 추가 사이에 다른 요청이 끼지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.user.id = :userId AND c.deletedAt IS NULL")
+    Optional<Cart> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    // 동시에 첫 추가/조회가 들어와도 장바구니는 하나만 생성됨 (user_id 유니크)
+    @Modifying
+    @Query(value = """
+        INSERT INTO p_cart (cart_id, user_id, created_at)
+        VALUES (:id, :userId, :now)
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
 }
\ No newline at end of file
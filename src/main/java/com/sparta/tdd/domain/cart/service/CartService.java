@@ -6,8 +6,10 @@ import com.sparta.tdd.domain.cart.entity.Cart;
 import com.sparta.tdd.domain.cart.entity.CartItem;
 import com.sparta.tdd.domain.cart.repository.CartItemRepository;
 import com.sparta.tdd.domain.cart.repository.CartRepository;
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.repository.UserRepository;
 import com.sparta.tdd.global.exception.BusinessException;
@@ -16,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -27,6 +30,7 @@ public class CartService {
     private final CartItemRepository cartItemRepository;
     private final MenuRepository menuRepository;
     private final UserRepository userRepository;
+    private final MenuCatalogCache menuCatalogCache;
 
     // 장바구니 조회
     @Transactional
@@ -38,9 +42,14 @@ public class CartService {
     // 장바구니에 아이템 추가
     @Transactional
     public CartResponseDto addItemToCart(Long userId, CartItemRequestDto request) {
-        Cart cart = getOrCreateCart(userId);
+        // 장바구니 행을 먼저 잠가 같은 메뉴의 동시 추가가 각자 새 아이템을 만들지 않도록 함
+        lockOrCreateCart(userId);
+        Cart cart = getCartByUserId(userId);
         Menu menu = getMenuById(request.menuId());
 
+        // 숨김/삭제된 메뉴는 담지 않음 - 주문 검증과 같은 가게 메뉴 스냅샷 기준
+        verifyOrderable(menu);
+
         // 기존 아이템이 있으면 수량 증가, 없으면 새로 추가
         addOrUpdateCartItem(cart, menu, request);
 
@@ -106,6 +115,17 @@ public class CartService {
                 .orElse(null);
     }
 
+    // 요청에는 메뉴 id 만 있으므로 메뉴의 가게 id 로 스냅샷을 찾음 (store 프록시는 id 만 사용)
+    private void verifyOrderable(Menu menu) {
+        boolean orderable = menuCatalogCache.get(menu.getStore().getId())
+                .find(menu.getId())
+                .filter(MenuCatalog.Item::isOrderable)
+                .isPresent();
+        if (!orderable) {
+            throw new BusinessException(ErrorCode.MENU_INVALID_INFO);
+        }
+    }
+
     // 장바구니 소유권 검증
     private void validateCartOwnership(Cart cart, CartItem cartItem) {
         if (!cartItem.getCart().getId().equals(cart.getId())) {
@@ -116,14 +136,27 @@ public class CartService {
     private Cart getOrCreateCart(Long userId) {
         return cartRepository.findByUserIdWithItems(userId)
                 .orElseGet(() -> {
-                    User user = getUserById(userId);
-                    Cart newCart = Cart.builder()
-                            .user(user)
-                            .build();
-                    return cartRepository.save(newCart);
+                    createCartIfAbsent(userId);
+                    return getCartByUserId(userId);
                 });
     }
 
+    // 첫 추가가 동시에 들어와도 잠글 행이 있도록, 없으면 먼저 만들고 (ON CONFLICT) 다시 잠금
+    private void lockOrCreateCart(Long userId) {
+        if (cartRepository.findByUserIdForUpdate(userId).isPresent()) {
+            return;
+        }
+        createCartIfAbsent(userId);
+        cartRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CART_NOT_FOUND));
+    }
+
+    // 동시 생성은 user_id 유니크 충돌 대신 ON CONFLICT DO NOTHING 으로 하나만 남김
+    private void createCartIfAbsent(Long userId) {
+        User user = getUserById(userId);
+        cartRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), LocalDateTime.now());
+    }
+
     private Cart getCartByUserId(Long userId) {
         return cartRepository.findByUserIdWithItems(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CART_NOT_FOUND));
@@ -2,11 +2,13 @@ package com.sparta.tdd.domain.coupon.controller;
 
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
 import com.sparta.tdd.domain.coupon.dto.UserCouponResponseDto;
+import com.sparta.tdd.domain.coupon.dto.UserCouponWalletCursorResponseDto;
 import com.sparta.tdd.domain.coupon.service.UserCouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -37,6 +40,19 @@ public class UserCouponController {
             .body(userCouponService.getMyCoupons(userDetails.getUserId()));
     }
 
+    @Operation(
+        summary = "내 쿠폰함 커서 조회",
+        description = "내 쿠폰 목록을 커서 기반으로 조회합니다. 정렬 순서는 목록 조회와 같으며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    @GetMapping("/my/scroll")
+    public ResponseEntity<UserCouponWalletCursorResponseDto> getMyCouponsByCursor(
+        @RequestParam(required = false) String cursor,
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        Pageable pageable) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(userCouponService.getMyCoupons(userDetails.getUserId(), cursor, pageable));
+    }
+
     @Operation(
         summary = "유저쿠폰 발급",
         description = "쿠폰을 발급하여 유저쿠폰을 생성합니다. CUSTOMER와 MASTER 권한만 가능하며, 발급된 유저쿠폰의 최초 CouponStatus는 ACTIVE 입니다."
@@ -0,0 +1,42 @@
+package com.sparta.tdd.domain.coupon.dto;
+
+import com.sparta.tdd.global.exception.ErrorCode;
+import com.sparta.tdd.global.pageable.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 내 쿠폰함 커서(keyset) 페이징의 기준점<br>
+ * 마지막으로 내려준 쿠폰의 statusOrder + issuedAt + id 를 KeysetCursor 로 감싸 클라이언트에게 전달합니다
+ *
+ * @param statusOrder 마지막 쿠폰의 상태 순서 (ACTIVE = 0, 그 외 = 1)
+ * @param issuedAt    마지막 쿠폰의 발급 시간
+ * @param id          마지막 유저쿠폰의 id (발급 시간이 같은 쿠폰 간의 순서 보장용)
+ */
+public record UserCouponCursor(
+    int statusOrder,
+    LocalDateTime issuedAt,
+    UUID id
+) {
+
+    private static final int KEY_COUNT = 3;
+
+    public String encode() {
+        return KeysetCursor.encode(statusOrder, issuedAt, id);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지라면 null 또는 빈 문자열)
+     * @return 해석된 커서, 첫 페이지라면 null
+     */
+    public static UserCouponCursor decodeOrNull(String cursor) {
+        return KeysetCursor.decodeOrNull(cursor, KEY_COUNT, ErrorCode.INVALID_USER_COUPON_CURSOR, keys ->
+            new UserCouponCursor(
+                Integer.parseInt(keys[0]),
+                LocalDateTime.parse(keys[1]),
+                UUID.fromString(keys[2])
+            ));
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.tdd.domain.coupon.dto;
 
 import com.sparta.tdd.domain.coupon.entity.UserCoupon;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
 import com.sparta.tdd.domain.coupon.enums.CouponStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.UUID;
@@ -27,4 +28,13 @@ public record UserCouponResponseDto(
             .couponStatus(userCoupon.getCouponStatus())
             .build();
     }
+
+    public static UserCouponResponseDto from(UserCouponView view) {
+        return UserCouponResponseDto.builder()
+            .userCouponId(view.getId())
+            .userId(view.getUserId())
+            .couponId(view.getCouponId())
+            .couponStatus(view.getCouponStatus())
+            .build();
+    }
 }
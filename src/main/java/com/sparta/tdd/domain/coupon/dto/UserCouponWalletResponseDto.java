@@ -0,0 +1,50 @@
+package com.sparta.tdd.domain.coupon.dto;
+
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
+import com.sparta.tdd.domain.coupon.enums.Type;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+
+@Schema(description = "내 쿠폰함 항목 응답 DTO")
+@Builder
+public record UserCouponWalletResponseDto(
+    @Schema(description = "유저쿠폰 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    UUID userCouponId,
+    @Schema(description = "쿠폰 ID", example = "551e8400-e29b-41d4-a716-446655440001")
+    UUID couponId,
+    @Schema(description = "유저 쿠폰 상태", example = "ACTIVE")
+    CouponStatus couponStatus,
+    @Schema(description = "쿠폰 이름", example = "2000원 할인 쿠폰")
+    String couponName,
+    @Schema(description = "할인 종류", example = "FIXED")
+    Type couponType,
+    @Schema(description = "할인값", example = "2000")
+    Integer discountValue,
+    @Schema(description = "최소 주문 금액", example = "15000")
+    Integer minOrderPrice,
+    @Schema(description = "만료일자", example = "2025-09-29T12:00:00")
+    LocalDateTime expiredAt,
+    @Schema(description = "발급일자", example = "2025-09-01T12:00:00")
+    LocalDateTime issuedAt,
+    @Schema(description = "사용일자", example = "2025-09-02T12:00:00")
+    LocalDateTime usedAt
+) {
+
+    public static UserCouponWalletResponseDto from(UserCouponView view) {
+        return UserCouponWalletResponseDto.builder()
+            .userCouponId(view.getId())
+            .couponId(view.getCouponId())
+            .couponStatus(view.getCouponStatus())
+            .couponName(view.getCouponName())
+            .couponType(view.getCouponType())
+            .discountValue(view.getDiscountValue())
+            .minOrderPrice(view.getMinOrderPrice())
+            .expiredAt(view.getExpiredAt())
+            .issuedAt(view.getIssuedAt())
+            .usedAt(view.getUsedAt())
+            .build();
+    }
+}
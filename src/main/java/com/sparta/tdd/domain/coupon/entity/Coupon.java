@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_coupon")
+@Table(name = "p_coupon", indexes = {
+    @Index(name = "idx_coupon_expired_at", columnList = "expired_at")
+})
 @Getter
 @NoArgsConstructor
 public class Coupon extends BaseEntity {
@@ -83,17 +86,6 @@ public class Coupon extends BaseEntity {
         this.expiredAt = dto.expiredAt();
     }
 
-    public void issuedCount() {
-        this.issuedCount++;
-        if (issuedCount == quantity) {
-            this.delete(null);
-        }
-    }
-
-    public boolean checkIssuedCount() {
-        return this.issuedCount >= this.quantity;
-    }
-
     public boolean isAlreadyIssued() {
         return issuedCount > 0;
     }
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,6 +27,8 @@ import lombok.NoArgsConstructor;
         name = "unique_coupon",
         columnNames = {"user_id", "coupon_id"}
     )
+}, indexes = {
+    @Index(name = "idx_user_coupon_coupon_status_id", columnList = "coupon_id, status, user_coupon_id")
 })
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,113 @@
+package com.sparta.tdd.domain.coupon.entity;
+
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
+import com.sparta.tdd.domain.coupon.enums.Type;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내 쿠폰함 조회 전용 테이블 (p_user_coupon + p_coupon 비정규화)<br>
+ * 발급/사용/만료/삭제 시점에 함께 갱신되며, 조회는 (user_id, status_order, issued_at, id) 인덱스만으로 정렬/페이징합니다<br>
+ * status_order : ACTIVE = 0, 그 외 = 1 -> 사용 가능한 쿠폰이 항상 먼저 오도록
+ */
+@Entity
+@Table(name = "p_user_coupon_view", indexes = {
+    @Index(name = "idx_user_coupon_view_wallet", columnList = "user_id, status_order, issued_at DESC, user_coupon_id DESC")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCouponView implements Persistable<UUID> {
+
+    private static final int ACTIVE_ORDER = 0;
+    private static final int INACTIVE_ORDER = 1;
+
+    // p_user_coupon 과 같은 id 를 사용 (직접 할당)
+    @Id
+    @Column(name = "user_coupon_id", nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private UUID couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CouponStatus couponStatus;
+
+    @Column(name = "status_order", nullable = false)
+    private int statusOrder;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "coupon_name", nullable = false, length = 20)
+    private String couponName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "coupon_type", nullable = false)
+    private Type couponType;
+
+    @Column(name = "discount_value", nullable = false)
+    private Integer discountValue;
+
+    @Column(name = "min_order_price", nullable = false)
+    private Integer minOrderPrice;
+
+    @Column(name = "expired_at", nullable = false)
+    private LocalDateTime expiredAt;
+
+    // id 를 직접 할당하므로 save 시 merge(추가 SELECT) 대신 persist 되도록
+    @Transient
+    private boolean isNew = true;
+
+    public static UserCouponView of(UserCoupon userCoupon, Long userId, Coupon coupon) {
+        UserCouponView view = new UserCouponView();
+        view.id = userCoupon.getId();
+        view.userId = userId;
+        view.couponId = coupon.getId();
+        view.couponStatus = userCoupon.getCouponStatus();
+        view.statusOrder = statusOrder(userCoupon.getCouponStatus());
+        view.issuedAt = userCoupon.getCreatedAt() != null ? userCoupon.getCreatedAt() : LocalDateTime.now();
+        view.usedAt = userCoupon.getUsedAt();
+        view.couponName = coupon.getName();
+        view.couponType = coupon.getType();
+        view.discountValue = coupon.getDiscountValue();
+        view.minOrderPrice = coupon.getMinOrderPrice();
+        view.expiredAt = coupon.getExpiredAt();
+        return view;
+    }
+
+    public static int statusOrder(CouponStatus couponStatus) {
+        return couponStatus == CouponStatus.ACTIVE ? ACTIVE_ORDER : INACTIVE_ORDER;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -16,8 +16,24 @@ public interface CouponRepository extends JpaRepository<Coupon, UUID> {
 
     Optional<Coupon> findByIdAndDeletedAtIsNull(UUID id);
 
-    @Modifying(clearAutomatically = true)
-    @Query("update Coupon c set c.deletedAt = :now, c.deletedBy = null where c.deletedAt is null and c.expiredAt <= :now")
-    int softDeleteExpiredCoupons(@Param("now") LocalDateTime now);
+    // 품절로 먼저 soft delete 된 쿠폰도 남은 ACTIVE 유저쿠폰이 있으면 만료 대상
+    @Query("select c.id from Coupon c where c.expiredAt <= :now and (c.deletedAt is null or exists (select 1 from UserCoupon uc where uc.coupon = c and uc.couponStatus = com.sparta.tdd.domain.coupon.enums.CouponStatus.ACTIVE))")
+    List<UUID> findExpiredCouponIds(@Param("now") LocalDateTime now);
+
+    @Query("select c.id from Coupon c where c.expiredAt < :threshold and exists (select 1 from UserCoupon uc where uc.coupon = c and uc.couponStatus = com.sparta.tdd.domain.coupon.enums.CouponStatus.EXPIRED and uc.deletedAt is null)")
+    List<UUID> findCouponIdsWithExpiredUserCouponsBefore(@Param("threshold") LocalDateTime threshold);
+
+    @Modifying
+    @Query("update Coupon c set c.deletedAt = :now, c.deletedBy = null where c.id = :couponId and c.deletedAt is null")
+    int softDeleteById(@Param("couponId") UUID couponId, @Param("now") LocalDateTime now);
+
+    // 남은 수량이 count 이상일 때만 증가 -> 0 이면 소진 (동시 발급에도 수량 초과 불가)
+    @Modifying
+    @Query("update Coupon c set c.issuedCount = c.issuedCount + :count where c.id = :couponId and c.deletedAt is null and c.issuedCount + :count <= c.quantity")
+    int increaseIssuedCount(@Param("couponId") UUID couponId, @Param("count") int count);
+
+    @Modifying
+    @Query("update Coupon c set c.deletedAt = :now, c.deletedBy = null where c.id = :couponId and c.deletedAt is null and c.issuedCount >= c.quantity")
+    int softDeleteSoldOutCoupon(@Param("couponId") UUID couponId, @Param("now") LocalDateTime now);
 
 }
@@ -1,22 +1,34 @@
 package com.sparta.tdd.domain.coupon.repository;
 
 import com.sparta.tdd.domain.coupon.entity.UserCoupon;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface UserCouponRepository extends JpaRepository<UserCoupon, UUID>,
-    UserCouponRepositoryCustom {
+public interface UserCouponRepository extends JpaRepository<UserCoupon, UUID> {
 
-    List<UserCoupon> findAllByUserId(Long userId);
+    @Query("select uc.user.id from UserCoupon uc where uc.coupon.id = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") UUID couponId);
 
-    @Query("update UserCoupon uc set uc.couponStatus = 'EXPIRED' where uc.couponStatus = 'ACTIVE' and uc.coupon.expiredAt <= :now")
-    int expireByCouponExpiredAt(@Param("now") LocalDateTime now);
+    boolean existsByUserIdAndCouponId(Long userId, UUID couponId);
 
-    @Query("update UserCoupon uc set uc.deletedAt = :now, uc.deletedBy = null where uc.couponStatus = 'EXPIRED' and DATE(uc.coupon.expiredAt) <= DATE(:sevenDaysAgo)")
-    void deleteExpiredUserCoupon(@Param("now") LocalDateTime now,
-        @Param("sevenDaysAgo") LocalDateTime sevenDaysAgo);
+    // 만료/정리 배치용 keyset 조회 -> (coupon_id, status, user_coupon_id) 인덱스 범위 스캔
+    @Query("select uc.id from UserCoupon uc where uc.coupon.id = :couponId and uc.couponStatus = :status and uc.deletedAt is null and uc.id > :lastId order by uc.id")
+    List<UUID> findIdsByCouponIdAndStatusAfter(@Param("couponId") UUID couponId,
+        @Param("status") CouponStatus status, @Param("lastId") UUID lastId, Limit limit);
+
+    @Modifying
+    @Query("update UserCoupon uc set uc.couponStatus = :to where uc.id in :ids and uc.couponStatus = :from")
+    int updateStatusByIds(@Param("ids") List<UUID> ids, @Param("from") CouponStatus from,
+        @Param("to") CouponStatus to);
+
+    @Modifying
+    @Query("update UserCoupon uc set uc.deletedAt = :now, uc.deletedBy = null where uc.id in :ids and uc.deletedAt is null")
+    int softDeleteByIds(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
 }
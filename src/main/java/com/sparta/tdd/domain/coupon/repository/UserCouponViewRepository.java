@@ -0,0 +1,37 @@
+package com.sparta.tdd.domain.coupon.repository;
+
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserCouponViewRepository extends JpaRepository<UserCouponView, UUID>,
+    UserCouponViewRepositoryCustom {
+
+    List<UserCouponView> findAllByUserIdOrderByStatusOrderAscIssuedAtDescIdDesc(Long userId);
+
+    @Modifying
+    @Query("update UserCouponView v set v.couponStatus = :status, v.statusOrder = :statusOrder, v.usedAt = :usedAt where v.id in :ids")
+    int updateStatusByIds(@Param("ids") List<UUID> ids, @Param("status") CouponStatus status,
+        @Param("statusOrder") int statusOrder, @Param("usedAt") LocalDateTime usedAt);
+
+    // 기존 p_user_coupon 중 뷰에 없는 행을 채움 (멱등)
+    @Modifying
+    @Query(value = """
+        insert into p_user_coupon_view (user_coupon_id, user_id, coupon_id, status, status_order, issued_at, used_at,
+            coupon_name, coupon_type, discount_value, min_order_price, expired_at)
+        select uc.user_coupon_id, uc.user_id, uc.coupon_id, uc.status,
+            case when uc.status = 'ACTIVE' then 0 else 1 end, uc.created_at, uc.used_at,
+            c.name, c.type, c.discount_value, c.min_order_price, c.expired_at
+        from p_user_coupon uc
+        join p_coupon c on c.coupon_id = uc.coupon_id
+        where uc.deleted_at is null
+          and not exists (select 1 from p_user_coupon_view v where v.user_coupon_id = uc.user_coupon_id)
+        """, nativeQuery = true)
+    int backfillMissing();
+}
@@ -0,0 +1,14 @@
+package com.sparta.tdd.domain.coupon.repository;
+
+import com.sparta.tdd.domain.coupon.dto.UserCouponCursor;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import java.util.List;
+
+public interface UserCouponViewRepositoryCustom {
+
+    /**
+     * 내 쿠폰함을 (statusOrder ASC, issuedAt DESC, id DESC) 순으로 cursor 다음부터 size + 1 건 조회합니다<br>
+     * 한 건을 더 읽어 다음 페이지 존재 여부를 판단합니다
+     */
+    List<UserCouponView> findWalletPage(Long userId, UserCouponCursor cursor, int size);
+}
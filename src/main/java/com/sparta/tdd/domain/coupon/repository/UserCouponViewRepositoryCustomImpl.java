@@ -0,0 +1,45 @@
+package com.sparta.tdd.domain.coupon.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.tdd.domain.coupon.dto.UserCouponCursor;
+import com.sparta.tdd.domain.coupon.entity.QUserCouponView;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserCouponViewRepositoryCustomImpl implements UserCouponViewRepositoryCustom {
+
+    private final JPAQueryFactory query;
+
+    @Override
+    public List<UserCouponView> findWalletPage(Long userId, UserCouponCursor cursor, int size) {
+        QUserCouponView v = QUserCouponView.userCouponView;
+
+        return query.selectFrom(v)
+            .where(
+                v.userId.eq(userId),
+                cursorAfter(cursor)
+            )
+            .orderBy(
+                v.statusOrder.asc(),
+                v.issuedAt.desc(),
+                v.id.desc()
+            )
+            .limit(size + 1L)
+            .fetch();
+    }
+
+    private BooleanExpression cursorAfter(UserCouponCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        QUserCouponView v = QUserCouponView.userCouponView;
+        return v.statusOrder.gt(cursor.statusOrder())
+            .or(v.statusOrder.eq(cursor.statusOrder()).and(
+                v.issuedAt.lt(cursor.issuedAt())
+                    .or(v.issuedAt.eq(cursor.issuedAt()).and(v.id.lt(cursor.id())))
+            ));
+    }
+}
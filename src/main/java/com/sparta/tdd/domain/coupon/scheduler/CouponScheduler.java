@@ -1,35 +1,172 @@
 package com.sparta.tdd.domain.coupon.scheduler;
 
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
 import com.sparta.tdd.domain.coupon.repository.CouponRepository;
 import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
+import com.sparta.tdd.global.batch.ChunkLoop;
 import java.time.LocalDateTime;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 쿠폰 만료 배치<br>
+ * 한 번의 큰 UPDATE 대신, 쿠폰별로 유저쿠폰을 id 순 keyset 으로 batch-size 만큼씩 끊어 chunk 마다 커밋합니다<br>
+ * 하루 중에도 interval 마다 조금씩 실행되므로 자정에 작업이 몰리지 않고, 중간에 멈춰도 다음 실행이 남은 부분부터 이어갑니다
+ */
+@Slf4j(topic = "CouponScheduler")
 @Component
-@RequiredArgsConstructor
 public class CouponScheduler {
 
-    public final CouponRepository couponRepository;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int EXPIRED_RETENTION_DAYS = 7;
+
+    private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final UserCouponViewRepository userCouponViewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ChunkLoop chunkLoop;
+    private final boolean backfillOnStartup;
+
+    public CouponScheduler(
+        CouponRepository couponRepository,
+        UserCouponRepository userCouponRepository,
+        UserCouponViewRepository userCouponViewRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${coupon.expiry.batch-size:1000}") int batchSize,
+        @Value("${coupon.expiry.throttle-ms:50}") long throttleMillis,
+        @Value("${coupon.wallet.backfill-on-startup:false}") boolean backfillOnStartup
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.userCouponViewRepository = userCouponViewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkLoop = new ChunkLoop(batchSize, throttleMillis);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // 쿠폰함 조회 모델이 생기기 전에 발급된 유저쿠폰을 채움 (이미 있는 행은 건너뜀)
+    // 한 번 채운 뒤에는 필요 없으므로 coupon.wallet.backfill-on-startup 을 켠 배포에서만 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillUserCouponView() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Integer inserted = transactionTemplate.execute(status -> userCouponViewRepository.backfillMissing());
+        log.info("User coupon view backfilled (rows={})", inserted);
+    }
 
     // userCoupon 만료 처리 및 만료된 coupon soft delete
-    @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
+    @Scheduled(fixedDelayString = "${coupon.expiry.interval-ms:600000}")
     public void expireUserCoupons() {
         LocalDateTime now = LocalDateTime.now();
-        userCouponRepository.expireByCouponExpiredAt(now);
-        couponRepository.softDeleteExpiredCoupons(now);
+        ExpiryProgress progress = new ExpiryProgress("expireUserCoupons");
+
+        for (UUID couponId : couponRepository.findExpiredCouponIds(now)) {
+            boolean completed = walk(couponId, CouponStatus.ACTIVE, progress,
+                ids -> {
+                    userCouponViewRepository.updateStatusByIds(ids, CouponStatus.EXPIRED,
+                        UserCouponView.statusOrder(CouponStatus.EXPIRED), null);
+                    return userCouponRepository.updateStatusByIds(ids, CouponStatus.ACTIVE, CouponStatus.EXPIRED);
+                });
+            if (!completed) {
+                break;
+            }
+            // 유저쿠폰을 모두 만료시킨 뒤에 쿠폰을 지워야 중간에 멈춰도 다음 실행에서 다시 찾을 수 있음
+            transactionTemplate.executeWithoutResult(status -> couponRepository.softDeleteById(couponId, now));
+            progress.couponDone();
+        }
+
+        progress.report();
     }
 
     // 만료된 userCoupon 7일 후 soft delete
-    @Scheduled(cron = "0 30 0 * * *")
-    @Transactional
+    @Scheduled(fixedDelayString = "${coupon.expiry.interval-ms:600000}",
+        initialDelayString = "${coupon.expiry.cleanup-initial-delay-ms:300000}")
     public void deleteOldExpiredUserCoupons() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        userCouponRepository.deleteExpiredUserCoupon(now, sevenDaysAgo);
+        // 만료일 기준 7일이 지난 날짜까지 (날짜 단위)
+        LocalDateTime threshold = now.toLocalDate().minusDays(EXPIRED_RETENTION_DAYS - 1L).atStartOfDay();
+        ExpiryProgress progress = new ExpiryProgress("deleteOldExpiredUserCoupons");
+
+        for (UUID couponId : couponRepository.findCouponIdsWithExpiredUserCouponsBefore(threshold)) {
+            boolean completed = walk(couponId, CouponStatus.EXPIRED, progress,
+                ids -> {
+                    // 7일이 지난 쿠폰은 쿠폰함에서도 내림
+                    userCouponViewRepository.deleteAllByIdInBatch(ids);
+                    return userCouponRepository.softDeleteByIds(ids, now);
+                });
+            if (!completed) {
+                break;
+            }
+            progress.couponDone();
+        }
+
+        progress.report();
+    }
+
+    /**
+     * 쿠폰 하나의 유저쿠폰을 id 순으로 끝까지 훑으며 chunk 단위로 커밋합니다
+     *
+     * @return 끝까지 처리했으면 true, 인터럽트로 중단했으면 false
+     */
+    private boolean walk(UUID couponId, CouponStatus status, ExpiryProgress progress,
+        Function<List<UUID>, Integer> chunkUpdate) {
+        AtomicReference<UUID> lastId = new AtomicReference<>(FIRST_ID);
+        return chunkLoop.run(() -> {
+            List<UUID> ids = userCouponRepository.findIdsByCouponIdAndStatusAfter(
+                couponId, status, lastId.get(), Limit.of(chunkLoop.batchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            Integer updated = transactionTemplate.execute(tx -> chunkUpdate.apply(ids));
+            progress.chunkDone(updated == null ? 0 : updated);
+            lastId.set(ids.get(ids.size() - 1));
+            return ids.size();
+        }).completed();
+    }
+
+    private static final class ExpiryProgress {
+
+        private final String job;
+        private final long startedAt = System.currentTimeMillis();
+        private int coupons;
+        private int chunks;
+        private long rows;
+
+        private ExpiryProgress(String job) {
+            this.job = job;
+        }
+
+        private void chunkDone(int updatedRows) {
+            chunks++;
+            rows += updatedRows;
+            log.debug("[{}] chunk={}, rows={}", job, chunks, rows);
+        }
+
+        private void couponDone() {
+            coupons++;
+        }
+
+        private void report() {
+            if (coupons == 0 && rows == 0) {
+                return;
+            }
+            log.info("[{}] coupons={}, chunks={}, rows={}, elapsed={}ms",
+                job, coupons, chunks, rows, System.currentTimeMillis() - startedAt);
+        }
     }
 }
@@ -0,0 +1,328 @@
+package com.sparta.tdd.domain.coupon.service;
+
+import com.sparta.tdd.domain.coupon.dto.UserCouponResponseDto;
+import com.sparta.tdd.domain.coupon.entity.Coupon;
+import com.sparta.tdd.domain.coupon.entity.UserCoupon;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.repository.CouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 선착순 쿠폰 발급 엔진
+ * <ol>
+ *     <li>입장 : 쿠폰별 메모리 재고(CouponStock)에서 원자적으로 한 장을 차감, 같은 사용자의 중복 요청은 여기서 거절</li>
+ *     <li>기록 : 입장한 요청만 큐에 쌓이고, 단일 writer 스레드가 쿠폰별로 묶어 한 트랜잭션에 기록</li>
+ *     <li>보정 : 묶음 기록이 실패하면 요청 단위 조건부 UPDATE(issued_count < quantity)로 한 건씩 재시도</li>
+ * </ol>
+ * 내 쿠폰함 조회 모델(p_user_coupon_view)도 같은 트랜잭션에서 함께 기록합니다<br>
+ * 메모리 재고는 인스턴스마다 따로 존재하므로 최종 판정은 항상 DB 의 조건부 UPDATE 와 (user_id, coupon_id) 유니크 제약입니다<br>
+ * 요청 스레드는 자신의 묶음이 커밋될 때까지 기다렸다가 응답합니다 (발급 성공 응답 = DB 기록 완료)<br>
+ * 기다림은 coupon.issue.timeout-ms 까지이며, 넘기면 응답만 실패하고 기록은 계속 진행될 수 있습니다<br>
+ * 메모리 재고는 최대 stock-maximum-size 종류까지, 쿠폰 만료 시각 또는 stock-idle-seconds 동안 요청이 없을 때까지만 보관합니다
+ */
+@Slf4j(topic = "CouponIssueEngine")
+@Component
+public class CouponIssueEngine {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final UserCouponViewRepository userCouponViewRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long timeoutMillis;
+
+    private final Cache<UUID, CouponStock> stocks;
+    // evict 횟수 - 적재 도중 evict 된 재고(변경 전 수량)를 다시 넣지 않기 위함
+    private final AtomicLong evictions = new AtomicLong();
+    private final BlockingQueue<IssueRequest> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    public CouponIssueEngine(
+        CouponRepository couponRepository,
+        UserCouponRepository userCouponRepository,
+        UserCouponViewRepository userCouponViewRepository,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${coupon.issue.batch-size:500}") int batchSize,
+        @Value("${coupon.issue.timeout-ms:5000}") long timeoutMillis,
+        @Value("${coupon.issue.stock-maximum-size:10000}") long stockMaximumSize,
+        @Value("${coupon.issue.stock-idle-seconds:600}") long stockIdleSeconds
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.userCouponViewRepository = userCouponViewRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.stocks = Caffeine.newBuilder()
+            .maximumSize(stockMaximumSize)
+            .expireAfter(untilExpiredOrIdle(TimeUnit.SECONDS.toMillis(stockIdleSeconds)))
+            .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform()
+            .name("coupon-issue-writer")
+            .daemon(true)
+            .start(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public UserCouponResponseDto issue(UUID couponId, Long userId) {
+        CouponStock stock = stockOf(couponId);
+
+        switch (stock.tryAcquire(userId)) {
+            case SOLD_OUT -> throw new BusinessException(ErrorCode.COUPON_ALL_SOLD_OUT);
+            case DUPLICATE -> throw new BusinessException(ErrorCode.USER_COUPON_ALREADY_ISSUED);
+            case ADMITTED -> {
+            }
+        }
+
+        IssueRequest request = new IssueRequest(couponId, userId, stock, new CompletableFuture<>());
+        queue.add(request);
+
+        try {
+            return request.result().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Coupon issue timed out (couponId={}, userId={}, queued={})", couponId, userId, queue.size());
+                throw new BusinessException(ErrorCode.COUPON_ISSUE_TIMEOUT);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 쿠폰 수량이 바뀌거나 삭제된 경우 메모리 재고를 버리고 다음 요청에서 DB 기준으로 다시 만듭니다
+     */
+    public void evict(UUID couponId) {
+        evictions.incrementAndGet();
+        stocks.invalidate(couponId);
+    }
+
+    /**
+     * 커밋 후에 evict 해 커밋 전 수량으로 다시 적재되는 것을 막습니다 (트랜잭션 밖이면 바로 evict)
+     */
+    public void evictAfterCommit(UUID couponId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(couponId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(couponId);
+            }
+        });
+    }
+
+    /**
+     * DB 조회는 캐시 락 밖에서 수행합니다<br>
+     * 처음 몰린 요청이 각자 읽더라도 먼저 넣은 재고 하나만 쓰이고, 읽는 도중 evict 가 있었다면 캐시에 넣지 않습니다
+     */
+    private CouponStock stockOf(UUID couponId) {
+        CouponStock cached = stocks.getIfPresent(couponId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictionsBefore = evictions.get();
+        CouponStock loaded = loadStock(couponId);
+        if (evictions.get() != evictionsBefore) {
+            return loaded;
+        }
+        CouponStock existing = stocks.asMap().putIfAbsent(couponId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private CouponStock loadStock(UUID couponId) {
+        Coupon coupon = couponRepository.findByIdAndDeletedAtIsNull(couponId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        return new CouponStock(
+            coupon.getQuantity() - coupon.getIssuedCount(),
+            userCouponRepository.findUserIdsByCouponId(couponId),
+            coupon.getExpiredAt()
+        );
+    }
+
+    // 요청이 있을 때마다 idle 만큼 연장하되 쿠폰 만료 시각은 넘기지 않음
+    private static Expiry<UUID, CouponStock> untilExpiredOrIdle(long idleMillis) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(UUID key, CouponStock stock, long currentTime) {
+                long untilExpired = Duration.between(LocalDateTime.now(), stock.expiredAt()).toMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(untilExpired, idleMillis)));
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID key, CouponStock stock, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, stock, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(UUID key, CouponStock stock, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, stock, currentTime);
+            }
+        };
+    }
+
+    private void writeLoop() {
+        List<IssueRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IssueRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 이전 묶음을 기록하는 동안 쌓인 요청을 한 번에 가져옴 (부하가 클수록 묶음이 커짐)
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Coupon issue writer failed: {}", e.getMessage(), e);
+                batch.forEach(request -> fail(request, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<IssueRequest> batch) {
+        Map<UUID, List<IssueRequest>> byCoupon = new LinkedHashMap<>();
+        batch.forEach(request -> byCoupon.computeIfAbsent(request.couponId(), id -> new ArrayList<>()).add(request));
+
+        byCoupon.forEach((couponId, requests) -> {
+            List<UserCoupon> userCoupons;
+            try {
+                userCoupons = transactionTemplate.execute(status -> writeBatch(couponId, requests));
+            } catch (RuntimeException e) {
+                log.warn("Batch coupon issue failed, retrying one by one (couponId={}, size={}): {}",
+                    couponId, requests.size(), e.getMessage());
+                requests.forEach(this::writeOne);
+                return;
+            }
+
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).result().complete(UserCouponResponseDto.from(userCoupons.get(i)));
+            }
+        });
+    }
+
+    private List<UserCoupon> writeBatch(UUID couponId, List<IssueRequest> requests) {
+        if (couponRepository.increaseIssuedCount(couponId, requests.size()) == 0) {
+            throw new BusinessException(ErrorCode.COUPON_ALL_SOLD_OUT);
+        }
+
+        Coupon coupon = couponRepository.getReferenceById(couponId);
+        List<UserCoupon> userCoupons = requests.stream()
+            .map(request -> UserCoupon.builder()
+                .user(userRepository.getReferenceById(request.userId()))
+                .coupon(coupon)
+                .build())
+            .toList();
+
+        userCouponRepository.saveAll(userCoupons);
+        userCouponRepository.flush();
+        userCouponViewRepository.saveAll(userCoupons.stream()
+            .map(userCoupon -> UserCouponView.of(userCoupon, userCoupon.getUser().getId(), coupon))
+            .toList());
+        couponRepository.softDeleteSoldOutCoupon(couponId, LocalDateTime.now());
+        return userCoupons;
+    }
+
+    private void writeOne(IssueRequest request) {
+        try {
+            UserCoupon userCoupon = transactionTemplate.execute(status -> {
+                if (couponRepository.increaseIssuedCount(request.couponId(), 1) == 0) {
+                    throw new BusinessException(ErrorCode.COUPON_ALL_SOLD_OUT);
+                }
+
+                Coupon coupon = couponRepository.getReferenceById(request.couponId());
+                UserCoupon saved = userCouponRepository.saveAndFlush(UserCoupon.builder()
+                    .user(userRepository.getReferenceById(request.userId()))
+                    .coupon(coupon)
+                    .build());
+                userCouponViewRepository.save(UserCouponView.of(saved, request.userId(), coupon));
+                couponRepository.softDeleteSoldOutCoupon(request.couponId(), LocalDateTime.now());
+                return saved;
+            });
+            request.result().complete(UserCouponResponseDto.from(userCoupon));
+        } catch (BusinessException e) {
+            // 다른 인스턴스가 먼저 소진시킨 경우
+            request.stock().exhaust(request.userId());
+            request.result().completeExceptionally(e);
+        } catch (DataIntegrityViolationException e) {
+            if (userCouponRepository.existsByUserIdAndCouponId(request.userId(), request.couponId())) {
+                request.stock().restoreStock();
+                request.result().completeExceptionally(new BusinessException(ErrorCode.USER_COUPON_ALREADY_ISSUED));
+            } else {
+                request.stock().release(request.userId());
+                request.result().completeExceptionally(new BusinessException(ErrorCode.USER_NOT_FOUND));
+            }
+        } catch (RuntimeException e) {
+            fail(request, e);
+        }
+    }
+
+    private void fail(IssueRequest request, RuntimeException e) {
+        request.stock().release(request.userId());
+        request.result().completeExceptionally(e);
+    }
+
+    private record IssueRequest(
+        UUID couponId,
+        Long userId,
+        CouponStock stock,
+        CompletableFuture<UserCouponResponseDto> result
+    ) {
+
+    }
+}
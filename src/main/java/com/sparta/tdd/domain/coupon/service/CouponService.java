@@ -24,6 +24,7 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final CouponIssueEngine couponIssueEngine;
 
     public List<CouponResponseDto> getStoreCoupons(UUID storeId) {
         List<Coupon> coupons = couponRepository.findAllByStoreIdAndDeletedAtIsNull(storeId);
@@ -80,6 +81,7 @@ public class CouponService {
         validateUserOnCoupon(user, store);
 
         coupon.update(dto);
+        couponIssueEngine.evictAfterCommit(couponId);
     }
 
     @Transactional
@@ -90,6 +92,7 @@ public class CouponService {
 
         Coupon coupon = findCoupon(couponId);
         coupon.delete(userId);
+        couponIssueEngine.evictAfterCommit(couponId);
     }
 
     private Coupon findCoupon(UUID couponId) {
@@ -0,0 +1,78 @@
+package com.sparta.tdd.domain.coupon.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 한 종류의 메모리 재고<br>
+ * 남은 수량 이상은 입장시키지 않고, 같은 사용자의 두 번째 요청도 DB 에 닿기 전에 걸러냅니다
+ */
+class CouponStock {
+
+    enum Admission {
+        ADMITTED, SOLD_OUT, DUPLICATE
+    }
+
+    private final AtomicInteger remaining;
+    private final Set<Long> issuedUserIds = ConcurrentHashMap.newKeySet();
+    private final LocalDateTime expiredAt;
+
+    CouponStock(int remaining, Collection<Long> issuedUserIds) {
+        this(remaining, issuedUserIds, LocalDateTime.MAX);
+    }
+
+    CouponStock(int remaining, Collection<Long> issuedUserIds, LocalDateTime expiredAt) {
+        this.remaining = new AtomicInteger(Math.max(0, remaining));
+        this.issuedUserIds.addAll(issuedUserIds);
+        this.expiredAt = expiredAt;
+    }
+
+    Admission tryAcquire(Long userId) {
+        if (remaining.get() <= 0) {
+            return Admission.SOLD_OUT;
+        }
+        if (!issuedUserIds.add(userId)) {
+            return Admission.DUPLICATE;
+        }
+
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                issuedUserIds.remove(userId);
+                return Admission.SOLD_OUT;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+
+        return Admission.ADMITTED;
+    }
+
+    // 영속화에 실패한 요청의 몫을 되돌림
+    void release(Long userId) {
+        issuedUserIds.remove(userId);
+        remaining.incrementAndGet();
+    }
+
+    // 이미 DB 에 발급 이력이 있는 사용자 -> 수량만 되돌리고 중복 방지는 유지
+    void restoreStock() {
+        remaining.incrementAndGet();
+    }
+
+    // DB 기준으로 이미 소진됨 (다른 인스턴스가 먼저 발급한 경우)
+    void exhaust(Long userId) {
+        issuedUserIds.remove(userId);
+        remaining.set(0);
+    }
+
+    int remaining() {
+        return remaining.get();
+    }
+
+    // 쿠폰 만료 시각 - 메모리 재고는 이 시각 이후 보관하지 않음
+    LocalDateTime expiredAt() {
+        return expiredAt;
+    }
+}
@@ -1,18 +1,23 @@
 package com.sparta.tdd.domain.coupon.service;
 
+import com.sparta.tdd.domain.coupon.dto.UserCouponCursor;
 import com.sparta.tdd.domain.coupon.dto.UserCouponResponseDto;
+import com.sparta.tdd.domain.coupon.dto.UserCouponWalletCursorResponseDto;
+import com.sparta.tdd.domain.coupon.dto.UserCouponWalletResponseDto;
 import com.sparta.tdd.domain.coupon.entity.Coupon;
 import com.sparta.tdd.domain.coupon.entity.UserCoupon;
-import com.sparta.tdd.domain.coupon.repository.CouponRepository;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
 import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
-import com.sparta.tdd.domain.user.entity.User;
-import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -21,36 +26,42 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserCouponService {
 
     private final UserCouponRepository userCouponRepository;
-    private final UserRepository userRepository;
-    private final CouponRepository couponRepository;
+    private final UserCouponViewRepository userCouponViewRepository;
+    private final CouponIssueEngine couponIssueEngine;
 
     public List<UserCouponResponseDto> getMyCoupons(Long userId) {
 
-        List<UserCoupon> coupons = userCouponRepository.findAllByUserId(userId);
+        List<UserCouponView> coupons = userCouponViewRepository
+            .findAllByUserIdOrderByStatusOrderAscIssuedAtDescIdDesc(userId);
 
         return coupons.stream()
             .map(UserCouponResponseDto::from)
             .toList();
     }
 
-    @Transactional
-    public UserCouponResponseDto createUserCoupon(UUID couponId, Long userId) {
-        User user = findUser(userId);
-        Coupon coupon = findCoupon(couponId);
+    public UserCouponWalletCursorResponseDto getMyCoupons(Long userId, String cursor, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<UserCouponView> coupons = userCouponViewRepository.findWalletPage(
+            userId,
+            UserCouponCursor.decodeOrNull(cursor),
+            size
+        );
 
-        UserCoupon userCoupon = UserCoupon.builder()
-            .user(user)
-            .coupon(coupon)
-            .build();
+        boolean hasNext = coupons.size() > size;
+        List<UserCouponView> page = hasNext ? coupons.subList(0, size) : coupons;
 
-        if (coupon.checkIssuedCount()) {
-            throw new BusinessException(ErrorCode.COUPON_ALL_SOLD_OUT);
-        }
+        List<UserCouponWalletResponseDto> content = page.stream()
+            .map(UserCouponWalletResponseDto::from)
+            .toList();
+        String nextCursor = hasNext ? toCursor(page.get(page.size() - 1)).encode() : null;
 
-        userCouponRepository.save(userCoupon);
-        coupon.issuedCount();
+        return new UserCouponWalletCursorResponseDto(content, content.size(), hasNext, nextCursor);
+    }
 
-        return UserCouponResponseDto.from(userCoupon);
+    // 발급 엔진이 자체 트랜잭션으로 기록하므로, 대기하는 동안 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserCouponResponseDto createUserCoupon(UUID couponId, Long userId) {
+        return couponIssueEngine.issue(couponId, userId);
     }
 
     @Transactional
@@ -63,6 +74,8 @@ public class UserCouponService {
         }
 
         userCoupon.updateStatusUsed();
+        userCouponViewRepository.updateStatusByIds(List.of(userCouponId), CouponStatus.USED,
+            UserCouponView.statusOrder(CouponStatus.USED), userCoupon.getUsedAt());
         return coupon.getDiscountValue();
     }
 
@@ -71,13 +84,7 @@ public class UserCouponService {
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_COUPON_NOT_FOUND));
     }
 
-    private Coupon findCoupon(UUID couponId) {
-        return couponRepository.findByIdAndDeletedAtIsNull(couponId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
-    }
-
-    private User findUser(Long userId) {
-        return userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    private UserCouponCursor toCursor(UserCouponView view) {
+        return new UserCouponCursor(view.getStatusOrder(), view.getIssuedAt(), view.getId());
     }
 }
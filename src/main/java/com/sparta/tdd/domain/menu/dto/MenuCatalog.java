@@ -0,0 +1,82 @@
+package com.sparta.tdd.domain.menu.dto;
+
+import com.sparta.tdd.domain.menu.entity.Menu;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가게 하나의 메뉴 스냅샷 (불변)<br>
+ * 메뉴가 바뀔 때마다 올라가는 version 과 함께 캐시되며, 메뉴 조회와 장바구니 검증이 같은 스냅샷을 봅니다<br>
+ * 다른 인스턴스의 변경은 TTL 동안 늦게 보이므로 주문 시점의 가격/주문 가능 여부는 DB 에서 다시 확인합니다<br>
+ * 삭제된 가게의 스냅샷은 비어 있습니다
+ *
+ * @param storeName 주문 응답용 가게 이름 (메뉴가 없으면 null)
+ * @param items     메뉴 id -> 메뉴, 등록 순
+ */
+public record MenuCatalog(
+    UUID storeId,
+    String storeName,
+    long version,
+    Map<UUID, Item> items
+) {
+
+    public record Item(
+        UUID menuId,
+        String name,
+        String description,
+        Integer price,
+        String imageUrl,
+        boolean hidden,
+        boolean deleted
+    ) {
+
+        public static Item from(Menu menu) {
+            return new Item(
+                menu.getId(),
+                menu.getName(),
+                menu.getDescription(),
+                menu.getPrice(),
+                menu.getImageUrl(),
+                menu.isHidden(),
+                // 회원 탈퇴 bulk 삭제는 deletedAt 만 채움
+                Boolean.TRUE.equals(menu.getIsDeleted()) || menu.isDeleted()
+            );
+        }
+
+        public boolean isOrderable() {
+            return !hidden && !deleted;
+        }
+    }
+
+    public static MenuCatalog of(UUID storeId, long version, List<Menu> menus) {
+        Map<UUID, Item> items = new LinkedHashMap<>();
+        menus.forEach(menu -> items.put(menu.getId(), Item.from(menu)));
+
+        String storeName = menus.isEmpty() ? null : menus.get(0).getStore().getName();
+        return new MenuCatalog(storeId, storeName, version, Collections.unmodifiableMap(items));
+    }
+
+    public Optional<Item> find(UUID menuId) {
+        return Optional.ofNullable(items.get(menuId));
+    }
+
+    /**
+     * 점주/관리자 화면용 - 숨김/삭제 메뉴 포함
+     */
+    public List<Item> allItems() {
+        return List.copyOf(items.values());
+    }
+
+    /**
+     * 고객 화면용 - 주문 가능한 메뉴만
+     */
+    public List<Item> orderableItems() {
+        return items.values().stream()
+            .filter(Item::isOrderable)
+            .toList();
+    }
+}
@@ -31,4 +31,14 @@ public record MenuResponseDto(
             .imageUrl(menu.getImageUrl())
             .isHidden(menu.getIsHidden()).build();
     }
+
+    public static MenuResponseDto from(MenuCatalog.Item item) {
+        return MenuResponseDto.builder()
+            .menuId(item.menuId())
+            .name(item.name())
+            .description(item.description())
+            .price(item.price())
+            .imageUrl(item.imageUrl())
+            .isHidden(item.hidden()).build();
+    }
 }
@@ -28,18 +28,41 @@ public interface MenuRepository extends JpaRepository<Menu, UUID>, MenuRepositor
     );
 
     /**
-     * DTO로부터 전달받은 메뉴 ID들중 해당 가게에 존재하고, 숨김처리 되지않은 Menu 엔티티들을 조회
+     * 메뉴 스냅샷(MenuCatalog) 적재용 - 가게의 모든 메뉴를 가게와 함께 등록 순으로 조회 (join fetch)<br>
+     * 숨김/삭제 여부는 스냅샷에서 거르며, 삭제된 가게는 빈 목록을 반환합니다
      *
-     * @param storeId        가게 ID
-     * @param menuIdsFromDto DTO로부터 전달받은 메뉴 ID들
-     * @return List<Menu> Entity List
+     * @param storeId 가게 ID
+     * @return List<Menu> 가게가 함께 로딩된 Menu 엔티티 목록
      */
     @Query("""
         SELECT m
         FROM Menu m
-        WHERE m.id IN :menuIdsFromDto
-            AND m.store.id = :storeId
+        JOIN FETCH m.store s
+        WHERE s.id = :storeId
+            AND s.deletedAt IS NULL
+        ORDER BY m.createdAt
+        """)
+    List<Menu> findCatalogMenusByStoreId(@Param("storeId") UUID storeId);
+
+    /**
+     * 주문할 메뉴와 가게를 한 번에 조회 (join fetch)<br>
+     * 해당 가게에 존재하고 숨김/삭제되지 않은 메뉴만 반환하며, 주문 금액은 여기서 읽은 메뉴 가격을 기준으로 합니다<br>
+     * 메뉴 스냅샷은 다른 인스턴스의 변경이 TTL 동안 늦게 보이므로 주문 시점의 가격/노출 여부는 여기서 확인합니다
+     *
+     * @param menuIds 주문 요청의 메뉴 ID들
+     * @param storeId 가게 ID
+     * @return List<Menu> 가게가 함께 로딩된 Menu 엔티티 목록
+     */
+    @Query("""
+        SELECT m
+        FROM Menu m
+        JOIN FETCH m.store s
+        WHERE m.id IN :menuIds
+            AND s.id = :storeId
+            AND s.deletedAt IS NULL
             AND m.isHidden = false
+            AND m.isDeleted = false
+            AND m.deletedAt IS NULL
         """)
-    List<Menu> findAllVaildMenuIds(Set<UUID> menuIdsFromDto, UUID storeId);
+    List<Menu> findOrderableMenusWithStore(@Param("menuIds") Set<UUID> menuIds, @Param("storeId") UUID storeId);
 }
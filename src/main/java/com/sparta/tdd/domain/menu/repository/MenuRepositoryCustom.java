@@ -7,5 +7,8 @@ import java.util.UUID;
 
 public interface MenuRepositoryCustom {
 
-    Map<UUID, List<MenuWithStoreResponseDto>> findByStoreIds(List<UUID> storeIds);
+    /**
+     * 가게별 노출 메뉴 (숨김/삭제 제외) 를 등록 순으로 묶어 반환합니다 - 메뉴가 없는 가게는 key 가 없음
+     */
+    Map<UUID, List<MenuWithStoreResponseDto>> findVisibleByStoreIds(List<UUID> storeIds);
 }
@@ -15,13 +15,18 @@ public class MenuRepositoryImpl implements MenuRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Map<UUID, List<MenuWithStoreResponseDto>> findByStoreIds(List<UUID> storeIds) {
+    public Map<UUID, List<MenuWithStoreResponseDto>> findVisibleByStoreIds(List<UUID> storeIds) {
         QMenu menu = QMenu.menu;
 
         List<MenuWithStoreResponseDto> menus = queryFactory
             .select(MenuWithStoreResponseDto.qConstructor(menu))
             .from(menu)
-            .where(menu.store.id.in(storeIds))
+            .where(
+                menu.store.id.in(storeIds),
+                menu.isHidden.isFalse(),
+                menu.deletedAt.isNull()
+            )
+            .orderBy(menu.createdAt.asc())
             .fetch();
 
         return menus.stream()
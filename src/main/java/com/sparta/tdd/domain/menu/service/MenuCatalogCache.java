@@ -0,0 +1,109 @@
+package com.sparta.tdd.domain.menu.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게별 메뉴 스냅샷 캐시 (키 : 가게 id)<br>
+ * 메뉴/가게가 바뀌면 커밋 후 가게의 version 을 올리고, version 이 다른 스냅샷은 쓰지 않고 다시 읽습니다<br>
+ * 읽는 도중 version 이 올라간 스냅샷은 캐시하지 않으므로 변경 전 데이터가 다시 채워지지 않습니다<br>
+ * version 은 인스턴스 내에만 있으므로 다른 인스턴스의 변경은 TTL(menu.catalog-cache.ttl-seconds) 안에 반영됩니다<br>
+ * version 은 인스턴스 전체에서 증가하는 값이고, 마지막으로 올린 지 TTL 이 지나면 지웁니다 (삭제된 가게 포함)<br>
+ * 지워진 가게는 version 0 으로 보므로 그 전 version 의 스냅샷과 겹치지 않습니다
+ */
+@Component
+public class MenuCatalogCache {
+
+    public static final String CACHE_NAME = "menuCatalog";
+
+    private final MenuRepository menuRepository;
+    private final CacheManager cacheManager;
+    private final AtomicLong sequence = new AtomicLong();
+    private final com.github.benmanes.caffeine.cache.Cache<UUID, Long> versions;
+
+    public MenuCatalogCache(
+        MenuRepository menuRepository,
+        CacheManager cacheManager,
+        @Value("${menu.catalog-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(menuRepository, cacheManager, ttlSeconds, Ticker.systemTicker());
+    }
+
+    MenuCatalogCache(MenuRepository menuRepository, CacheManager cacheManager, long ttlSeconds, Ticker ticker) {
+        this.menuRepository = menuRepository;
+        this.cacheManager = cacheManager;
+        // 스냅샷은 쓰고 나서 TTL 이 지나면 만료되므로, 그보다 오래된 version 은 비교할 스냅샷이 없음
+        this.versions = Caffeine.newBuilder()
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .ticker(ticker)
+            .build();
+    }
+
+    public MenuCatalog get(UUID storeId) {
+        long version = currentVersion(storeId);
+
+        Cache.ValueWrapper cached = cache().get(storeId);
+        if (cached != null && cached.get() instanceof MenuCatalog catalog && catalog.version() == version) {
+            return catalog;
+        }
+
+        MenuCatalog loaded = MenuCatalog.of(storeId, version, menuRepository.findCatalogMenusByStoreId(storeId));
+        if (currentVersion(storeId) == version) {
+            cache().put(storeId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 후 version 을 올립니다 (트랜잭션 밖이면 바로 올림)
+     */
+    public void bumpAfterCommit(UUID storeId) {
+        bumpAfterCommit(List.of(storeId));
+    }
+
+    public void bumpAfterCommit(Collection<UUID> storeIds) {
+        List<UUID> targets = List.copyOf(storeIds);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            targets.forEach(this::bump);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                targets.forEach(MenuCatalogCache.this::bump);
+            }
+        });
+    }
+
+    long currentVersion(UUID storeId) {
+        Long version = versions.getIfPresent(storeId);
+        return version == null ? 0L : version;
+    }
+
+    long trackedStoreCount() {
+        versions.cleanUp();
+        return versions.estimatedSize();
+    }
+
+    private void bump(UUID storeId) {
+        versions.put(storeId, sequence.incrementAndGet());
+        cache().evict(storeId);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
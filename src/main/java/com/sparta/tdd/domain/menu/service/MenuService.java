@@ -1,12 +1,14 @@
 package com.sparta.tdd.domain.menu.service;
 
 import com.sparta.tdd.domain.ai.service.AiService;
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
 import com.sparta.tdd.domain.menu.dto.MenuRequestDto;
 import com.sparta.tdd.domain.menu.dto.MenuResponseDto;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.store.service.StoreSearchCache;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.domain.user.repository.UserRepository;
@@ -27,26 +29,28 @@ public class MenuService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final AiService aiService;
+    private final StoreSearchCache storeSearchCache;
+    private final MenuCatalogCache menuCatalogCache;
 
     public List<MenuResponseDto> getMenus(UUID storeId, UserAuthority authority) {
-        List<Menu> menus;
-        if (authority.isCustomerOrManager()) {
-            menus = menuRepository.findAllByStoreIdAndIsHiddenFalseAndIsDeletedFalse(
-                storeId);
-        } else {
-            menus = menuRepository.findAllByStoreId(storeId);
-        }
-        return menus.stream()
+        MenuCatalog catalog = menuCatalogCache.get(storeId);
+        List<MenuCatalog.Item> items = authority.isCustomerOrManager()
+            ? catalog.orderableItems()
+            : catalog.allItems();
+
+        return items.stream()
             .map(MenuResponseDto::from)
             .toList();
     }
 
     public MenuResponseDto getMenu(UUID storeId, UUID menuId, UserAuthority authority) {
-        Menu menu = findMenu(storeId, menuId);
-        if (authority.isCustomerOrManager() && menu.isHidden()) {
+        MenuCatalog.Item item = menuCatalogCache.get(storeId).find(menuId)
+            .filter(found -> !found.deleted())
+            .orElseThrow(() -> new BusinessException(ErrorCode.MENU_NOT_FOUND));
+        if (authority.isCustomerOrManager() && item.hidden()) {
             throw new BusinessException(ErrorCode.IS_HIDDEN_MENU);
         }
-        return MenuResponseDto.from(menu);
+        return MenuResponseDto.from(item);
     }
 
     @Transactional
@@ -64,6 +68,8 @@ public class MenuService {
         }
 
         menuRepository.save(menu);
+        storeSearchCache.evictAfterCommit(store.getCategory());
+        menuCatalogCache.bumpAfterCommit(storeId);
 
         return MenuResponseDto.from(menu);
     }
@@ -76,6 +82,8 @@ public class MenuService {
 
         Menu menu = findMenu(storeId, menuId);
         menu.update(menuRequestDto);
+        storeSearchCache.evictAfterCommit(store.getCategory());
+        menuCatalogCache.bumpAfterCommit(storeId);
     }
 
     @Transactional
@@ -86,6 +94,8 @@ public class MenuService {
 
         Menu menu = findMenu(storeId, menuId);
         menu.updateStatus(status);
+        storeSearchCache.evictAfterCommit(store.getCategory());
+        menuCatalogCache.bumpAfterCommit(storeId);
     }
 
     @Transactional
@@ -96,6 +106,8 @@ public class MenuService {
 
         Menu menu = findMenu(storeId, menuId);
         menu.delete(userId);
+        storeSearchCache.evictAfterCommit(store.getCategory());
+        menuCatalogCache.bumpAfterCommit(storeId);
     }
 
     private Menu findMenu(UUID storeId, UUID menuId) {
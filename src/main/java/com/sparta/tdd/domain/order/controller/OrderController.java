@@ -1,12 +1,15 @@
 package com.sparta.tdd.domain.order.controller;
 
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
+import com.sparta.tdd.domain.order.dto.OrderCursorResponseDto;
 import com.sparta.tdd.domain.order.dto.OrderRequestDto;
 import com.sparta.tdd.domain.order.dto.OrderResponseDto;
 import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
 import com.sparta.tdd.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.order.service.OrderService;
+import com.sparta.tdd.domain.order.service.OrderStreamService;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,6 +34,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @RestController
@@ -38,13 +43,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class OrderController {
     private final OrderService orderService;
+    private final OrderStreamService orderStreamService;
 
     @GetMapping
-    public ResponseEntity<Page<OrderResponseDto>> getOrders(
+    public ResponseEntity<Page<OrderSummaryResponseDto>> getOrders(
         @ModelAttribute @Valid OrderSearchOptionDto searchOption,
         @AuthenticationPrincipal UserDetailsImpl userDetails,
         Pageable pageable) {
-        Page<OrderResponseDto> responseDtos = orderService.getOrders(
+        Page<OrderSummaryResponseDto> responseDtos = orderService.getOrders(
             userDetails,
             pageable,
             searchOption
@@ -53,6 +59,34 @@ public class OrderController {
         return ResponseEntity.ok(responseDtos);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<OrderCursorResponseDto> getOrdersByCursor(
+        @ModelAttribute @Valid OrderSearchOptionDto searchOption,
+        @RequestParam(required = false) String cursor,
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        Pageable pageable) {
+        OrderCursorResponseDto responseDto = orderService.getOrders(
+            userDetails,
+            cursor,
+            pageable,
+            searchOption
+        );
+
+        return ResponseEntity.ok(responseDto);
+    }
+
+    /**
+     * 가게 주문 이벤트 스트림 (주문 생성 / 상태 변경 / 취소)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER', 'MASTER', 'OWNER')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @RequestParam UUID storeId) {
+
+        return orderStreamService.subscribe(userDetails, storeId);
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponseDto> getOrder(
         @AuthenticationPrincipal UserDetailsImpl userDetails,
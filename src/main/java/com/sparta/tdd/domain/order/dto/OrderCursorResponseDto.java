@@ -0,0 +1,15 @@
+package com.sparta.tdd.domain.order.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 주문 목록 응답<br>
+ * 전체 개수(count 쿼리) 대신 다음 페이지 존재 여부와 다음 커서를 내려줍니다
+ */
+public record OrderCursorResponseDto(
+    List<OrderResponseDto> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+}
@@ -0,0 +1,45 @@
+package com.sparta.tdd.domain.order.dto;
+
+import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가게 주문 스트림으로 내보내는 주문 이벤트<br>
+ * 트랜잭션 커밋 후에만 전달되며, 상세 내용은 클라이언트가 주문 단건 조회로 가져갑니다
+ */
+public record OrderEvent(
+    OrderEventType type,
+    UUID orderId,
+    UUID storeId,
+    OrderStatus orderStatus,
+    LocalDateTime occurredAt
+) {
+
+    public static OrderEvent of(OrderEventType type, Order order) {
+        return new OrderEvent(
+            type,
+            order.getId(),
+            order.getStore().getId(),
+            order.getOrderStatus(),
+            LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 조건부 UPDATE 로 전이해 로딩한 주문 엔티티의 상태가 이전 값일 때 사용합니다
+     *
+     * @param orderStatus 전이된 상태
+     */
+    public static OrderEvent statusChanged(Order order, OrderStatus orderStatus) {
+        return new OrderEvent(
+            OrderEventType.STATUS_CHANGED,
+            order.getId(),
+            order.getStore().getId(),
+            orderStatus,
+            LocalDateTime.now()
+        );
+    }
+}
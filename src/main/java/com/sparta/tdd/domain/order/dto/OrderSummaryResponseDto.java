@@ -0,0 +1,20 @@
+package com.sparta.tdd.domain.order.dto;
+
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 목록 응답 (주문 메뉴 제외)<br>
+ * 저장된 총액과 주문자/가게 이름만 담아, 목록 조회가 p_order_menu 를 읽지 않도록 합니다
+ */
+public record OrderSummaryResponseDto(
+    UUID id,
+    String customerName,
+    String storeName,
+    Integer price,
+    String address,
+    LocalDateTime createdAt,
+    OrderStatus orderStatus
+) {
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,7 +33,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor
 @Getter
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+    @Index(name = "idx_order_store_created_at_id", columnList = "store_id, created_at, id"),
+    @Index(name = "idx_order_user_created_at_id", columnList = "user_id, created_at, id")
+})
 public class Order extends BaseEntity {
 
     @Id
@@ -45,6 +49,10 @@ public class Order extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
 
+    // 주문 시점 메뉴 가격 기준 총액, 목록 조회가 p_order_menu 를 읽지 않도록 저장
+    @Column(name = "total_price", nullable = false)
+    private Integer totalPrice = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -66,6 +74,9 @@ public class Order extends BaseEntity {
         this.address = address;
         this.orderStatus = (orderStatus != null) ? orderStatus : OrderStatus.PENDING;
         this.orderMenuList = orderMenuList != null ? orderMenuList : new ArrayList<>();
+        this.totalPrice = this.orderMenuList.stream()
+            .mapToInt(Order::linePrice)
+            .sum();
         this.store = store;
         this.user = user;
     }
@@ -80,11 +91,15 @@ public class Order extends BaseEntity {
 
     public void addOrderMenu(OrderMenu orderMenu) {
         this.orderMenuList.add(orderMenu);
+        this.totalPrice += linePrice(orderMenu);
         orderMenu.assignOrder(this);
     }
 
-    public void nextStatus() {
-        this.orderStatus = this.orderStatus.next();
+    private static int linePrice(OrderMenu orderMenu) {
+        if (orderMenu.getPrice() == null || orderMenu.getQuantity() == null) {
+            return 0;
+        }
+        return orderMenu.getPrice() * orderMenu.getQuantity();
     }
 
     public void changeOrderStatus(OrderStatus orderStatus) {
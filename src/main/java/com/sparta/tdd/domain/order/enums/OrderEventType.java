@@ -0,0 +1,14 @@
+package com.sparta.tdd.domain.order.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderEventType {
+    CREATED("주문 생성"),
+    STATUS_CHANGED("주문 상태 변경"),
+    CANCELLED("주문 취소");
+
+    private final String description;
+}
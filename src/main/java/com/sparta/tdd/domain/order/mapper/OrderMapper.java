@@ -3,15 +3,16 @@ package com.sparta.tdd.domain.order.mapper;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.order.dto.OrderRequestDto;
 import com.sparta.tdd.domain.order.dto.OrderResponseDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.orderMenu.dto.OrderMenuRequestDto;
+import com.sparta.tdd.domain.orderMenu.dto.OrderMenuResponseDto;
 import com.sparta.tdd.domain.orderMenu.entity.OrderMenu;
 import com.sparta.tdd.domain.orderMenu.mapper.OrderMenuMapper;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.user.entity.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Map;
@@ -28,17 +29,24 @@ public interface OrderMapper {
     @Mapping(target = "orderStatus", ignore = true)
     Order toOrder(OrderRequestDto orderRequestDto);
 
-    /*
-    expression 관련해서 컴파일단계에서 파악 되지않음
-     */
     @Mapping(target = "customerName", source = "user.username")
     @Mapping(target = "storeName", source = "store.name")
-    @Mapping(target = "price",
-        expression = "java(order.getOrderMenuList().stream()"
-            + ".mapToInt(om -> om.getPrice() * om.getQuantity()).sum())")
+    @Mapping(target = "price", source = "totalPrice")
     OrderResponseDto toResponse(Order order);
 
+    /**
+     * 주문 생성 응답용 - 주문자 이름은 인증 정보에서 받아 User 프록시를 초기화하지 않습니다<br>
+     * 가게/메뉴는 주문 시 함께 조회한 엔티티이므로 추가 조회가 없습니다
+     */
+    @Mapping(target = "customerName", source = "customerName")
+    @Mapping(target = "storeName", source = "order.store.name")
+    @Mapping(target = "price", source = "order.totalPrice")
+    OrderResponseDto toResponse(Order order, String customerName);
 
+    /**
+     * 주문 시점에 DB 에서 검증한 메뉴로 요청을 주문으로 변환합니다<br>
+     * 가격은 클라이언트 값이나 메뉴 스냅샷이 아닌 조회한 메뉴 가격으로 고정합니다
+     */
     default Order toOrder(
             OrderRequestDto reqDto,
             List<Menu> menus,
@@ -53,10 +61,11 @@ public interface OrderMapper {
                 .collect(Collectors.toMap(Menu::getId, Function.identity()));
 
         for (OrderMenuRequestDto om : reqDto.menu()) {
+            Menu menu = menuMap.get(om.menuId());
             OrderMenu orderMenu = OrderMenu.builder()
                     .quantity(om.quantity())
-                    .price(om.price())
-                    .menu(menuMap.get(om.menuId()))
+                    .price(menu.getPrice())
+                    .menu(menu)
                     .build();
 
             order.addOrderMenu(orderMenu);
@@ -65,19 +74,28 @@ public interface OrderMapper {
         return order;
     }
 
+    /**
+     * projection 으로 읽은 주문/주문 메뉴를 id 목록의 순서대로 합쳐 응답으로 변환합니다
+     */
     default List<OrderResponseDto> toResponseList(
-            List<Order> loaded,
-            Page<UUID> idPage
+            List<OrderSummaryResponseDto> summaries,
+            Map<UUID, List<OrderMenuResponseDto>> orderMenus,
+            List<UUID> orderedIds
     ) {
-        Map<UUID, Order> byId = loaded.stream()
-                .collect(Collectors.toMap(Order::getId, o -> o));
+        Map<UUID, OrderSummaryResponseDto> byId = summaries.stream()
+                .collect(Collectors.toMap(OrderSummaryResponseDto::id, Function.identity()));
 
-        List<Order> ordered = idPage.getContent().stream()
+        return orderedIds.stream()
                 .map(byId::get)
-                .toList();
-
-        return ordered.stream()
-                .map(this::toResponse)
+                .map(summary -> new OrderResponseDto(
+                        summary.id(),
+                        summary.customerName(),
+                        summary.storeName(),
+                        summary.price(),
+                        summary.address(),
+                        orderMenus.getOrDefault(summary.id(), List.of()),
+                        summary.createdAt(),
+                        summary.orderStatus()))
                 .toList();
     }
 }
@@ -0,0 +1,119 @@
+package com.sparta.tdd.domain.order.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 cold 저장소 (p_order_archive, p_order_menu_archive, p_payment_archive)<br>
+ * archive 테이블은 created_at 기준 월 단위 range partition 이며, 복사할 컬럼은 아래 목록에 이름으로 나열합니다<br>
+ * hot 테이블에 컬럼을 추가할 때는 archive 테이블과 이 목록에도 함께 추가해야 합니다 (빠진 컬럼은 옮겨지지 않습니다)<br>
+ * 월 partition 은 옮길 행이 있는 달에 대해서만 필요할 때 만듭니다
+ */
+@Repository
+public class OrderArchiveRepository {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final List<String> ARCHIVE_SOURCES = List.of("p_order", "p_order_menu", "p_payment");
+
+    private static final String AUDIT_COLUMNS =
+        "created_at, created_by, updated_at, updated_by, deleted_at, deleted_by";
+    private static final String ORDER_COLUMNS =
+        "id, address, order_status, total_price, user_id, store_id, " + AUDIT_COLUMNS;
+    private static final String ORDER_MENU_COLUMNS =
+        "id, quantity, price, order_id, menu_id, " + AUDIT_COLUMNS;
+    private static final String PAYMENT_COLUMNS =
+        "payment_id, number, amount, card_company, card_number, status, processed_at, user_id, order_id, "
+            + AUDIT_COLUMNS;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 옮길 주문 id 를 created_at 순으로 잠그고 반환합니다 (다른 노드와 같은 행을 잡지 않도록 SKIP LOCKED)<br>
+     * <ul>
+     *     <li>soft delete 된 지 deletedBefore 가 지난 주문</li>
+     *     <li>createdBefore 이전에 생성되어 배달완료/취소로 끝난 주문</li>
+     * </ul>
+     * 리뷰가 달린 주문은 p_review 가 참조하므로 hot 에 남깁니다
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> lockArchivableIds(LocalDateTime deletedBefore, LocalDateTime createdBefore, int limit) {
+        return entityManager.createNativeQuery("""
+                SELECT o.id FROM p_order o
+                WHERE (o.deleted_at < :deletedBefore
+                       OR (o.created_at < :createdBefore AND o.order_status IN ('DELIVERED', 'CANCELLED')))
+                  AND NOT EXISTS (SELECT 1 FROM p_review r WHERE r.order_id = o.id)
+                ORDER BY o.created_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """, UUID.class)
+            .setParameter("deletedBefore", deletedBefore)
+            .setParameter("createdBefore", createdBefore)
+            .setParameter("limit", limit)
+            .getResultList();
+    }
+
+    /**
+     * 주문과 주문 메뉴, 결제를 archive 로 복사한 뒤 hot 테이블에서 지웁니다 (호출한 트랜잭션 안에서 실행)
+     *
+     * @return 옮긴 주문 수
+     */
+    public int moveToArchive(List<UUID> orderIds) {
+        ensureMonthlyPartitions(orderIds);
+
+        copyToArchive("p_order_menu", ORDER_MENU_COLUMNS, "order_id", orderIds);
+        copyToArchive("p_payment", PAYMENT_COLUMNS, "order_id", orderIds);
+        copyToArchive("p_order", ORDER_COLUMNS, "id", orderIds);
+
+        execute("DELETE FROM p_order_menu WHERE order_id IN (:ids)", orderIds);
+        execute("DELETE FROM p_payment WHERE order_id IN (:ids)", orderIds);
+        return execute("DELETE FROM p_order WHERE id IN (:ids)", orderIds);
+    }
+
+    /**
+     * 옮길 행들이 걸친 달의 partition 을 세 archive 테이블에 모두 만들어 둡니다<br>
+     * 결제는 주문과 다른 달에 생성될 수 있으므로 테이블마다 따로 확인합니다
+     */
+    @SuppressWarnings("unchecked")
+    private void ensureMonthlyPartitions(List<UUID> orderIds) {
+        for (String source : ARCHIVE_SOURCES) {
+            String key = source.equals("p_order") ? "id" : "order_id";
+            List<LocalDate> months = entityManager.createNativeQuery(
+                    "SELECT DISTINCT CAST(date_trunc('month', created_at) AS date) FROM " + source
+                        + " WHERE " + key + " IN (:ids)", LocalDate.class)
+                .setParameter("ids", orderIds)
+                .getResultList();
+
+            months.stream()
+                .map(YearMonth::from)
+                .forEach(month -> createPartitionIfAbsent(source + "_archive", month));
+        }
+    }
+
+    // DDL 은 bind parameter 를 받을 수 없어 포맷된 날짜 상수로만 구성
+    private void createPartitionIfAbsent(String archiveTable, YearMonth month) {
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS " + archiveTable + "_"
+                + month.format(PARTITION_SUFFIX) + " PARTITION OF " + archiveTable
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')")
+            .executeUpdate();
+    }
+
+    // 테이블/컬럼 이름은 상수로만 구성
+    private void copyToArchive(String source, String columns, String key, List<UUID> orderIds) {
+        execute("INSERT INTO " + source + "_archive (" + columns + ") SELECT " + columns
+            + " FROM " + source + " WHERE " + key + " IN (:ids)", orderIds);
+    }
+
+    private int execute(String sql, List<UUID> orderIds) {
+        return entityManager.createNativeQuery(sql)
+            .setParameter("ids", orderIds)
+            .executeUpdate();
+    }
+}
@@ -1,7 +1,8 @@
 package com.sparta.tdd.domain.order.repository;
 
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
-import java.util.Collection;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
 import java.util.List;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -29,18 +30,6 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, OrderReposi
     @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId AND o.deletedAt IS NULL")
     List<UUID> findOrderIdsByUserIdAndDeletedAtIsNull(Long userId);
 
-    @Query("""
-          select distinct o
-          from Order o
-          left join fetch o.user
-          left join fetch o.store
-          left join fetch o.payment
-          left join fetch o.orderMenuList om
-          left join fetch om.menu m
-          where o.id in :ids
-        """)
-    List<Order> findDetailsByIdIn(Collection<UUID> ids);
-
     @Query("""
         select o
         from Order o
@@ -49,8 +38,43 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, OrderReposi
         and s.user.id = :userId
         """)
     Optional<Order> findOrderByIdAndStoreUserId(UUID orderId, Long userId);
-    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.deletedAt IS NULL")
-    Page<Order> findOrdersByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT o.orderStatus FROM Order o WHERE o.id = :orderId AND o.deletedAt IS NULL")
+    Optional<OrderStatus> findStatusByIdAndDeletedAtIsNull(UUID orderId);
+
+    @Query("""
+        SELECT o.orderStatus FROM Order o
+        WHERE o.id = :orderId AND o.store.user.id = :userId AND o.deletedAt IS NULL
+        """)
+    Optional<OrderStatus> findStatusByIdAndStoreUserIdAndDeletedAtIsNull(UUID orderId, Long userId);
+
+    /**
+     * 현재 상태가 from 인 경우에만 to 로 바꿉니다 (동시에 다른 전이가 먼저 반영됐다면 0 반환)<br>
+     * 영속성 컨텍스트는 비우지 않으므로, 이미 로딩한 Order 가 있다면 호출한 쪽에서 상태를 맞춰야 합니다
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Order o SET o.orderStatus = :to
+        WHERE o.id = :orderId AND o.orderStatus = :from AND o.deletedAt IS NULL
+        """)
+    int updateStatusIfCurrent(
+        @Param("orderId") UUID orderId,
+        @Param("from") OrderStatus from,
+        @Param("to") OrderStatus to
+    );
+    /**
+     * 내 주문 목록 projection (주문 메뉴/결제는 읽지 않음)
+     */
+    @Query(value = """
+        SELECT new com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto(
+            o.id, u.username, s.name, o.totalPrice, o.address, o.createdAt, o.orderStatus)
+        FROM Order o
+        JOIN o.user u
+        JOIN o.store s
+        WHERE u.id = :userId AND o.deletedAt IS NULL
+        """,
+        countQuery = "SELECT count(o) FROM Order o WHERE o.user.id = :userId AND o.deletedAt IS NULL")
+    Page<OrderSummaryResponseDto> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
 }
 
 
@@ -1,8 +1,14 @@
 package com.sparta.tdd.domain.order.repository;
 
+import com.sparta.tdd.domain.order.dto.OrderCursor;
 import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.orderMenu.dto.OrderMenuResponseDto;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -14,15 +20,35 @@ public interface OrderRepositoryCustom {
     Optional<Order> findDetailById(UUID id);
 
     /**
-     * 검색, 정렬과 페이징 조건에 맞는 orderId 를 반환합니다
-     * @param pageable
-     * @param targetUserId
-     * @param start
-     * @param end
-     * @param targetStoreId
-     * @return return new PageImpl<>(ids, pageable, total);
+     * 검색, 정렬과 페이징 조건에 맞는 주문 목록을 projection 으로 반환합니다<br>
+     * 주문 메뉴/결제는 읽지 않고 p_order 와 주문자, 가게 이름만 조회합니다
      */
-    Page<UUID> findPageIds(
+    Page<OrderSummaryResponseDto> findSummaries(
+        Pageable pageable,
+        OrderSearchOptionDto searchOption);
+
+    /**
+     * 주문 id 목록의 주문 정보를 projection 으로 반환합니다 (순서는 보장하지 않음)<br>
+     * 엔티티를 영속성 컨텍스트에 올리지 않으므로 목록 조회에서 스냅샷/변경 감지 비용이 없습니다
+     */
+    List<OrderSummaryResponseDto> findSummariesByIdIn(Collection<UUID> ids);
+
+    /**
+     * 주문 id 목록의 주문 메뉴를 한 번의 평탄한 조회로 읽어 주문 id 별로 묶어 반환합니다
+     */
+    Map<UUID, List<OrderMenuResponseDto>> findOrderMenusByOrderIdIn(Collection<UUID> ids);
+
+    /**
+     * 커서(createdAt, id) 이후의 주문 키를 정렬 순서대로 size + 1 건 반환합니다<br>
+     * offset, count 쿼리 없이 인덱스를 타고 바로 다음 위치부터 읽으며,
+     * 마지막 1건은 다음 페이지 존재 여부 판단용입니다
+     * @param cursor 이전 페이지의 마지막 주문 키 (첫 페이지라면 null)
+     * @param pageable size 와 정렬(createdAt, id) 만 사용합니다
+     * @param searchOption
+     * @return 최대 size + 1 건의 (createdAt, id)
+     */
+    List<OrderCursor> findCursorKeys(
+        OrderCursor cursor,
         Pageable pageable,
         OrderSearchOptionDto searchOption);
 
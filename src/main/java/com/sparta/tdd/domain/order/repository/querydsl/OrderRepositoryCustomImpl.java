@@ -1,26 +1,36 @@
 package com.sparta.tdd.domain.order.repository.querydsl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.tdd.domain.menu.entity.QMenu;
+import com.sparta.tdd.domain.order.dto.OrderCursor;
 import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.entity.QOrder;
 import com.sparta.tdd.domain.order.repository.OrderRepositoryCustom;
+import com.sparta.tdd.domain.orderMenu.dto.OrderMenuResponseDto;
 import com.sparta.tdd.domain.orderMenu.entity.QOrderMenu;
 import com.sparta.tdd.domain.payment.entity.QPayment;
 import com.sparta.tdd.domain.store.entity.QStore;
 import com.sparta.tdd.domain.user.entity.QUser;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -60,50 +70,162 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
      * <a href = https://junior-datalist.tistory.com/342>참고주소</a>
      */
     @Override
-    public Page<UUID> findPageIds(
+    public Page<OrderSummaryResponseDto> findSummaries(
         Pageable pageable,
         OrderSearchOptionDto searchOption) {
 
-
-        Long targetUserId = searchOption.userId();
-        LocalDateTime start = searchOption.startOrNull();
-        LocalDateTime end = searchOption.endOrNull();
-        UUID targetStoreId = searchOption.storeId();
-
-
         QOrder qOrder = QOrder.order;
+        QUser qUser = QUser.user;
+        QStore qStore = QStore.store;
 
-        List<UUID> ids = query
-            .select(qOrder.id)
+        List<OrderSummaryResponseDto> content = query
+            .select(Projections.constructor(OrderSummaryResponseDto.class,
+                qOrder.id,
+                qUser.username,
+                qStore.name,
+                qOrder.totalPrice,
+                qOrder.address,
+                qOrder.createdAt,
+                qOrder.orderStatus
+            ))
             .from(qOrder)
+            .join(qOrder.user, qUser)
+            .join(qOrder.store, qStore)
             .where(
-                userIdEq(targetUserId),
-                storeIdEq(targetStoreId),
-                createdAtGoe(start),
-                createdAtLt(end)
+                userIdEq(searchOption.userId()),
+                storeIdEq(searchOption.storeId()),
+                createdAtGoe(searchOption.startOrNull()),
+                createdAtLt(searchOption.endOrNull())
             )
             .orderBy(toOrderSpecifier(pageable.getSort(), qOrder))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        JPAQuery<Long> countQuery = query
+        return PageableExecutionUtils.getPage(
+                content,
+                pageable,
+                countQuery(searchOption)::fetchOne
+        );
+    }
+
+    @Override
+    public List<OrderSummaryResponseDto> findSummariesByIdIn(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QOrder qOrder = QOrder.order;
+        QUser qUser = QUser.user;
+        QStore qStore = QStore.store;
+
+        return query
+            .select(Projections.constructor(OrderSummaryResponseDto.class,
+                qOrder.id,
+                qUser.username,
+                qStore.name,
+                qOrder.totalPrice,
+                qOrder.address,
+                qOrder.createdAt,
+                qOrder.orderStatus
+            ))
+            .from(qOrder)
+            .join(qOrder.user, qUser)
+            .join(qOrder.store, qStore)
+            .where(qOrder.id.in(ids))
+            .fetch();
+    }
+
+    @Override
+    public Map<UUID, List<OrderMenuResponseDto>> findOrderMenusByOrderIdIn(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        QOrderMenu qOrderMenu = QOrderMenu.orderMenu;
+        QMenu qMenu = QMenu.menu;
+        ConstructorExpression<OrderMenuResponseDto> line = Projections.constructor(OrderMenuResponseDto.class,
+            qOrderMenu.id,
+            qMenu.name,
+            qOrderMenu.price,
+            qOrderMenu.quantity
+        );
+
+        // 주문 1건 x 메뉴 n건의 행 단위로 읽고, 묶는 것은 메모리에서 처리
+        List<Tuple> rows = query
+            .select(qOrderMenu.order.id, line)
+            .from(qOrderMenu)
+            .join(qOrderMenu.menu, qMenu)
+            .where(qOrderMenu.order.id.in(ids))
+            .fetch();
+
+        Map<UUID, List<OrderMenuResponseDto>> byOrderId = new HashMap<>();
+        for (Tuple row : rows) {
+            byOrderId.computeIfAbsent(row.get(qOrderMenu.order.id), id -> new ArrayList<>())
+                .add(row.get(line));
+        }
+        return byOrderId;
+    }
+
+    private JPAQuery<Long> countQuery(OrderSearchOptionDto searchOption) {
+        QOrder qOrder = QOrder.order;
+
+        return query
                 .select(qOrder.count())
                 .from(qOrder)
                 .where(
-                    userIdEq(targetUserId),
-                    storeIdEq(targetStoreId),
-                    createdAtGoe(start),
-                    createdAtLt(end)
+                    userIdEq(searchOption.userId()),
+                    storeIdEq(searchOption.storeId()),
+                    createdAtGoe(searchOption.startOrNull()),
+                    createdAtLt(searchOption.endOrNull())
                 );
+    }
 
-        return PageableExecutionUtils.getPage(
-                ids,
-                pageable,
-                countQuery::fetchOne
-        );
+    @Override
+    public List<OrderCursor> findCursorKeys(
+        OrderCursor cursor,
+        Pageable pageable,
+        OrderSearchOptionDto searchOption) {
+
+        QOrder qOrder = QOrder.order;
+        com.querydsl.core.types.Order direction = toCursorDirection(pageable.getSort());
+
+        return query
+            .select(Projections.constructor(OrderCursor.class, qOrder.createdAt, qOrder.id))
+            .from(qOrder)
+            .where(
+                userIdEq(searchOption.userId()),
+                storeIdEq(searchOption.storeId()),
+                createdAtGoe(searchOption.startOrNull()),
+                createdAtLt(searchOption.endOrNull()),
+                cursorAfter(cursor, direction)
+            )
+            .orderBy(
+                new OrderSpecifier<>(direction, qOrder.createdAt),
+                new OrderSpecifier<>(direction, qOrder.id)
+            )
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
     }
 
+    /**
+     * 커서 페이징은 (createdAt, id) 복합 키 순서로만 이어서 읽을 수 있으므로
+     * toOrderSpecifier 의 정렬 키 중 createdAt, id 의 방향만 반영합니다 (createdAt 우선)
+     */
+    private com.querydsl.core.types.Order toCursorDirection(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return com.querydsl.core.types.Order.DESC;
+        }
+
+        Sort.Order createdAtOrder = sort.getOrderFor("createdAt");
+        Sort.Order keyOrder = createdAtOrder != null ? createdAtOrder : sort.getOrderFor("id");
+        if (keyOrder == null || sort.getOrderFor("orderStatus") != null) {
+            throw new BusinessException(ErrorCode.ORDER_CURSOR_SORT_NOT_SUPPORTED);
+        }
+
+        return keyOrder.isAscending()
+            ? com.querydsl.core.types.Order.ASC : com.querydsl.core.types.Order.DESC;
+    }
 
     private OrderSpecifier<?>[] toOrderSpecifier(Sort sort, QOrder o) {
         if (sort == null || sort.isUnsorted()) {
@@ -143,4 +265,16 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
     private BooleanExpression createdAtLt(LocalDateTime t) {
         return t == null ? null : QOrder.order.createdAt.lt(t);
     }
+    private BooleanExpression cursorAfter(OrderCursor cursor, com.querydsl.core.types.Order direction) {
+        if (cursor == null) {
+            return null;
+        }
+        QOrder o = QOrder.order;
+        if (direction == com.querydsl.core.types.Order.ASC) {
+            return o.createdAt.gt(cursor.createdAt())
+                .or(o.createdAt.eq(cursor.createdAt()).and(o.id.gt(cursor.id())));
+        }
+        return o.createdAt.lt(cursor.createdAt())
+            .or(o.createdAt.eq(cursor.createdAt()).and(o.id.lt(cursor.id())));
+    }
 }
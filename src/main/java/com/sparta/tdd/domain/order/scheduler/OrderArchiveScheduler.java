@@ -0,0 +1,72 @@
+package com.sparta.tdd.domain.order.scheduler;
+
+import com.sparta.tdd.domain.order.repository.OrderArchiveRepository;
+import com.sparta.tdd.global.batch.ChunkLoop;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 hot/cold 분리 배치<br>
+ * 오래 전에 끝난 주문과 soft delete 후 보관 기간이 지난 주문을 batch-size 만큼씩 archive 로 옮기고 chunk 마다 커밋합니다<br>
+ * 옮긴 행은 hot 테이블에서 지워지므로 p_order / p_order_menu / p_payment 는 최근 주문 위주로 작게 유지됩니다
+ */
+@Slf4j(topic = "OrderArchiveScheduler")
+@Component
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int hotRetentionDays;
+    private final int deletedRetentionDays;
+    private final ChunkLoop chunkLoop;
+
+    public OrderArchiveScheduler(
+        OrderArchiveRepository archiveRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${order.archive.hot-retention-days:180}") int hotRetentionDays,
+        @Value("${order.archive.deleted-retention-days:30}") int deletedRetentionDays,
+        @Value("${order.archive.batch-size:500}") int batchSize,
+        @Value("${order.archive.throttle-ms:100}") long throttleMillis
+    ) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hotRetentionDays = hotRetentionDays;
+        this.deletedRetentionDays = deletedRetentionDays;
+        this.chunkLoop = new ChunkLoop(batchSize, throttleMillis);
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archiveOrders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minusDays(hotRetentionDays);
+        LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+        long startedAt = System.currentTimeMillis();
+        AtomicLong archived = new AtomicLong();
+
+        int chunks = chunkLoop.run(() -> {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<UUID> ids = archiveRepository.lockArchivableIds(deletedBefore, createdBefore,
+                    chunkLoop.batchSize());
+                return ids.isEmpty() ? 0 : archiveRepository.moveToArchive(ids);
+            });
+            int count = moved == null ? 0 : moved;
+            archived.addAndGet(count);
+            return count;
+        }).chunks();
+
+        if (chunks > 0) {
+            log.info("Orders archived (chunks={}, orders={}, elapsed={}ms)",
+                chunks, archived.get(), System.currentTimeMillis() - startedAt);
+        }
+    }
+}
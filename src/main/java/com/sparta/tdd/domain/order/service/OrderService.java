@@ -3,16 +3,20 @@ package com.sparta.tdd.domain.order.service;
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.order.dto.OrderCursor;
+import com.sparta.tdd.domain.order.dto.OrderCursorResponseDto;
+import com.sparta.tdd.domain.order.dto.OrderEvent;
 import com.sparta.tdd.domain.order.dto.OrderRequestDto;
 import com.sparta.tdd.domain.order.dto.OrderResponseDto;
 import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
 import com.sparta.tdd.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.order.mapper.OrderMapper;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
-import com.sparta.tdd.domain.store.entity.Store;
-import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.orderMenu.dto.OrderMenuResponseDto;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.domain.user.repository.UserRepository;
@@ -21,10 +25,9 @@ import com.sparta.tdd.global.exception.ErrorCode;
 
 import java.util.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,28 +38,58 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
-    private final StoreRepository storeRepository;
     private final OrderMapper orderMapper;
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStateMachine orderStateMachine;
 
-    public Page<OrderResponseDto> getOrders(
+    public Page<OrderSummaryResponseDto> getOrders(
         UserDetailsImpl userDetails,
         Pageable pageable,
         OrderSearchOptionDto searchOption) {
 
         hasPermission(userDetails, searchOption.userId());
 
+        // 저장된 총액으로 목록을 만들므로 주문 메뉴/결제는 읽지 않음
+        return orderRepository.findSummaries(pageable, searchOption);
+    }
+
+    /**
+     * 커서 기반 주문 목록 조회<br>
+     * offset + count 대신 (createdAt, id) 커서 이후를 size + 1 건 읽어 다음 페이지 존재 여부를 판단합니다
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지라면 null)
+     */
+    public OrderCursorResponseDto getOrders(
+        UserDetailsImpl userDetails,
+        String cursor,
+        Pageable pageable,
+        OrderSearchOptionDto searchOption) {
+
+        hasPermission(userDetails, searchOption.userId());
+
         //region 조회
-        Page<UUID> idPage = orderRepository.findPageIds(
+        List<OrderCursor> keys = orderRepository.findCursorKeys(
+            OrderCursor.decodeOrNull(cursor),
             pageable,
             searchOption
         );
 
-        List<Order> loaded = orderRepository.findDetailsByIdIn(idPage.getContent());
+        boolean hasNext = keys.size() > pageable.getPageSize();
+        List<OrderCursor> pageKeys = hasNext ? keys.subList(0, pageable.getPageSize()) : keys;
+        List<UUID> ids = pageKeys.stream()
+            .map(OrderCursor::id)
+            .toList();
+
+        // 엔티티 대신 projection 으로 주문 정보와 주문 메뉴를 각각 한 번씩 조회
+        List<OrderSummaryResponseDto> summaries = orderRepository.findSummariesByIdIn(ids);
+        Map<UUID, List<OrderMenuResponseDto>> orderMenus = orderRepository.findOrderMenusByOrderIdIn(ids);
         //endregion
 
-        List<OrderResponseDto> content = orderMapper.toResponseList(loaded, idPage);
-        return new PageImpl<>(content, pageable, idPage.getTotalElements());
+        List<OrderResponseDto> content = orderMapper.toResponseList(summaries, orderMenus, ids);
+        String nextCursor = hasNext ? pageKeys.get(pageKeys.size() - 1).encode() : null;
+
+        return new OrderCursorResponseDto(content, content.size(), hasNext, nextCursor);
     }
 
     private void hasPermission(
@@ -89,86 +122,84 @@ public class OrderService {
         OrderRequestDto reqDto) {
 
         //region 엔티티 조회
-        User foundUser = findEntity(userRepository, userDetails.getUserId());
-        Store foundStore = findEntity(storeRepository, reqDto.storeId());
-        List<Menu> menus = menuRepository.findAllVaildMenuIds(reqDto.getMenuIds(),
+        // 메뉴 스냅샷은 다른 인스턴스에서 TTL 만큼 늦을 수 있으므로 가격/주문 가능 여부는 DB 에서 확인
+        // 가게는 메뉴와 함께 한 번에 조회, 사용자는 인증된 principal 이므로 조회 없이 참조만 사용
+        List<Menu> menus = menuRepository.findOrderableMenusWithStore(reqDto.getMenuIds(),
             reqDto.storeId());
+        User userRef = userRepository.getReferenceById(userDetails.getUserId());
         //endregion
 
         verifyOrderMenus(menus, reqDto.getMenuIds());
 
-        Order order = orderMapper.toOrder(reqDto, menus, foundUser, foundStore);
+        Order order = orderMapper.toOrder(reqDto, menus, userRef, menus.get(0).getStore());
 
+        // order_menu 는 UUID id + jdbc batch 설정으로 한 번에 insert
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderEvent.of(OrderEventType.CREATED, savedOrder));
 
-        return orderMapper.toResponse(savedOrder);
+        return orderMapper.toResponse(savedOrder, userDetails.getUsername());
     }
 
     @Transactional
     public OrderResponseDto nextOrderStatus(UUID orderId, UserDetailsImpl userDetails) {
-        Order targetOrder = findAccessibleOrder(orderId, userDetails);
+        OrderStatus current = findAccessibleStatus(orderId, userDetails);
 
-        targetOrder.nextStatus();
+        orderStateMachine.advance(orderId, current);
 
-        return orderMapper.toResponse(targetOrder);
+        return toChangedResponse(orderId, OrderEventType.STATUS_CHANGED);
     }
 
     @Transactional
     public OrderResponseDto changeOrderStatus(UUID orderId, OrderStatusRequestDto reqDto) {
-        Order targetOrder = findEntity(orderRepository, orderId);
+        OrderStatus current = orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        targetOrder.changeOrderStatus(reqDto.orderStatus());
+        orderStateMachine.transition(orderId, current, reqDto.orderStatus());
 
-        return orderMapper.toResponse(targetOrder);
+        return toChangedResponse(orderId, OrderEventType.STATUS_CHANGED);
     }
 
     /**
-     * Dto 와 repository 조회 결과를 비교해서 누락된 메뉴가 있는지 검증
+     * 상태 전이는 UPDATE 한 문장으로 끝났으므로, 응답 본문이 필요할 때만 주문 그래프를 읽습니다
+     */
+    private OrderResponseDto toChangedResponse(UUID orderId, OrderEventType eventType) {
+        Order order = orderRepository.findDetailById(orderId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        eventPublisher.publishEvent(OrderEvent.of(eventType, order));
+
+        return orderMapper.toResponse(order);
+    }
+
+    /**
+     * Dto 와 repository 조회 결과를 비교해서 누락된 메뉴가 있는지 검증<br>
+     * 조회 결과가 비어 있으면 가게가 없거나 주문 가능한 메뉴가 없는 경우입니다
      *
-     * @param menus          repository 에서 조회된 menuId, Menu map
+     * @param menus          repository 에서 조회된 주문 가능한 메뉴들
      * @param menuIdsFromDto Dto 에서 넘어온 menuId 들
      */
     private void verifyOrderMenus(
         List<Menu> menus,
         Set<UUID> menuIdsFromDto) {
-        if (menus.size() != menuIdsFromDto.size()) {
+        if (menus.isEmpty() || menus.size() != menuIdsFromDto.size()) {
             throw new BusinessException(ErrorCode.MENU_INVALID_INFO);
         }
     }
 
-    /*
-    ErrorCode.ENTITY_NOT_FOUND 를 마주쳤을때 어떤 repo 에서 발생했는지 확인 가능한가?
-    OrderService 에서 User 나 Store Repo 를 직접 조회하는게 아니라 다른 Service 에서 받아오는게 책임분리 면에서 옳다
-    제네릭을 사용할때는 범용성 고려필요 (범용성 <- 특정기술에 종속되서는 안 된다)
-     */
-    /**
-     * 특정 레포지토리의 id 탐색결과를 Optional로 받아 null 이면 예외를 발생<br>
-     * 값이 존재한다면 Entity 를 반환합니다
-     *
-     * @param jpaRepository
-     * @param id
-     * @return Entity
-     */
-    private <T, ID> T findEntity(JpaRepository<T, ID> jpaRepository, ID id) {
-        return jpaRepository.findById(id)
-            .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-    }
-
     /**
-     * OWNER 권한을 가진 유저 - Store.User.id 를 비교하여 동일하지 않으면 예외처리 (repo 에서 가져온 order 가 없음) <br>
-     * MANAGER, MASTER - 별도 join 쿼리 없이 order 객체 조회
+     * OWNER 권한을 가진 유저 - Store.User.id 를 비교하여 동일하지 않으면 예외처리 (repo 에서 가져온 상태가 없음) <br>
+     * MANAGER, MASTER - 별도 join 쿼리 없이 주문 상태만 조회
      *
      * @param orderId
      * @param userDetails
-     * @return Entity
+     * @return 현재 주문 상태
      */
-    private Order findAccessibleOrder(UUID orderId, UserDetailsImpl userDetails) {
+    private OrderStatus findAccessibleStatus(UUID orderId, UserDetailsImpl userDetails) {
         if (UserAuthority.isOwner(userDetails.getUserAuthority())) {
-            return orderRepository.findOrderByIdAndStoreUserId(orderId,
+            return orderRepository.findStatusByIdAndStoreUserIdAndDeletedAtIsNull(orderId,
                     userDetails.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_PERMISSION_DENIED));
         }
-        return orderRepository.findDetailById(orderId)
+        return orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)
             .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
     }
@@ -190,8 +221,11 @@ public class OrderService {
         if (!targetOrder.canCancel()) {
             throw new BusinessException(ErrorCode.ORDER_CANCELLATION_NOT_ALLOWED);
         }
-        targetOrder.delete(userDetails.getUserId());
+        // 조건부 UPDATE 로 먼저 전이한 뒤, 로딩한 엔티티도 같은 상태로 맞춰 flush 시 되돌리지 않도록 함
+        orderStateMachine.transition(orderId, targetOrder.getOrderStatus(), OrderStatus.CANCELLED);
         targetOrder.changeOrderStatus(OrderStatus.CANCELLED);
+        targetOrder.delete(userDetails.getUserId());
+        eventPublisher.publishEvent(OrderEvent.of(OrderEventType.CANCELLED, targetOrder));
 
         return orderMapper.toResponse(targetOrder);
     }
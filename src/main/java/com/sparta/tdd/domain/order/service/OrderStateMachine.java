@@ -0,0 +1,61 @@
+package com.sparta.tdd.domain.order.service;
+
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.order.repository.OrderRepository;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 상태 전이<br>
+ * 주문 그래프를 읽지 않고 {@code UPDATE p_order SET order_status = to WHERE id = ? AND order_status = from}
+ * 한 문장으로 전이합니다<br>
+ * 읽은 뒤 다른 요청이 먼저 상태를 바꿨다면 갱신 행이 0 이므로 ORDER_STATUS_CONFLICT 로 알립니다
+ */
+@RequiredArgsConstructor
+@Component
+public class OrderStateMachine {
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * {@link OrderStatus#next()} 그래프를 따라 한 단계 전이합니다
+     *
+     * @param current 호출한 쪽이 읽은 현재 상태
+     * @return 전이된 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OrderStatus advance(UUID orderId, OrderStatus current) {
+        OrderStatus next;
+        try {
+            next = current.next();
+        } catch (IllegalStateException e) {
+            throw new BusinessException(ErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED);
+        }
+
+        compareAndSet(orderId, current, next);
+        return next;
+    }
+
+    /**
+     * 관리자 변경, 결제 취소/실패 복구처럼 그래프 밖의 전이를 현재 상태 조건부로 반영합니다<br>
+     * 이미 목표 상태라면 UPDATE 를 보내지 않습니다
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transition(UUID orderId, OrderStatus current, OrderStatus target) {
+        if (current == target) {
+            return;
+        }
+        compareAndSet(orderId, current, target);
+    }
+
+    private void compareAndSet(UUID orderId, OrderStatus from, OrderStatus to) {
+        if (orderRepository.updateStatusIfCurrent(orderId, from, to) == 0) {
+            throw new BusinessException(ErrorCode.ORDER_STATUS_CONFLICT);
+        }
+    }
+}
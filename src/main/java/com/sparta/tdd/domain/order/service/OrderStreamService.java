@@ -0,0 +1,38 @@
+package com.sparta.tdd.domain.order.service;
+
+import com.sparta.tdd.domain.auth.UserDetailsImpl;
+import com.sparta.tdd.domain.order.stream.OrderEventBroker;
+import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 가게 주문 이벤트 구독<br>
+ * 점주가 주문 목록을 polling 하는 대신 주문 생성/상태 변경을 SSE 로 받습니다
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class OrderStreamService {
+
+    private final StoreRepository storeRepository;
+    private final OrderEventBroker orderEventBroker;
+
+    /**
+     * OWNER 는 본인 가게만 구독할 수 있고, MANAGER, MASTER 는 모든 가게를 구독할 수 있습니다
+     */
+    public SseEmitter subscribe(UserDetailsImpl userDetails, UUID storeId) {
+        if (UserAuthority.isOwner(userDetails.getUserAuthority())
+            && !storeRepository.existsByIdAndUserIdAndDeletedAtIsNull(storeId, userDetails.getUserId())) {
+            throw new BusinessException(ErrorCode.STORE_PERMISSION_DENIED);
+        }
+
+        return orderEventBroker.subscribe(storeId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparta.tdd.domain.order.stream;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 가게별 주문 이벤트 in-process broker<br>
+ * 주문 트랜잭션이 커밋된 뒤 가게 구독자들의 버퍼에 이벤트를 넣고, 실제 전송은 sender pool 에서 처리합니다<br>
+ * 구독 목록은 가게 id 별 concurrent set 이라 발행 경로에서 lock 을 잡지 않습니다<br>
+ * 인스턴스 내 구독자에게만 전달되므로, 여러 인스턴스로 띄울 때는 연결이 맺어진 인스턴스의 주문만 받습니다
+ */
+@Slf4j(topic = "OrderEventBroker")
+@Component
+public class OrderEventBroker {
+
+    private final Map<UUID, Set<OrderEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final int bufferSize;
+
+    public OrderEventBroker(
+        @Value("${order.stream.sender-threads:4}") int senderThreads,
+        @Value("${order.stream.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${order.stream.buffer-size:256}") int bufferSize
+    ) {
+        this.sender = Executors.newFixedThreadPool(senderThreads,
+            Thread.ofPlatform().name("order-stream-sender-", 0).daemon(true).factory());
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        subscribers.values().forEach(set -> set.forEach(OrderEventSubscriber::close));
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe(UUID storeId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        OrderEventSubscriber subscriber = new OrderEventSubscriber(storeId, emitter, bufferSize);
+
+        // 비어서 지워지는 set 에 추가되지 않도록 compute 안에서 등록
+        subscribers.compute(storeId, (id, set) -> {
+            Set<OrderEventSubscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 응답 헤더를 바로 내려 연결을 확정
+        subscriber.heartbeat(sender);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void publish(OrderEvent event) {
+        Set<OrderEventSubscriber> targets = subscribers.get(event.storeId());
+        if (targets == null) {
+            return;
+        }
+        targets.forEach(subscriber -> subscriber.offer(event, sender));
+    }
+
+    @Scheduled(fixedDelayString = "${order.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.heartbeat(sender)));
+    }
+
+    int subscriberCount(UUID storeId) {
+        Set<OrderEventSubscriber> targets = subscribers.get(storeId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    private void unsubscribe(OrderEventSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getStoreId(), (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        log.debug("Order stream closed (storeId={})", subscriber.getStoreId());
+    }
+}
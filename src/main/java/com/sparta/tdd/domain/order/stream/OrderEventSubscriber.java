@@ -0,0 +1,130 @@
+package com.sparta.tdd.domain.order.stream;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 가게 주문 스트림 구독자 한 명의 전송 버퍼<br>
+ * <ul>
+ *     <li>버퍼 : lock 없는 큐 + 크기 카운터, capacity 를 넘으면 가장 오래된 이벤트부터 버림</li>
+ *     <li>전송 : draining 플래그를 잡은 스레드 하나만 emitter 에 씀 (SseEmitter 동시 send 방지)</li>
+ *     <li>유실 : 버려진 이벤트가 있으면 다음 전송 전에 dropped 이벤트로 개수를 알려 목록 재조회를 유도</li>
+ * </ul>
+ * 느린 클라이언트가 발행 스레드(주문 트랜잭션 커밋 스레드)를 막지 않도록 발행은 큐에 넣기만 합니다
+ */
+final class OrderEventSubscriber {
+
+    static final String DROPPED_EVENT = "DROPPED";
+
+    @Getter
+    private final UUID storeId;
+    private final SseEmitter emitter;
+    private final int capacity;
+
+    private final ConcurrentLinkedQueue<OrderEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    OrderEventSubscriber(UUID storeId, SseEmitter emitter, int capacity) {
+        this.storeId = storeId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣고 전송을 예약합니다 (가득 찼다면 가장 오래된 이벤트를 버림)
+     */
+    void offer(OrderEvent event, Executor sender) {
+        if (closed) {
+            return;
+        }
+        buffer.offer(event);
+        if (buffered.incrementAndGet() > capacity && buffer.poll() != null) {
+            buffered.decrementAndGet();
+            dropped.incrementAndGet();
+        }
+        schedule(sender);
+    }
+
+    /**
+     * 연결 유지용 comment 전송을 예약합니다 (이미 예약돼 있으면 합침)
+     */
+    void heartbeat(Executor sender) {
+        if (closed) {
+            return;
+        }
+        heartbeatPending.set(true);
+        schedule(sender);
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+        buffered.set(0);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    int droppedCount() {
+        return dropped.get();
+    }
+
+    int bufferedCount() {
+        return buffered.get();
+    }
+
+    private void schedule(Executor sender) {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(sender));
+        }
+    }
+
+    private void drain(Executor sender) {
+        try {
+            flush();
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 - emitter 완료 콜백에서 broker 구독 목록에서도 빠짐
+            close();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+
+        // flag 를 내린 사이 들어온 이벤트가 있으면 이어서 보냄
+        if (!closed && (!buffer.isEmpty() || heartbeatPending.get())) {
+            schedule(sender);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (heartbeatPending.getAndSet(false)) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        int lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(lost));
+        }
+
+        OrderEvent event;
+        while (!closed && (event = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            emitter.send(SseEmitter.event()
+                .id(event.orderId().toString())
+                .name(event.type().name())
+                .data(event));
+        }
+    }
+}
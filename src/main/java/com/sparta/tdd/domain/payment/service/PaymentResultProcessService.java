@@ -1,20 +1,33 @@
 package com.sparta.tdd.domain.payment.service;
 
+import com.sparta.tdd.domain.order.dto.OrderEvent;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.order.service.OrderStateMachine;
 import com.sparta.tdd.domain.payment.entity.Payment;
 import com.sparta.tdd.domain.payment.enums.PaymentStatus;
+import com.sparta.tdd.domain.point.service.PointOutboxService;
+import com.sparta.tdd.domain.store.service.StoreStatsService;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentResultProcessService {
 
-    public void processPaymentResult(Payment payment) {
+    private final PointOutboxService pointOutboxService;
+    private final OrderStateMachine orderStateMachine;
+    private final StoreStatsService storeStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param previousStatus 이번 변경 전 결제 상태 (완료 후 취소인 경우에만 매출을 차감)
+     */
+    public void processPaymentResult(Payment payment, PaymentStatus previousStatus) {
         Order order = payment.getOrder();
         if (order == null) {
             throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
@@ -24,7 +37,7 @@ public class PaymentResultProcessService {
 
         switch (status) {
             case COMPLETED -> processApproved(payment, order);
-            case CANCELLED -> processCancelled(payment, order);
+            case CANCELLED -> processCancelled(payment, order, previousStatus);
             case FAILED -> processFailed(payment, order);
             case PENDING -> {
             }
@@ -32,27 +45,47 @@ public class PaymentResultProcessService {
     }
 
     private void processApproved(Payment payment, Order order) {
+        // 포인트 적립은 outbox 에만 남기고 worker 가 비동기로 반영
+        pointOutboxService.appendPaymentCompleted(payment);
+        storeStatsService.recordPaymentCompleted(order.getStore().getId(), payment.getAmount());
+
         // 이미 배달완료된 주문이면 상태 변경 스킵
         if (order.getOrderStatus() == OrderStatus.DELIVERED) {
             return;
         }
 
-        // 주문 상태 변경 (PENDING -> DELIVERED)
-        order.nextStatus();
+        // 주문 상태 변경 (PENDING -> DELIVERED), 주문 엔티티는 건드리지 않고 조건부 UPDATE 로 반영
+        OrderStatus next = orderStateMachine.advance(order.getId(), order.getOrderStatus());
+        eventPublisher.publishEvent(OrderEvent.statusChanged(order, next));
     }
 
-    private void processCancelled(Payment payment, Order order) {
+    private void processCancelled(Payment payment, Order order, PaymentStatus previousStatus) {
         if (LocalDateTime.now().minusMinutes(5).isAfter(payment.getCreatedAt())) {
             throw new BusinessException(ErrorCode.PAYMENT_CANCEL_TIME_EXPIRED);
         }
         // 주문 상태를 PENDING으로 복구
-        order.changeOrderStatus(OrderStatus.PENDING);
+        restorePending(order);
+
+        // 완료된 적 없는 결제(PENDING -> CANCELLED)는 적립된 포인트도, 차감할 매출도 없음
+        if (previousStatus == PaymentStatus.COMPLETED) {
+            pointOutboxService.appendPaymentCancelled(payment);
+            storeStatsService.recordPaymentRefunded(order.getStore().getId(), payment.getAmount());
+        }
 
         // 환불처리는 진행 된 것으로 가정하겠습니다.
     }
 
     private void processFailed(Payment payment, Order order) {
         // 주문 상태를 PENDING으로 유지 (재결제 가능하도록)
-        order.changeOrderStatus(OrderStatus.PENDING);
+        restorePending(order);
+    }
+
+    // 실제로 상태가 바뀐 경우에만 가게 주문 스트림에 알림 (커밋 후 전달)
+    private void restorePending(Order order) {
+        if (order.getOrderStatus() == OrderStatus.PENDING) {
+            return;
+        }
+        orderStateMachine.transition(order.getId(), order.getOrderStatus(), OrderStatus.PENDING);
+        eventPublisher.publishEvent(OrderEvent.statusChanged(order, OrderStatus.PENDING));
     }
 }
@@ -2,7 +2,6 @@ package com.sparta.tdd.domain.payment.service;
 
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
-import com.sparta.tdd.domain.orderMenu.entity.OrderMenu;
 import com.sparta.tdd.domain.payment.dto.PaymentDetailResponseDto;
 import com.sparta.tdd.domain.payment.dto.PaymentListResponseDto;
 import com.sparta.tdd.domain.payment.dto.PaymentRequestDto;
@@ -64,6 +63,7 @@ public class PaymentService {
     public void changePaymentStatus(UUID paymentId, UpdatePaymentStatusRequest request) {
         Payment payment = paymentRepository.findById(paymentId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        PaymentStatus previousStatus = payment.getStatus();
 
         switch (request.status()) {
             case COMPLETED -> payment.approve();
@@ -73,7 +73,7 @@ public class PaymentService {
         }
 
         // 결제 상태 변경 후 후속 처리 실행
-        paymentResultProcessService.processPaymentResult(payment);
+        paymentResultProcessService.processPaymentResult(payment, previousStatus);
     }
 
     @Transactional
@@ -83,10 +83,8 @@ public class PaymentService {
 
         User user = findUser(userId);
 
-        long totalAmount = 0L;
-        for (OrderMenu orderMenu : order.getOrderMenuList()) {
-            totalAmount += (long) orderMenu.getPrice() * orderMenu.getQuantity();
-        }
+        // 주문 생성 시 저장한 총액 사용 (order_menu 를 다시 읽지 않음)
+        long totalAmount = order.getTotalPrice();
 
         Payment newPayment = Payment.builder()
             .number(PaymentNumberGenerator.generate())
@@ -1,6 +1,5 @@
 package com.sparta.tdd.domain.point.entity;
 
-import com.sparta.tdd.domain.point.dto.PointRequest;
 import com.sparta.tdd.domain.point.enums.PointType;
 import com.sparta.tdd.global.model.BaseEntity;
 import jakarta.persistence.Column;
@@ -11,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -21,9 +22,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 포인트 원장 (append-only)<br>
+ * 금액은 부호를 가지며(적립 +, 취소/사용/만료 -) 한 번 기록된 행은 수정하지 않습니다<br>
+ * (reference_id, type) 유니크 키가 같은 결제/리뷰에 대한 중복 적립을 DB 에서 막습니다
+ */
 @Entity
 @Getter
-@Table(name = "p_point_history")
+@Table(name = "p_point_history",
+    uniqueConstraints = @UniqueConstraint(name = "uk_point_history_reference_type",
+        columnNames = {"reference_id", "type"}),
+    indexes = @Index(name = "idx_point_history_wallet_compacted",
+        columnList = "point_wallet_id, compacted"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointHistory extends BaseEntity {
 
@@ -52,6 +62,10 @@ public class PointHistory extends BaseEntity {
     @Column(name = "expire_at")
     private LocalDateTime expireAt;
 
+    // 지갑 스냅샷에 접혔는지 여부
+    @Column(name = "compacted", nullable = false)
+    private boolean compacted;
+
     @Builder
     private PointHistory(PointWallet wallet, UUID referenceId, Long amount,
         PointType type, String description, LocalDateTime expireAt) {
@@ -62,16 +76,4 @@ public class PointHistory extends BaseEntity {
         this.description = description;
         this.expireAt = expireAt;
     }
-
-    public static PointHistory create(PointWallet wallet, PointRequest request,
-        LocalDateTime expireAt) {
-        return PointHistory.builder()
-            .wallet(wallet)
-            .referenceId(request.referenceId())
-            .amount(request.amount())
-            .type(request.type())
-            .description(request.description())
-            .expireAt(expireAt)
-            .build();
-    }
 }
@@ -0,0 +1,77 @@
+package com.sparta.tdd.domain.point.entity;
+
+import com.sparta.tdd.global.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 남아 있는 적립 포인트 묶음(lot)<br>
+ * 적립 한 건마다 하나씩 생기고, 차감은 만료가 빠른 lot 부터(FIFO) 소진합니다<br>
+ * 다 쓰거나 만료된 lot 은 행을 지우므로 이 테이블에는 살아 있는 lot 만 남고, 만료 배치는 (expire_at, wallet) 인덱스의 앞부분만 읽습니다
+ */
+@Entity
+@Getter
+@Table(name = "p_point_lot",
+    indexes = {
+        @Index(name = "idx_point_lot_expire_at_wallet", columnList = "expire_at, point_wallet_id"),
+        @Index(name = "idx_point_lot_wallet_expire_at", columnList = "point_wallet_id, expire_at")
+    })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "point_lot_id")
+    private UUID id;
+
+    @Column(name = "point_wallet_id", nullable = false)
+    private UUID walletId;
+
+    // 적립의 원인 (결제/리뷰 id)
+    @Column(name = "reference_id")
+    private UUID referenceId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "remaining", nullable = false)
+    private Long remaining;
+
+    @Column(name = "expire_at", nullable = false)
+    private LocalDateTime expireAt;
+
+    @Builder
+    private PointLot(UUID walletId, UUID referenceId, Long amount, LocalDateTime expireAt) {
+        this.walletId = walletId;
+        this.referenceId = referenceId;
+        this.amount = amount;
+        this.remaining = amount;
+        this.expireAt = expireAt;
+    }
+
+    /**
+     * 남은 금액 안에서 요청한 만큼 소진합니다
+     *
+     * @return 실제로 소진한 금액
+     */
+    public long consume(long requested) {
+        long taken = Math.min(remaining, requested);
+        this.remaining -= taken;
+        return taken;
+    }
+
+    public boolean isExhausted() {
+        return remaining <= 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.tdd.domain.point.entity;
+
+import com.sparta.tdd.domain.point.enums.PointOutboxStatus;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.global.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 적립/회수 요청 outbox<br>
+ * 결제/리뷰 트랜잭션 안에서 한 줄만 기록하고, 실제 원장 반영은 PointOutboxWorker 가 비동기로 처리합니다
+ */
+@Entity
+@Getter
+@Table(name = "p_point_outbox",
+    indexes = @Index(name = "idx_point_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "point_outbox_id")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reference_id", nullable = false)
+    private UUID referenceId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PointType type;
+
+    // 회수(PAYMENT_CANCELLED)는 처리 시점의 적립 금액/잔액으로 정하므로 비어 있음
+    @Column(name = "amount")
+    private Long amount;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PointOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    private PointOutbox(Long userId, UUID referenceId, PointType type, Long amount,
+        String description) {
+        this.userId = userId;
+        this.referenceId = referenceId;
+        this.type = type;
+        this.amount = amount;
+        this.description = description;
+        this.status = PointOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public boolean isCancellation() {
+        return type == PointType.PAYMENT_CANCELLED;
+    }
+}
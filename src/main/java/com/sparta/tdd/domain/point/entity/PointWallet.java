@@ -11,12 +11,18 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 포인트 지갑 (잔액 스냅샷)<br>
+ * balance 는 compaction 이 접어 넣은 이력까지의 합계이며, 실제 잔액은 balance + 아직 접히지 않은 이력의 합입니다<br>
+ * 적립은 지갑 행을 건드리지 않고 이력만 추가하므로, 지갑 행을 갱신하는 건 compaction 뿐이고 @Version 으로 중복 반영을 막습니다
+ */
 @Entity
 @Getter
 @Table(name = "p_point_wallet")
@@ -29,29 +35,28 @@ public class PointWallet extends BaseEntity {
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
     @Column(name = "balance")
     private Long balance;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Builder
     public PointWallet(User user) {
         this.user = user;
         this.balance = 0L;
     }
 
-    public void addBalance(Long earnAmount) {
-        this.balance += earnAmount;
-    }
-
-    public Long subtractBalance(Long amount) {
-        if (this.balance < amount) {
-            Long currentBalance = this.balance;
-            this.balance = 0L;
-            return amount - currentBalance;
-        }
-        this.balance -= amount;
-        return amount;
+    /**
+     * 접힌 이력의 합을 스냅샷에 반영합니다 (compaction 전용)
+     *
+     * @param delta 이번에 접은 이력 금액의 합 (차감 이력은 음수)
+     */
+    public void fold(long delta) {
+        this.balance += delta;
     }
 }
@@ -2,14 +2,46 @@ package com.sparta.tdd.domain.point.repository;
 
 import com.sparta.tdd.domain.point.entity.PointHistory;
 import com.sparta.tdd.domain.point.enums.PointType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
-
-    boolean existsByReferenceIdAndTypeAndDeletedAtIsNull(UUID referenceId, PointType type);
+public interface PointHistoryRepository extends JpaRepository<PointHistory, UUID> {
 
     Optional<PointHistory> findByReferenceIdAndTypeAndDeletedAtIsNull(UUID paymentId,
         PointType pointType);
+
+    /**
+     * 원장에 한 줄을 추가합니다. 같은 (reference_id, type) 이 이미 있으면 아무것도 하지 않습니다<br>
+     * 존재 여부를 먼저 조회하지 않고 유니크 키로 판정하므로, 동시에 들어온 중복 요청도 한 건만 기록됩니다
+     *
+     * @return 추가된 행 수 (중복이면 0)
+     */
+    @Modifying
+    @Query(value = """
+        insert into p_point_history (point_history_id, point_wallet_id, reference_id, amount, type,
+            description, expire_at, compacted, created_at)
+        values (:id, :walletId, :referenceId, :amount, :type, :description, :expireAt, false, :now)
+        on conflict (reference_id, type) do nothing
+        """, nativeQuery = true)
+    int appendIfAbsent(@Param("id") UUID id, @Param("walletId") UUID walletId,
+        @Param("referenceId") UUID referenceId, @Param("amount") Long amount,
+        @Param("type") String type, @Param("description") String description,
+        @Param("expireAt") LocalDateTime expireAt, @Param("now") LocalDateTime now);
+
+    @Query("select distinct h.wallet.id from PointHistory h where h.compacted = false")
+    List<UUID> findWalletIdsWithPendingHistory(Limit limit);
+
+    @Query("select h from PointHistory h where h.wallet.id = :walletId and h.compacted = false")
+    List<PointHistory> findPendingByWalletId(@Param("walletId") UUID walletId, Limit limit);
+
+    @Modifying
+    @Query("update PointHistory h set h.compacted = true where h.id in :ids and h.compacted = false")
+    int markCompacted(@Param("ids") List<UUID> ids);
 }
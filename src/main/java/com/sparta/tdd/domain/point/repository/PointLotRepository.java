@@ -0,0 +1,31 @@
+package com.sparta.tdd.domain.point.repository;
+
+import com.sparta.tdd.domain.point.entity.PointLot;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PointLotRepository extends JpaRepository<PointLot, UUID> {
+
+    // 차감 순서 : 같은 적립(referenceId)의 lot 먼저, 그다음 만료가 빠른 순 (FIFO)
+    @Query("""
+        select l from PointLot l
+        where l.walletId = :walletId
+        order by case when l.referenceId = :referenceId then 0 else 1 end, l.expireAt, l.id
+        """)
+    List<PointLot> findConsumeOrder(@Param("walletId") UUID walletId, @Param("referenceId") UUID referenceId);
+
+    // (expire_at, point_wallet_id) 인덱스 범위 스캔
+    @Query("select l.id from PointLot l where l.expireAt <= :now order by l.expireAt, l.walletId")
+    List<UUID> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("select distinct l.walletId from PointLot l where l.id in :ids")
+    List<UUID> findWalletIdsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select l from PointLot l where l.id in :ids and l.expireAt <= :now")
+    List<PointLot> findDueByIdIn(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
+}
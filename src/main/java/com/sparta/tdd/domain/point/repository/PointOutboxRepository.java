@@ -0,0 +1,41 @@
+package com.sparta.tdd.domain.point.repository;
+
+import com.sparta.tdd.domain.point.entity.PointOutbox;
+import com.sparta.tdd.domain.point.enums.PointOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PointOutboxRepository extends JpaRepository<PointOutbox, UUID> {
+
+    // 여러 인스턴스의 worker 가 같은 행을 잡지 않도록 잠긴 행은 건너뜀
+    @Query(value = """
+        select point_outbox_id from p_point_outbox
+        where status = 'PENDING' and next_attempt_at <= :now
+        order by next_attempt_at
+        limit :limit
+        for update skip locked
+        """, nativeQuery = true)
+    List<UUID> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 처리 중 인스턴스가 죽어도 lease 가 지나면 다시 잡힘
+    @Modifying
+    @Query("update PointOutbox o set o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil where o.id in :ids")
+    int claim(@Param("ids") List<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("select o from PointOutbox o where o.id in :ids order by o.createdAt")
+    List<PointOutbox> findAllByIdInOrderByCreatedAt(@Param("ids") List<UUID> ids);
+
+    @Modifying
+    @Query("update PointOutbox o set o.status = :status, o.lastError = null where o.id in :ids")
+    int updateStatus(@Param("ids") List<UUID> ids, @Param("status") PointOutboxStatus status);
+
+    @Modifying
+    @Query("update PointOutbox o set o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError where o.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("status") PointOutboxStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
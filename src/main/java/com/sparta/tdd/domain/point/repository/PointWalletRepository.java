@@ -1,10 +1,55 @@
 package com.sparta.tdd.domain.point.repository;
 
 import com.sparta.tdd.domain.point.entity.PointWallet;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PointWalletRepository extends JpaRepository<PointWallet, Long> {
+public interface PointWalletRepository extends JpaRepository<PointWallet, UUID> {
 
     Optional<PointWallet> findByUserId(Long id);
+
+    @Query("select w.id from PointWallet w where w.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") Long userId);
+
+    // 차감(취소/사용)끼리 잔액 판단이 겹치지 않도록 지갑 단위로 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from PointWallet w where w.user.id = :userId")
+    Optional<PointWallet> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    // 여러 지갑을 잠글 때는 id 순으로 잠가 교착을 피함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from PointWallet w where w.id in :ids order by w.id")
+    List<PointWallet> findAllByIdInForUpdate(@Param("ids") List<UUID> ids);
+
+    /**
+     * 현재 잔액 = 지갑 스냅샷 + 아직 접히지 않은 원장 금액의 합<br>
+     * 두 값을 한 문장(같은 스냅샷)에서 읽어, 그 사이 compaction 이 커밋되어도 접힌 금액이 빠지거나 두 번 더해지지 않습니다
+     */
+    @Query(value = """
+        select cast(w.balance + coalesce((
+            select sum(h.amount) from p_point_history h
+            where h.point_wallet_id = w.point_wallet_id and h.compacted = false
+        ), 0) as bigint)
+        from p_point_wallet w
+        where w.point_wallet_id = :walletId
+        """, nativeQuery = true)
+    long findCurrentBalance(@Param("walletId") UUID walletId);
+
+    // 동시에 첫 적립이 들어와도 지갑은 하나만 생성됨 (user_id 유니크)
+    @Modifying
+    @Query(value = """
+        insert into p_point_wallet (point_wallet_id, user_id, balance, version, created_at)
+        values (:id, :userId, 0, 0, :now)
+        on conflict (user_id) do nothing
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") Long userId,
+        @Param("now") LocalDateTime now);
 }
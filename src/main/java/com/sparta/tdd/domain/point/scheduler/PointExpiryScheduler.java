@@ -0,0 +1,60 @@
+package com.sparta.tdd.domain.point.scheduler;
+
+import com.sparta.tdd.domain.point.repository.PointLotRepository;
+import com.sparta.tdd.domain.point.service.PointService;
+import com.sparta.tdd.global.batch.ChunkLoop;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 만료 배치<br>
+ * 만료 시각이 지난 lot 을 (expire_at, wallet) 순으로 batch-size 만큼씩 읽어 chunk 마다 커밋합니다<br>
+ * 처리한 lot 은 지워지므로 다음 chunk/다음 실행은 항상 남은 lot 의 맨 앞에서 시작하고, 전체 테이블을 다시 훑지 않습니다
+ */
+@Slf4j(topic = "PointExpiryScheduler")
+@Component
+public class PointExpiryScheduler {
+
+    private final PointLotRepository lotRepository;
+    private final PointService pointService;
+    private final ChunkLoop chunkLoop;
+
+    public PointExpiryScheduler(
+        PointLotRepository lotRepository,
+        PointService pointService,
+        @Value("${point.expiry.batch-size:1000}") int batchSize,
+        @Value("${point.expiry.throttle-ms:50}") long throttleMillis
+    ) {
+        this.lotRepository = lotRepository;
+        this.pointService = pointService;
+        this.chunkLoop = new ChunkLoop(batchSize, throttleMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${point.expiry.interval-ms:600000}")
+    public void expirePoints() {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.currentTimeMillis();
+        AtomicLong expired = new AtomicLong();
+
+        // 처리한 lot 은 지워지므로 매 chunk 마다 맨 앞에서 다시 읽음
+        int chunks = chunkLoop.run(() -> {
+            List<UUID> lotIds = lotRepository.findDueIds(now, Limit.of(chunkLoop.batchSize()));
+            if (!lotIds.isEmpty()) {
+                expired.addAndGet(pointService.expireLots(lotIds, now));
+            }
+            return lotIds.size();
+        }).chunks();
+
+        if (chunks > 0) {
+            log.info("Point lots expired (chunks={}, lots={}, elapsed={}ms)",
+                chunks, expired.get(), System.currentTimeMillis() - startedAt);
+        }
+    }
+}
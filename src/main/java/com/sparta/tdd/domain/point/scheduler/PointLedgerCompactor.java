@@ -0,0 +1,91 @@
+package com.sparta.tdd.domain.point.scheduler;
+
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointWallet;
+import com.sparta.tdd.domain.point.repository.PointHistoryRepository;
+import com.sparta.tdd.domain.point.repository.PointWalletRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 원장 compaction<br>
+ * 아직 접히지 않은 원장 행의 합을 지갑 스냅샷에 더하고 해당 행을 compacted 로 표시합니다 (지갑 단위 트랜잭션)<br>
+ * 두 노드가 같은 지갑을 동시에 접으면 @Version 충돌로 한쪽이 롤백되고, 남은 행은 다음 실행에서 다시 접습니다
+ */
+@Slf4j(topic = "PointLedgerCompactor")
+@Component
+public class PointLedgerCompactor {
+
+    private final PointWalletRepository walletRepository;
+    private final PointHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int walletBatchSize;
+    private final int historyBatchSize;
+
+    public PointLedgerCompactor(
+        PointWalletRepository walletRepository,
+        PointHistoryRepository historyRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${point.compaction.wallet-batch-size:500}") int walletBatchSize,
+        @Value("${point.compaction.history-batch-size:1000}") int historyBatchSize
+    ) {
+        this.walletRepository = walletRepository;
+        this.historyRepository = historyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.walletBatchSize = walletBatchSize;
+        this.historyBatchSize = historyBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${point.compaction.interval-ms:60000}")
+    public void compact() {
+        long startedAt = System.currentTimeMillis();
+        List<UUID> walletIds = historyRepository.findWalletIdsWithPendingHistory(Limit.of(walletBatchSize));
+
+        long rows = 0;
+        int conflicts = 0;
+        for (UUID walletId : walletIds) {
+            try {
+                Integer folded = transactionTemplate.execute(status -> compactWallet(walletId));
+                rows += folded == null ? 0 : folded;
+            } catch (OptimisticLockingFailureException e) {
+                conflicts++;
+                log.debug("Wallet compaction conflicted, retry next run (walletId={})", walletId);
+            }
+        }
+
+        if (!walletIds.isEmpty()) {
+            log.info("Point ledger compacted (wallets={}, rows={}, conflicts={}, elapsed={}ms)",
+                walletIds.size(), rows, conflicts, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private int compactWallet(UUID walletId) {
+        List<PointHistory> pending = historyRepository.findPendingByWalletId(walletId, Limit.of(historyBatchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = pending.stream().map(PointHistory::getId).toList();
+        long delta = pending.stream().mapToLong(PointHistory::getAmount).sum();
+
+        // 그 사이 다른 compaction 이 일부를 먼저 접었다면 이 트랜잭션은 버림
+        int marked = historyRepository.markCompacted(ids);
+        if (marked != ids.size()) {
+            throw new ObjectOptimisticLockingFailureException(PointWallet.class, walletId);
+        }
+
+        PointWallet wallet = walletRepository.findById(walletId)
+            .orElseThrow(() -> new ObjectOptimisticLockingFailureException(PointWallet.class, walletId));
+        wallet.fold(delta);
+        return marked;
+    }
+}
@@ -0,0 +1,211 @@
+package com.sparta.tdd.domain.point.scheduler;
+
+import com.sparta.tdd.domain.point.dto.PointRequest;
+import com.sparta.tdd.domain.point.entity.PointOutbox;
+import com.sparta.tdd.domain.point.enums.PointOutboxStatus;
+import com.sparta.tdd.domain.point.repository.PointOutboxRepository;
+import com.sparta.tdd.domain.point.service.PointService;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 outbox 처리기
+ * <ol>
+ *     <li>선점 : 처리할 행을 SKIP LOCKED 로 골라 lease 시각까지 다른 worker 가 잡지 않도록 표시</li>
+ *     <li>반영 : 사용자별로 묶어 worker pool 에서 한 트랜잭션에 원장 반영 + 처리 완료 표시
+ *     (스케줄러 스레드는 기다리지 않고, 같은 사용자의 다음 묶음은 앞 묶음이 끝난 뒤 이어서 실행)</li>
+ *     <li>보정 : 묶음이 실패하면 요청 단위로 재시도하고, 실패한 요청만 backoff 후 다시 잡힘 (max-attempts 초과 시 FAILED)</li>
+ * </ol>
+ * 원장은 (reference_id, type) 유니크 키로 중복을 막으므로, 같은 요청을 여러 번 처리해도 한 번만 반영됩니다<br>
+ * 처리 중인 요청은 batch-size 까지만 두고, 그만큼 차 있으면 다음 poll 은 선점하지 않습니다 (lease 안에 처리되도록)
+ */
+@Slf4j(topic = "PointOutboxWorker")
+@Component
+public class PointOutboxWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PointOutboxRepository outboxRepository;
+    private final PointService pointService;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long leaseMillis;
+
+    // 사용자별 마지막 묶음 - 같은 사용자의 묶음끼리 순서대로 실행되도록 이어 붙임
+    private final Map<Long, CompletableFuture<Void>> inFlightByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightEvents = new AtomicInteger();
+
+    public PointOutboxWorker(
+        PointOutboxRepository outboxRepository,
+        PointService pointService,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${point.outbox.worker-threads:4}") int workerThreads,
+        @Value("${point.outbox.batch-size:200}") int batchSize,
+        @Value("${point.outbox.max-attempts:5}") int maxAttempts,
+        @Value("${point.outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+        @Value("${point.outbox.lease-ms:60000}") long leaseMillis
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.pointService = pointService;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+            Thread.ofPlatform().name("point-outbox-worker-", 0).daemon(true).factory());
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${point.outbox.poll-interval-ms:500}")
+    public void poll() {
+        int capacity = batchSize - inFlightEvents.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<PointOutbox> claimed = claim(capacity);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<PointOutbox>> byUser = claimed.stream()
+            .collect(Collectors.groupingBy(PointOutbox::getUserId, LinkedHashMap::new, Collectors.toList()));
+        byUser.forEach(this::submit);
+
+        log.debug("Point outbox submitted (events={}, users={})", claimed.size(), byUser.size());
+    }
+
+    // 같은 사용자의 앞 묶음이 아직 처리 중이면 그 뒤에 이어 붙임 (스케줄러 스레드는 기다리지 않음)
+    private void submit(Long userId, List<PointOutbox> events) {
+        inFlightEvents.addAndGet(events.size());
+        inFlightByUser.compute(userId, (id, previous) -> {
+            CompletableFuture<Void> after = previous == null
+                ? CompletableFuture.completedFuture(null)
+                : previous.exceptionally(e -> null);
+            CompletableFuture<Void> next = after.thenRunAsync(() -> processUser(events), workers);
+            next.whenComplete((ignored, e) -> {
+                inFlightEvents.addAndGet(-events.size());
+                inFlightByUser.remove(id, next);
+                if (e != null) {
+                    log.error("Point outbox batch failed (userId={}, events={})", id, events.size(), e);
+                }
+            });
+            return next;
+        });
+    }
+
+    private List<PointOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PointOutbox> claimed = transactionTemplate.execute(status -> {
+            List<UUID> ids = outboxRepository.findClaimableIds(now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepository.claim(ids, now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis)));
+            return outboxRepository.findAllByIdInOrderByCreatedAt(ids);
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void processUser(List<PointOutbox> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                events.forEach(this::apply);
+                outboxRepository.updateStatus(events.stream().map(PointOutbox::getId).toList(),
+                    PointOutboxStatus.PROCESSED);
+            });
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                retryLater(events.get(0), e);
+                return;
+            }
+            // 한 건 때문에 같은 사용자의 나머지 요청까지 밀리지 않도록 건별로 다시 처리
+            events.forEach(this::processOne);
+        }
+    }
+
+    private void processOne(PointOutbox event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                apply(event);
+                outboxRepository.updateStatus(List.of(event.getId()), PointOutboxStatus.PROCESSED);
+            });
+        } catch (RuntimeException e) {
+            retryLater(event, e);
+        }
+    }
+
+    private void apply(PointOutbox event) {
+        User user = userRepository.getReferenceById(event.getUserId());
+
+        if (event.isCancellation()) {
+            pointService.losePoints(user, event.getReferenceId());
+            return;
+        }
+
+        pointService.earnPoints(PointRequest.builder()
+            .user(user)
+            .referenceId(event.getReferenceId())
+            .type(event.getType())
+            .amount(event.getAmount())
+            .description(event.getDescription())
+            .build());
+    }
+
+    private void retryLater(PointOutbox event, RuntimeException cause) {
+        boolean exhausted = event.getAttempts() >= maxAttempts;
+        PointOutboxStatus status = exhausted ? PointOutboxStatus.FAILED : PointOutboxStatus.PENDING;
+        // 시도 횟수에 따라 backoff 를 두 배씩 늘림
+        long backoff = retryBackoffMillis << Math.clamp(event.getAttempts() - 1, 0, 10);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff));
+
+        transactionTemplate.executeWithoutResult(tx ->
+            outboxRepository.reschedule(event.getId(), status, nextAttemptAt, truncate(cause.getMessage())));
+
+        if (exhausted) {
+            log.error("Point outbox event failed (id={}, type={}, referenceId={}, attempts={})",
+                event.getId(), event.getType(), event.getReferenceId(), event.getAttempts(), cause);
+        } else {
+            log.warn("Point outbox event will be retried (id={}, attempts={}): {}",
+                event.getId(), event.getAttempts(), cause.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
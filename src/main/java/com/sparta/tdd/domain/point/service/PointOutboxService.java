@@ -0,0 +1,56 @@
+package com.sparta.tdd.domain.point.service;
+
+import com.sparta.tdd.domain.payment.entity.Payment;
+import com.sparta.tdd.domain.point.entity.PointOutbox;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.point.repository.PointOutboxRepository;
+import com.sparta.tdd.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제/리뷰 트랜잭션에 포인트 요청을 outbox 로 남깁니다<br>
+ * 호출한 트랜잭션과 함께 커밋/롤백되어야 하므로 진행 중인 트랜잭션이 없으면 실패합니다 (MANDATORY)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PointOutboxService {
+
+    private static final double ORDER_POINT_RATE = 0.01;
+    private static final long REVIEW_POINT_AMOUNT = 500L;
+
+    private final PointOutboxRepository outboxRepository;
+
+    public void appendPaymentCompleted(Payment payment) {
+        long earnAmount = (long) Math.floor(payment.getAmount() * ORDER_POINT_RATE);
+
+        outboxRepository.save(PointOutbox.builder()
+            .userId(payment.getUser().getId())
+            .referenceId(payment.getId())
+            .type(PointType.PAYMENT_EARNED)
+            .amount(earnAmount)
+            .description("결제 완료 적립 (결제번호 번호: " + payment.getId() + ")")
+            .build());
+    }
+
+    public void appendPaymentCancelled(Payment payment) {
+        outboxRepository.save(PointOutbox.builder()
+            .userId(payment.getUser().getId())
+            .referenceId(payment.getId())
+            .type(PointType.PAYMENT_CANCELLED)
+            .build());
+    }
+
+    public void appendReviewCreated(Review review) {
+        outboxRepository.save(PointOutbox.builder()
+            .userId(review.getUser().getId())
+            .referenceId(review.getId())
+            .type(PointType.REVIEW_EARNED)
+            .amount(REVIEW_POINT_AMOUNT)
+            .description("리뷰 적립 (리뷰 번호: " + review.getId() + ")")
+            .build());
+    }
+}
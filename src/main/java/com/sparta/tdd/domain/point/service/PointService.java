@@ -2,64 +2,135 @@ package com.sparta.tdd.domain.point.service;
 
 import com.sparta.tdd.domain.point.dto.PointRequest;
 import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointLot;
 import com.sparta.tdd.domain.point.entity.PointWallet;
 import com.sparta.tdd.domain.point.enums.PointType;
 import com.sparta.tdd.domain.point.repository.PointHistoryRepository;
+import com.sparta.tdd.domain.point.repository.PointLotRepository;
 import com.sparta.tdd.domain.point.repository.PointWalletRepository;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 포인트 적립/차감/만료<br>
+ * 모든 변동은 원장(PointHistory)에 한 줄씩 추가만 하고, 지갑 잔액 스냅샷은 PointLedgerCompactor 가 주기적으로 갱신합니다<br>
+ * 적립마다 lot(PointLot)을 만들고, 차감과 만료는 lot 을 만료가 빠른 순으로 소진해 원장 합계와 lot 잔여 합계를 같게 유지합니다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final long EARNED_POINT_VALID_YEARS = 1L;
+
     private final PointWalletRepository walletRepository;
     private final PointHistoryRepository historyRepository;
+    private final PointLotRepository lotRepository;
 
     @Transactional
     public void earnPoints(PointRequest request) {
-        if (isDuplicateEarn(request.referenceId(), request.type())) {
+        LocalDateTime now = LocalDateTime.now();
+        UUID walletId = getOrCreateWalletId(request.user(), now);
+
+        LocalDateTime expireAt = now.plusYears(EARNED_POINT_VALID_YEARS);
+
+        int appended = historyRepository.appendIfAbsent(UUID.randomUUID(), walletId,
+            request.referenceId(), request.amount(), request.type().name(), request.description(),
+            expireAt, now);
+
+        if (appended == 0) {
+            log.info("이미 적립된 포인트 referenceId={}, type={}", request.referenceId(), request.type());
             return;
         }
 
-        PointWallet wallet = getOrCreateWallet(request.user());
-        wallet.addBalance(request.amount());
+        if (request.amount() > 0) {
+            lotRepository.save(PointLot.builder()
+                .walletId(walletId)
+                .referenceId(request.referenceId())
+                .amount(request.amount())
+                .expireAt(expireAt)
+                .build());
+        }
+    }
 
-        PointHistory pointHistory = PointHistory.create(wallet, request,
-            LocalDateTime.now().plusYears(1));
+    @Transactional
+    public void losePoints(User user, UUID paymentId) {
+        PointWallet wallet = walletRepository.findByUserIdForUpdate(user.getId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        PointHistory earnedHistory = findPointHistory(paymentId);
+
+        // 잔액보다 많이 회수하지 않음
+        long balance = walletRepository.findCurrentBalance(wallet.getId());
+        long cancelAmount = Math.min(earnedHistory.getAmount(), Math.max(balance, 0L));
 
-        historyRepository.save(pointHistory);
+        LocalDateTime now = LocalDateTime.now();
+        int appended = historyRepository.appendIfAbsent(UUID.randomUUID(), wallet.getId(), paymentId,
+            -cancelAmount, PointType.PAYMENT_CANCELLED.name(),
+            "결제 취소 (결제번호: " + paymentId + ")", now, now);
+
+        // 이미 취소된 결제라면 lot 도 이미 소진됨
+        if (appended > 0) {
+            consumeLots(wallet.getId(), paymentId, cancelAmount);
+        }
     }
 
+    /**
+     * 만료 시각이 지난 lot 의 남은 금액을 원장에 만료(-)로 기록하고 lot 을 지웁니다<br>
+     * 차감과 같은 lot 을 동시에 건드리지 않도록 해당 지갑들을 먼저 잠급니다
+     *
+     * @param lotIds 만료 대상 후보 lot id (그 사이 소진된 lot 은 건너뜀)
+     * @return 만료 처리한 lot 수
+     */
     @Transactional
-    public void losePoints(User user, UUID paymentId) {
-        PointWallet wallet = findWalletById(user.getId());
-        PointHistory pointHistory = findPointHistory(paymentId);
-        Long usedAmount = wallet.subtractBalance(pointHistory.getAmount());
-
-        PointHistory cancelledHistory = PointHistory.builder()
-            .wallet(wallet)
-            .referenceId(paymentId)
-            .amount(usedAmount)
-            .type(PointType.PAYMENT_CANCELLED)
-            .description("결제 취소 (결제번호: " + paymentId + ")")
-            .expireAt(LocalDateTime.now())
-            .build();
-
-        historyRepository.save(cancelledHistory);
+    public int expireLots(List<UUID> lotIds, LocalDateTime now) {
+        List<UUID> walletIds = lotRepository.findWalletIdsByIdIn(lotIds);
+        walletRepository.findAllByIdInForUpdate(walletIds);
+
+        List<PointLot> dueLots = lotRepository.findDueByIdIn(lotIds, now);
+        for (PointLot lot : dueLots) {
+            // lot id 를 참조로 써서 같은 lot 이 두 번 만료되지 않음
+            historyRepository.appendIfAbsent(UUID.randomUUID(), lot.getWalletId(), lot.getId(),
+                -lot.getRemaining(), PointType.EXPIRED.name(), "포인트 만료 (적립 참조: " + lot.getReferenceId() + ")",
+                lot.getExpireAt(), now);
+        }
+        lotRepository.deleteAllInBatch(dueLots);
+        return dueLots.size();
     }
 
-    private PointWallet findWalletById(Long userId) {
-        return walletRepository.findByUserId(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    /**
+     * 현재 잔액 = 지갑 스냅샷 + 아직 접히지 않은 원장 금액의 합 (한 문장으로 읽음)
+     */
+    @Transactional(readOnly = true)
+    public long getBalance(Long userId) {
+        return walletRepository.findIdByUserId(userId)
+            .map(walletRepository::findCurrentBalance)
+            .orElse(0L);
+    }
+
+    private void consumeLots(UUID walletId, UUID referenceId, long amount) {
+        long left = amount;
+        List<PointLot> exhausted = new ArrayList<>();
+
+        for (PointLot lot : lotRepository.findConsumeOrder(walletId, referenceId)) {
+            if (left <= 0) {
+                break;
+            }
+            left -= lot.consume(left);
+            if (lot.isExhausted()) {
+                exhausted.add(lot);
+            }
+        }
+
+        lotRepository.deleteAllInBatch(exhausted);
     }
 
     private PointHistory findPointHistory(UUID paymentId) {
@@ -68,18 +139,12 @@ public class PointService {
             .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
     }
 
-
-    private PointWallet getOrCreateWallet(User user) {
-        return walletRepository.findByUserId(user.getId())
-            .orElseGet(() -> walletRepository.save(PointWallet.builder()
-                .user(user)
-                .build()));
-    }
-
-    private boolean isDuplicateEarn(UUID referenceId, PointType type) {
-        if (referenceId == null || type == null) {
-            return false;
-        }
-        return historyRepository.existsByReferenceIdAndTypeAndDeletedAtIsNull(referenceId, type);
+    private UUID getOrCreateWalletId(User user, LocalDateTime now) {
+        return walletRepository.findIdByUserId(user.getId())
+            .orElseGet(() -> {
+                walletRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), now);
+                return walletRepository.findIdByUserId(user.getId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            });
     }
 }
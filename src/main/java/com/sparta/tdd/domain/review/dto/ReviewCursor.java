@@ -0,0 +1,36 @@
+package com.sparta.tdd.domain.review.dto;
+
+import com.sparta.tdd.global.exception.ErrorCode;
+import com.sparta.tdd.global.pageable.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리뷰 목록 커서(keyset) 페이징의 기준점<br>
+ * 마지막으로 내려준 리뷰의 createdAt + id 를 KeysetCursor 로 감싸 클라이언트에게 전달합니다
+ *
+ * @param createdAt 마지막 리뷰의 생성 시간
+ * @param id        마지막 리뷰의 id (createdAt 이 같은 리뷰 간의 순서 보장용)
+ */
+public record ReviewCursor(
+    LocalDateTime createdAt,
+    UUID id
+) {
+
+    private static final int KEY_COUNT = 2;
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, id);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지라면 null 또는 빈 문자열)
+     * @return 해석된 커서, 첫 페이지라면 null
+     */
+    public static ReviewCursor decodeOrNull(String cursor) {
+        return KeysetCursor.decodeOrNull(cursor, KEY_COUNT, ErrorCode.INVALID_REVIEW_CURSOR, keys ->
+            new ReviewCursor(LocalDateTime.parse(keys[0]), UUID.fromString(keys[1])));
+    }
+}
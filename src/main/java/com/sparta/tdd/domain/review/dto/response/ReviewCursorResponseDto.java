@@ -0,0 +1,21 @@
+package com.sparta.tdd.domain.review.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "커서 기반 리뷰 목록 응답 DTO")
+public record ReviewCursorResponseDto(
+
+        @Schema(description = "리뷰 목록")
+        List<ReviewResponseDto> content,
+
+        @Schema(description = "이번 응답의 리뷰 수", example = "10")
+        int size,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)")
+        String nextCursor
+) {
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,10 +19,6 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     @Query("SELECT r FROM Review r WHERE r.id = :reviewId AND r.deletedAt IS NULL")
     Optional<Review> findByIdAndNotDeleted(@Param("reviewId") UUID reviewId);
 
-    // 특정 유저의 삭제되지 않은 리뷰 목록 조회
-    @Query("SELECT r FROM Review r WHERE r.user.id = :userId AND r.deletedAt IS NULL")
-    List<Review> findByUserIdAndNotDeleted(@Param("userId") Long userId);
-
     // 특정 가게의 삭제되지 않은 리뷰 목록 조회
     @Query("SELECT r FROM Review r WHERE r.store.id = :storeId AND r.deletedAt IS NULL")
     List<Review> findByStoreIdAndNotDeleted(@Param("storeId") UUID storeId);
@@ -29,6 +26,37 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     @Query("SELECT r FROM Review r WHERE r.store.id = :storeId AND r.deletedAt IS NULL")
     Page<Review> findPageByStoreIdAndNotDeleted(@Param("storeId") UUID storeId, Pageable pageable);
 
+    // 특정 유저의 삭제되지 않은 리뷰 페이지 조회 (정렬/offset/limit 은 DB 에서 처리)
+    @Query(value = "SELECT r FROM Review r WHERE r.user.id = :userId AND r.deletedAt IS NULL",
+        countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user.id = :userId AND r.deletedAt IS NULL")
+    Page<Review> findPageByUserIdAndNotDeleted(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 특정 유저의 삭제되지 않은 리뷰를 최신순(createdAt, id 내림차순)으로 커서 다음부터 limit 건 조회<br>
+     * (user_id, created_at DESC, review_id DESC) 인덱스를 따라 읽으므로 앞 페이지를 건너뛰는 비용이 없습니다
+     */
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.user.id = :userId
+            AND r.deletedAt IS NULL
+            AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<Review> findLatestByUserIdBefore(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") UUID id,
+        Limit limit);
+
+    // 커서 첫 페이지
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.user.id = :userId
+            AND r.deletedAt IS NULL
+        ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<Review> findLatestByUserId(@Param("userId") Long userId, Limit limit);
+
     // 특정 가게의 평균 평점 조회
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.store.id = :storeId AND r.deletedAt IS NULL")
     Double findAverageRatingByStoreId(@Param("storeId") UUID storeId);
@@ -2,8 +2,10 @@ package com.sparta.tdd.domain.review.service;
 
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
+import com.sparta.tdd.domain.point.service.PointOutboxService;
 import com.sparta.tdd.domain.review.dto.*;
 import com.sparta.tdd.domain.review.dto.request.ReviewRequestDto;
+import com.sparta.tdd.domain.review.dto.response.ReviewCursorResponseDto;
 import com.sparta.tdd.domain.review.dto.response.ReviewResponseDto;
 import com.sparta.tdd.domain.review.entity.Review;
 import com.sparta.tdd.domain.review.entity.ReviewReply;
@@ -16,15 +18,16 @@ import com.sparta.tdd.domain.user.repository.UserRepository;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,11 +41,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final ReviewRepository reviewRepository;
     private final ReviewReplyRepository reviewReplyRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final OrderRepository orderRepository;
+    private final PointOutboxService pointOutboxService;
 
     // 리뷰 등록
     @Transactional
@@ -56,8 +62,9 @@ public class ReviewService {
         Review review = request.toEntity(user, store, order);
 
         Review savedReview = reviewRepository.save(review);
+        pointOutboxService.appendReviewCreated(savedReview);
 
-        updateStoreRating(store);
+        storeRepository.applyRatingDelta(store.getId(), savedReview.getRating(), 1);
         return ReviewResponseDto.from(savedReview);
     }
 
@@ -70,10 +77,13 @@ public class ReviewService {
             throw new BusinessException(ErrorCode.REVIEW_NOT_OWNED);
         }
 
+        int previousRating = review.getRating();
         review.updateContent(request.rating(), request.photos(), request.content());
 
-        Store store = review.getStore();
-        updateStoreRating(store);
+        int ratingDelta = review.getRating() - previousRating;
+        if (ratingDelta != 0) {
+            storeRepository.applyRatingDelta(review.getStore().getId(), ratingDelta, 0);
+        }
 
         return ReviewResponseDto.from(review);
     }
@@ -96,26 +106,75 @@ public class ReviewService {
     // 리뷰 목록 조회 (가게별, 답글 포함)
     public Page<ReviewResponseDto> getReviewsByStore(UUID storeId, Pageable pageable) {
         Page<Review> reviews = reviewRepository.findPageByStoreIdAndNotDeleted(storeId, pageable);
+        Map<UUID, ReviewReply> replyMap = findReplyMap(reviews.getContent());
+
+        return reviews.map(review -> toResponse(review, replyMap));
+    }
+
+    // 리뷰 목록 조회 (유저별, 답글 포함) - 정렬이 없으면 최신순
+    public Page<ReviewResponseDto> getReviewsByUser(Long userId, Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LATEST_FIRST);
+
+        Page<Review> reviews = reviewRepository.findPageByUserIdAndNotDeleted(userId, sorted);
+        Map<UUID, ReviewReply> replyMap = findReplyMap(reviews.getContent());
+
+        return reviews.map(review -> toResponse(review, replyMap));
+    }
+
+    /**
+     * 유저별 리뷰 커서 조회 (최신순, 답글 포함)<br>
+     * count 쿼리 없이 size + 1 건을 읽어 다음 페이지 존재 여부를 판단합니다
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지라면 null)
+     */
+    public ReviewCursorResponseDto getReviewsByUser(Long userId, String cursor, int size) {
+        ReviewCursor after = ReviewCursor.decodeOrNull(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<Review> reviews = after == null
+                ? reviewRepository.findLatestByUserId(userId, limit)
+                : reviewRepository.findLatestByUserIdBefore(userId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = reviews.size() > size;
+        List<Review> page = hasNext ? reviews.subList(0, size) : reviews;
+        Map<UUID, ReviewReply> replyMap = findReplyMap(page);
+
+        List<ReviewResponseDto> content = page.stream()
+                .map(review -> toResponse(review, replyMap))
+                .toList();
 
-        List<UUID> reviewIds = reviews.getContent().stream()
+        Review last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? new ReviewCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return new ReviewCursorResponseDto(content, content.size(), hasNext, nextCursor);
+    }
+
+    // 페이지의 리뷰 답글을 IN 한 번으로 조회
+    private Map<UUID, ReviewReply> findReplyMap(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> reviewIds = reviews.stream()
                 .map(Review::getId)
                 .toList();
 
-        Map<UUID, ReviewReply> replyMap = reviewReplyRepository.findByReviewIdsAndNotDeleted(reviewIds)
+        return reviewReplyRepository.findByReviewIdsAndNotDeleted(reviewIds)
                 .stream()
                 .collect(Collectors.toMap(ReviewReply::getReviewId, reply -> reply));
+    }
 
-        return reviews.map(review -> {
-            ReviewReply reply = replyMap.get(review.getId());
+    private ReviewResponseDto toResponse(Review review, Map<UUID, ReviewReply> replyMap) {
+        ReviewReply reply = replyMap.get(review.getId());
 
-            if (reply != null) {
-                ReviewResponseDto.ReviewReplyInfo replyInfo =
-                        new ReviewResponseDto.ReviewReplyInfo(reply.getContent());
-                return ReviewResponseDto.from(review, replyInfo);
-            }
+        if (reply != null) {
+            ReviewResponseDto.ReviewReplyInfo replyInfo =
+                    new ReviewResponseDto.ReviewReplyInfo(reply.getContent());
+            return ReviewResponseDto.from(review, replyInfo);
+        }
 
-            return ReviewResponseDto.from(review, null);
-        });
+        return ReviewResponseDto.from(review, null);
     }
 
     // 리뷰 삭제
@@ -128,19 +187,7 @@ public class ReviewService {
         }
 
         review.delete(userId);
-        Store store = review.getStore();
-        updateStoreRating(store);
-    }
-
-    // 평점 계산 및 업데이트 메서드
-    private void updateStoreRating(Store store) {
-        Double avgRating = reviewRepository.findAverageRatingByStoreId(store.getId());
-        Long reviewCount = reviewRepository.countByStoreIdAndNotDeleted(store.getId());
-
-        store.updateRatingInfo(
-                avgRating != null ? BigDecimal.valueOf(avgRating) : BigDecimal.ZERO,
-                reviewCount.intValue()
-        );
+        storeRepository.applyRatingDelta(review.getStore().getId(), -review.getRating(), -1);
     }
 
     private Review findReviewById(UUID reviewId) {
@@ -46,12 +46,17 @@ public class Store extends BaseEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
-    @Column(name = "avg_rating", precision = 2, scale = 1)
+    // 평점 컬럼은 StoreRepository 의 증분/재집계 UPDATE 로만 바꿈 - 가게 수정 flush 가 읽어둔 값으로 덮어쓰지 않도록 제외
+    @Column(name = "avg_rating", precision = 2, scale = 1, updatable = false)
     private BigDecimal avgRating;
 
-    @Column(name = "review_count")
+    @Column(name = "review_count", updatable = false)
     private Integer reviewCount;
 
+    // 삭제되지 않은 리뷰 평점 합 - 평균은 리뷰 변경 시 (합, 개수) 증분으로 다시 계산
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -65,6 +70,7 @@ public class Store extends BaseEntity {
         this.imageUrl = imageUrl;
         this.avgRating = BigDecimal.ZERO;
         this.reviewCount = 0;
+        this.ratingSum = 0L;
         this.user = user;
     }
 
@@ -82,9 +88,4 @@ public class Store extends BaseEntity {
     public boolean isOwner(User user) {
         return this.getUser().getId().equals(user.getId());
     }
-
-    public void updateRatingInfo(BigDecimal newAvgRating, Integer newReviewCount) {
-        this.avgRating = newAvgRating;
-        this.reviewCount = newReviewCount;
-    }
 }
@@ -0,0 +1,37 @@
+package com.sparta.tdd.domain.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게별 주문 통계 (p_order / p_payment 사전 집계)<br>
+ * 주문 생성, 결제 완료/취소 트랜잭션에서 upsert 로 누적되며, 가게 검색의 주문 수 정렬은 p_order 를 세지 않고 이 값을 사용합니다
+ */
+@Entity
+@Table(name = "p_store_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreStats {
+
+    // p_store 와 같은 id 를 사용 (직접 할당)
+    @Id
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // 결제 완료 금액 합 - 완료 후 취소된 결제는 차감
+    @Column(name = "revenue", nullable = false)
+    private long revenue;
+
+    @Column(name = "last_ordered_at")
+    private LocalDateTime lastOrderedAt;
+}
@@ -28,4 +28,62 @@ public interface StoreRepository extends JpaRepository<Store, UUID>, StoreReposi
     List<UUID> findStoreIdsByUserIdAndDeletedAtIsNull(Long userId);
 
     boolean existsByIdAndUserIdAndDeletedAtIsNull(UUID storeId, Long userId);
+
+    /**
+     * 평점 합/리뷰 수에 변화량을 더하고 평균을 다시 계산합니다 (가게 리뷰 전체를 다시 집계하지 않음)<br>
+     * 읽고 쓰지 않고 한 문장으로 누적하므로 같은 가게의 동시 리뷰끼리 값을 덮어쓰지 않습니다
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE p_store
+        SET rating_sum = rating_sum + :ratingDelta,
+            review_count = review_count + :countDelta,
+            avg_rating = CASE WHEN review_count + :countDelta > 0
+                THEN ROUND(CAST(rating_sum + :ratingDelta AS numeric) / (review_count + :countDelta), 1)
+                ELSE 0 END
+        WHERE store_id = :storeId
+        """, nativeQuery = true)
+    int applyRatingDelta(
+        @Param("storeId") UUID storeId,
+        @Param("ratingDelta") int ratingDelta,
+        @Param("countDelta") int countDelta);
+
+    /**
+     * 평점 재집계 batch 용 - after 다음 가게 id 를 id 순으로 잠그고 반환합니다<br>
+     * 재집계가 끝날 때까지 같은 가게의 증분 갱신이 기다리므로 재집계 결과를 덮어쓰지 않습니다<br>
+     * 키를 바꾸지 않으므로 FOR NO KEY UPDATE 로 잠가, 가게를 참조하는 주문/리뷰 insert 의 FK 확인(KEY SHARE)은 막지 않습니다
+     */
+    @Query(value = """
+        SELECT store_id FROM p_store
+        WHERE store_id > :after
+        ORDER BY store_id
+        LIMIT :limit
+        FOR NO KEY UPDATE
+        """, nativeQuery = true)
+    List<UUID> lockStoreIdsAfter(@Param("after") UUID after, @Param("limit") int limit);
+
+    /**
+     * 잠근 가게들의 평점 합/리뷰 수/평균을 p_review 에서 다시 집계하고, 값이 어긋난 가게만 고칩니다
+     *
+     * @return 보정된 가게 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE p_store s
+        SET rating_sum = agg.rating_sum,
+            review_count = agg.review_count,
+            avg_rating = CASE WHEN agg.review_count > 0
+                THEN ROUND(CAST(agg.rating_sum AS numeric) / agg.review_count, 1)
+                ELSE 0 END
+        FROM (SELECT st.store_id,
+                     COALESCE(SUM(r.rating), 0) AS rating_sum,
+                     COUNT(r.review_id) AS review_count
+              FROM p_store st
+              LEFT JOIN p_review r ON r.store_id = st.store_id AND r.deleted_at IS NULL
+              WHERE st.store_id IN (:storeIds)
+              GROUP BY st.store_id) agg
+        WHERE s.store_id = agg.store_id
+          AND (s.rating_sum <> agg.rating_sum OR s.review_count IS DISTINCT FROM agg.review_count)
+        """, nativeQuery = true)
+    int recomputeRatings(@Param("storeIds") List<UUID> storeIds);
 }
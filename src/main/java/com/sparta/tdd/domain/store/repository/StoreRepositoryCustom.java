@@ -1,6 +1,6 @@
 package com.sparta.tdd.domain.store.repository;
 
-import com.querydsl.core.Tuple;
+import com.sparta.tdd.domain.store.dto.StoreResponseDto;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import java.util.List;
 import java.util.UUID;
@@ -11,7 +11,7 @@ public interface StoreRepositoryCustom {
     List<UUID> findPagedStoreIdsByKeyword(Pageable pageable, String keyword,
         StoreCategory storeCategory);
 
-    List<Tuple> findStoresWithMenusByIds(List<UUID> storeIds);
+    List<StoreResponseDto> findStoresByIds(List<UUID> storeIds);
 
     Long countStoresByKeyword(String keyword, StoreCategory storeCategory);
 }
@@ -1,15 +1,17 @@
 package com.sparta.tdd.domain.store.repository;
 
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.tdd.domain.menu.entity.QMenu;
-import com.sparta.tdd.domain.order.entity.QOrder;
+import com.sparta.tdd.domain.store.dto.StoreResponseDto;
 import com.sparta.tdd.domain.store.entity.QStore;
+import com.sparta.tdd.domain.store.entity.QStoreStats;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.user.entity.QUser;
 import java.util.ArrayList;
@@ -24,71 +26,126 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 가게 x 메뉴 join 후 group by 하지 않고, 가게 한 행마다 조건을 검사합니다<br>
+     * 가게명/메뉴명 LIKE 가 각각 단일 테이블의 lower(name) 에만 걸리므로 trigram(bigram) GIN 인덱스를 탈 수 있습니다
+     */
     @Override
     public List<UUID> findPagedStoreIdsByKeyword(Pageable pageable, String keyword,
         StoreCategory storeCategory) {
 
         QStore store = QStore.store;
-        QMenu menu = QMenu.menu;
-        QOrder order = QOrder.order;
+        QStoreStats stats = QStoreStats.storeStats;
 
-        return queryFactory
+        JPAQuery<UUID> query = queryFactory
             .select(store.id)
-            .from(store)
-            .leftJoin(menu).on(menu.store.eq(store))
-            .where(
-                storeIsNotDeleted(),
-                menuIsNotHidden(),
-                storeCategoryEq(storeCategory),
-                storeNameLike(keyword)
-                    .or(menuNameLike(keyword))
-            )
-            .groupBy(store.id)
-            .orderBy(toOrderSpecifiers(pageable, store, order))
+            .from(store);
+
+        // 주문 수 정렬일 때만 사전 집계 테이블을 PK 로 붙임
+        if (pageable.getSort().getOrderFor("orderCount") != null) {
+            query.leftJoin(stats).on(stats.storeId.eq(store.id));
+        }
+
+        return query
+            .where(searchCondition(keyword, storeCategory))
+            .orderBy(toOrderSpecifiers(pageable, store, stats))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
     }
 
+    /**
+     * 검색 응답에 필요한 가게 컬럼만 조회합니다 (메뉴는 MenuRepository 에서 따로 조회)<br>
+     * 점주 이름은 user 를 inner join, 주문 수는 통계 행을 PK 로 붙여 가져오며 반환 순서는 보장하지 않습니다
+     */
     @Override
-    public List<Tuple> findStoresWithMenusByIds(List<UUID> storeIds) {
+    public List<StoreResponseDto> findStoresByIds(List<UUID> storeIds) {
         QStore store = QStore.store;
         QUser user = QUser.user;
-        QMenu menu = QMenu.menu;
+        QStoreStats stats = QStoreStats.storeStats;
+        NumberExpression<Long> orderCount = stats.orderCount.coalesce(0L);
 
         return queryFactory
-            .select(store, menu)
+            .select(store.id, store.name, user.username, store.category, store.description,
+                store.imageUrl, store.avgRating, store.reviewCount, orderCount)
             .from(store)
-            .leftJoin(store.user, user).fetchJoin()
-            .leftJoin(menu).on(menu.store.eq(store)).fetchJoin()
+            .join(store.user, user)
+            .leftJoin(stats).on(stats.storeId.eq(store.id))
             .where(store.id.in(storeIds))
-            .fetch();
+            .fetch()
+            .stream()
+            .map(row -> StoreResponseDto.builder()
+                .id(row.get(store.id))
+                .name(row.get(store.name))
+                .ownerName(row.get(user.username))
+                .category(row.get(store.category))
+                .description(row.get(store.description))
+                .imageUrl(row.get(store.imageUrl))
+                .avgRating(row.get(store.avgRating))
+                .reviewCount(row.get(store.reviewCount))
+                .orderCount(row.get(orderCount))
+                .menus(List.of())
+                .build())
+            .toList();
     }
 
     @Override
     public Long countStoresByKeyword(String keyword, StoreCategory storeCategory) {
         QStore store = QStore.store;
-        QMenu menu = QMenu.menu;
 
         return queryFactory
-            .select(store.countDistinct())
+            .select(store.count())
             .from(store)
-            .leftJoin(menu).on(menu.store.eq(store))
-            .where(
-                storeCategoryEq(storeCategory),
-                storeNameLike(keyword).or(menuNameLike(keyword))
-            )
+            .where(searchCondition(keyword, storeCategory))
             .fetchOne();
     }
 
+    /**
+     * 목록과 개수 조회가 같은 조건을 쓰도록 모아둠
+     * <ul>
+     *     <li>삭제되지 않은 가게 + 노출 중인(숨김/삭제되지 않은) 메뉴가 하나 이상 있는 가게</li>
+     *     <li>키워드가 있으면 가게명에 포함되거나, 노출 중인 메뉴 중 이름에 포함된 메뉴가 있는 가게</li>
+     * </ul>
+     */
+    private BooleanExpression[] searchCondition(String keyword, StoreCategory storeCategory) {
+        String normalized = (keyword == null || keyword.isBlank()) ? null : keyword;
+
+        return new BooleanExpression[]{
+            storeIsNotDeleted(),
+            storeCategoryEq(storeCategory),
+            hasVisibleMenu(),
+            storeNameLike(normalized) == null ? null
+                : storeNameLike(normalized).or(hasVisibleMenuNamed(normalized))
+        };
+    }
+
+    private BooleanExpression hasVisibleMenu() {
+        QStore store = QStore.store;
+        QMenu menu = QMenu.menu;
+        return JPAExpressions.selectOne()
+            .from(menu)
+            .where(menu.store.id.eq(store.id), menuIsVisible())
+            .exists();
+    }
+
+    // 메뉴명으로 찾은 가게 id 집합은 store 와 상관없는 서브쿼리라 한 번만 계산됨 (hashed subplan)
+    private BooleanExpression hasVisibleMenuNamed(String keyword) {
+        QStore store = QStore.store;
+        QMenu menu = QMenu.menu;
+        return store.id.in(JPAExpressions.select(menu.store.id)
+            .from(menu)
+            .where(menuNameLike(keyword), menuIsVisible()));
+    }
+
     private BooleanExpression storeIsNotDeleted() {
         QStore store = QStore.store;
         return store.deletedAt.isNull();
     }
 
-    private BooleanExpression menuIsNotHidden() {
+    // 가게 일괄 삭제는 메뉴의 deletedAt 만 채우므로 isHidden 과 함께 확인
+    private BooleanExpression menuIsVisible() {
         QMenu menu = QMenu.menu;
-        return menu.isHidden.isFalse();
+        return menu.isHidden.isFalse().and(menu.deletedAt.isNull());
     }
 
 
@@ -107,7 +164,7 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
         return storeCategory != null ? store.category.eq(storeCategory) : null;
     }
 
-    private OrderSpecifier<?>[] toOrderSpecifiers(Pageable pageable, QStore store, QOrder order) {
+    private OrderSpecifier<?>[] toOrderSpecifiers(Pageable pageable, QStore store, QStoreStats stats) {
         Sort sort = pageable.getSort();
 
         if (sort.isUnsorted()) {
@@ -128,10 +185,8 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
                 case "createdAt" ->
                     orders.add(asc ? store.createdAt.asc() : store.createdAt.desc());
                 case "orderCount" -> {
-                    Expression<Long> orderCountExpr = JPAExpressions
-                        .select(order.count())
-                        .from(order)
-                        .where(order.store.id.eq(store.id));
+                    // 통계 행이 없는 가게(주문 없음)는 0
+                    Expression<Long> orderCountExpr = stats.orderCount.coalesce(0L);
                     orders.add(new OrderSpecifier<>(asc ? Order.ASC : Order.DESC, orderCountExpr));
                 }
                 default -> store.avgRating.desc();
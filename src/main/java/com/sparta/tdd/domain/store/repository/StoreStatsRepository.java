@@ -0,0 +1,38 @@
+package com.sparta.tdd.domain.store.repository;
+
+import com.sparta.tdd.domain.store.entity.StoreStats;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreStatsRepository extends JpaRepository<StoreStats, UUID> {
+
+    /**
+     * 주문 수 +1, 마지막 주문 시각 갱신 (행이 없으면 생성)<br>
+     * 읽고 쓰지 않고 한 문장으로 누적하므로 동시 주문끼리 값을 덮어쓰지 않습니다
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO p_store_stats (store_id, order_count, revenue, last_ordered_at)
+        VALUES (:storeId, 1, 0, :orderedAt)
+        ON CONFLICT (store_id) DO UPDATE
+        SET order_count = p_store_stats.order_count + 1,
+            last_ordered_at = GREATEST(p_store_stats.last_ordered_at, EXCLUDED.last_ordered_at)
+        """, nativeQuery = true)
+    int incrementOrderCount(@Param("storeId") UUID storeId, @Param("orderedAt") LocalDateTime orderedAt);
+
+    /**
+     * 매출 누적 (취소는 음수 금액)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO p_store_stats (store_id, order_count, revenue, last_ordered_at)
+        VALUES (:storeId, 0, :amount, NULL)
+        ON CONFLICT (store_id) DO UPDATE
+        SET revenue = p_store_stats.revenue + EXCLUDED.revenue
+        """, nativeQuery = true)
+    int addRevenue(@Param("storeId") UUID storeId, @Param("amount") long amount);
+}
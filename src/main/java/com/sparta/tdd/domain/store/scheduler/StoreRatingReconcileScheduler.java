@@ -0,0 +1,83 @@
+package com.sparta.tdd.domain.store.scheduler;
+
+import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.global.batch.ChunkLoop;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가게 평점 재집계 배치<br>
+ * 평점은 리뷰 변경 시 증분으로만 갱신되므로, 회원 탈퇴 bulk 삭제처럼 증분을 거치지 않은 변경이나 어긋난 값을
+ * 가게 id 순으로 batch-size 개씩 p_review 에서 다시 집계해 맞추고 chunk 마다 커밋합니다
+ */
+@Slf4j(topic = "StoreRatingReconcileScheduler")
+@Component
+@ConditionalOnProperty(prefix = "store.rating-reconcile", name = "enabled", havingValue = "true")
+public class StoreRatingReconcileScheduler {
+
+    // PostgreSQL uuid 는 byte 순으로 비교하므로 nil UUID 가 가장 앞 - 첫 chunk 의 기준점
+    private static final UUID FIRST = new UUID(0L, 0L);
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ChunkLoop chunkLoop;
+
+    public StoreRatingReconcileScheduler(
+        StoreRepository storeRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${store.rating-reconcile.batch-size:500}") int batchSize,
+        @Value("${store.rating-reconcile.throttle-ms:100}") long throttleMillis
+    ) {
+        this.storeRepository = storeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkLoop = new ChunkLoop(batchSize, throttleMillis);
+    }
+
+    @Scheduled(cron = "${store.rating-reconcile.cron:0 0 4 * * *}")
+    public void reconcileRatings() {
+        long startedAt = System.currentTimeMillis();
+        AtomicReference<UUID> after = new AtomicReference<>(FIRST);
+        AtomicLong scanned = new AtomicLong();
+        AtomicLong corrected = new AtomicLong();
+
+        chunkLoop.run(() -> {
+            Chunk chunk = reconcileChunk(after.get());
+            if (chunk == null) {
+                return 0;
+            }
+            scanned.addAndGet(chunk.size());
+            corrected.addAndGet(chunk.corrected());
+            after.set(chunk.lastStoreId());
+            return chunk.size();
+        });
+
+        if (corrected.get() > 0) {
+            log.info("Store ratings reconciled (stores={}, corrected={}, elapsed={}ms)",
+                scanned.get(), corrected.get(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private Chunk reconcileChunk(UUID after) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> storeIds = storeRepository.lockStoreIdsAfter(after, chunkLoop.batchSize());
+            if (storeIds.isEmpty()) {
+                return new Chunk(after, 0, 0);
+            }
+            int corrected = storeRepository.recomputeRatings(storeIds);
+            return new Chunk(storeIds.get(storeIds.size() - 1), storeIds.size(), corrected);
+        });
+    }
+
+    private record Chunk(UUID lastStoreId, int size, int corrected) {
+
+    }
+}
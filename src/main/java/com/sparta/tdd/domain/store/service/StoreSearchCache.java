@@ -0,0 +1,82 @@
+package com.sparta.tdd.domain.store.service;
+
+import com.sparta.tdd.domain.store.dto.StoreResponseDto;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 검색 결과 캐시 (키 : 정규화된 키워드, 카테고리, 페이지, 크기, 정렬)<br>
+ * 가게/메뉴가 바뀌면 그 가게가 나올 수 있는 카테고리의 결과와 카테고리 없는 검색 결과만 지웁니다<br>
+ * 평점, 주문 수처럼 자주 바뀌는 값은 지우지 않고 TTL(store.search-cache.ttl-seconds) 만큼의 지연을 허용합니다
+ */
+@RequiredArgsConstructor
+@Component
+public class StoreSearchCache {
+
+    public static final String CACHE_NAME = "storeSearch";
+
+    private final CacheManager cacheManager;
+
+    public record Key(String keyword, StoreCategory category, int page, int size, String sort) {
+
+        public static Key of(String keyword, StoreCategory category, Pageable pageable) {
+            return new Key(keyword == null ? "" : keyword, category,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Page<StoreResponseDto> get(Key key) {
+        Cache.ValueWrapper cached = cache().get(key);
+        return cached == null ? null : (Page<StoreResponseDto>) cached.get();
+    }
+
+    public void put(Key key, Page<StoreResponseDto> result) {
+        cache().put(key, result);
+    }
+
+    /**
+     * 커밋 후에 지워 커밋 전 데이터로 다시 채워지는 것을 줄입니다 (트랜잭션 밖이면 바로 지움)
+     *
+     * @param categories 변경 전/후 가게 카테고리
+     */
+    public void evictAfterCommit(StoreCategory... categories) {
+        Set<StoreCategory> affected = EnumSet.noneOf(StoreCategory.class);
+        Arrays.stream(categories).filter(Objects::nonNull).forEach(affected::add);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(affected);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(affected);
+            }
+        });
+    }
+
+    private void evict(Set<StoreCategory> affected) {
+        if (cache().getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key ->
+                key instanceof Key k && (k.category() == null || affected.contains(k.category())));
+            return;
+        }
+        cache().clear();
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -1,11 +1,9 @@
 package com.sparta.tdd.domain.store.service;
 
-import static com.sparta.tdd.domain.store.entity.QStore.store;
-
-import com.querydsl.core.Tuple;
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
 import com.sparta.tdd.domain.menu.dto.MenuWithStoreResponseDto;
-import com.sparta.tdd.domain.menu.entity.QMenu;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
 import com.sparta.tdd.domain.store.dto.StoreRequestDto;
 import com.sparta.tdd.domain.store.dto.StoreResponseDto;
 import com.sparta.tdd.domain.store.entity.Store;
@@ -18,9 +16,11 @@ import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -35,12 +35,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class StoreService {
 
     private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
     private final UserRepository userRepository;
+    private final StoreSearchCache storeSearchCache;
+    private final MenuCatalogCache menuCatalogCache;
 
     public Page<StoreResponseDto> searchStoresByKeywordAndCategoryWithMenus(String keyword,
         StoreCategory storeCategory,
         Pageable pageable) {
 
+        // 검색은 대소문자를 구분하지 않으므로 같은 검색이 같은 캐시 키를 쓰도록 정규화
+        String normalizedKeyword = keyword == null ? null : keyword.strip().toLowerCase(Locale.ROOT);
+        StoreSearchCache.Key cacheKey = StoreSearchCache.Key.of(normalizedKeyword, storeCategory, pageable);
+
+        Page<StoreResponseDto> cached = storeSearchCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Page<StoreResponseDto> result = searchStores(normalizedKeyword, storeCategory, pageable);
+        storeSearchCache.put(cacheKey, result);
+        return result;
+    }
+
+    private Page<StoreResponseDto> searchStores(String keyword, StoreCategory storeCategory,
+        Pageable pageable) {
+
         List<UUID> storeIds = storeRepository.findPagedStoreIdsByKeyword(pageable, keyword,
             storeCategory);
 
@@ -48,24 +68,17 @@ public class StoreService {
             return Page.empty(pageable);
         }
 
-        List<Tuple> tuples = storeRepository.findStoresWithMenusByIds(storeIds);
-
-        Map<UUID, List<MenuWithStoreResponseDto>> menus = tuples.stream()
-            .filter(tuple -> Objects.nonNull(tuple.get(QMenu.menu)))
-            .collect(Collectors.groupingBy(
-                tuple -> Objects.requireNonNull(tuple.get(store)).getId(),
-                Collectors.mapping(
-                    tuple -> MenuWithStoreResponseDto.from(
-                        Objects.requireNonNull(tuple.get(QMenu.menu))),
-                    Collectors.toList()
-                )
-            ));
-
-        List<StoreResponseDto> stores = tuples.stream()
-            .map(tuple -> tuple.get(store))
+        // 가게 행과 노출 메뉴를 따로 조회 -> 가게 x 메뉴 cartesian 행과 엔티티 로딩 없음
+        List<StoreResponseDto> found = storeRepository.findStoresByIds(storeIds);
+        Map<UUID, List<MenuWithStoreResponseDto>> menus = menuRepository.findVisibleByStoreIds(storeIds);
+
+        // IN 조회는 순서를 보장하지 않으므로 페이지 id 순서대로 조립
+        Map<UUID, StoreResponseDto> storesById = found.stream()
+            .collect(Collectors.toMap(StoreResponseDto::id, Function.identity()));
+
+        List<StoreResponseDto> stores = storeIds.stream()
+            .map(storesById::get)
             .filter(Objects::nonNull)
-            .distinct()
-            .map(StoreResponseDto::from)
             .map(storeResponseDto -> storeResponseDto.withMenus(
                 menus.getOrDefault(storeResponseDto.id(), List.of())))
             .toList();
@@ -85,6 +98,8 @@ public class StoreService {
         User user = getUserById(userId);
         Store store = requestDto.toEntity(user);
 
+        storeSearchCache.evictAfterCommit(store.getCategory());
+
         return StoreResponseDto.from(storeRepository.save(store));
     }
 
@@ -99,6 +114,9 @@ public class StoreService {
         Store store = getStoreById(storeId);
         validateStoreOwnership(user, store);
 
+        // 카테고리가 바뀌면 이전/이후 카테고리 결과 모두 무효화
+        storeSearchCache.evictAfterCommit(store.getCategory(), requestDto.category());
+        menuCatalogCache.bumpAfterCommit(storeId);
         store.updateStore(user, requestDto);
     }
 
@@ -109,6 +127,8 @@ public class StoreService {
         validateStoreOwnership(user, store);
 
         store.delete(user.getId());
+        storeSearchCache.evictAfterCommit(store.getCategory());
+        menuCatalogCache.bumpAfterCommit(storeId);
     }
 
     private Store getStoreById(UUID storeId) {
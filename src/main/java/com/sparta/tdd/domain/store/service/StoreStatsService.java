@@ -0,0 +1,41 @@
+package com.sparta.tdd.domain.store.service;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.store.repository.StoreStatsRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게 주문 통계 누적<br>
+ * 주문/결제와 같은 트랜잭션에서 반영해 통계가 원본과 어긋나지 않도록 하고,
+ * 주문은 커밋 직전에 반영해 인기 가게 통계 행의 락을 잡고 있는 시간을 줄입니다
+ */
+@RequiredArgsConstructor
+@Service
+public class StoreStatsService {
+
+    private final StoreStatsRepository storeStatsRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderEvent(OrderEvent event) {
+        if (event.type() == OrderEventType.CREATED) {
+            storeStatsRepository.incrementOrderCount(event.storeId(), event.occurredAt());
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPaymentCompleted(UUID storeId, long amount) {
+        storeStatsRepository.addRevenue(storeId, amount);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPaymentRefunded(UUID storeId, long amount) {
+        storeStatsRepository.addRevenue(storeId, -amount);
+    }
+}
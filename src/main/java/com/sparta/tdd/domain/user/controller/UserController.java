@@ -1,10 +1,12 @@
 package com.sparta.tdd.domain.user.controller;
 
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
-import com.sparta.tdd.domain.order.dto.OrderResponseDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
+import com.sparta.tdd.domain.review.dto.response.ReviewCursorResponseDto;
 import com.sparta.tdd.domain.review.dto.response.ReviewResponseDto;
 import com.sparta.tdd.domain.user.dto.*;
 import com.sparta.tdd.domain.user.service.UserService;
+import com.sparta.tdd.global.pageable.CustomPageableResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -100,15 +102,30 @@ public class UserController {
         return ResponseEntity.ok(responseDto);
     }
 
+    @Operation(
+            summary = "유저 리뷰 목록 커서 조회",
+            description = """
+                    특정 유저가 작성한 리뷰 목록을 최신순으로 조회합니다. 삭제한 리뷰는 조회할 수 없습니다.
+                    응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다. size 는 10, 30, 50 중 하나입니다.
+                    """)
+    @GetMapping("/{userId}/reviews/scroll")
+    public ResponseEntity<ReviewCursorResponseDto> getUserReviewsByCursor(@PathVariable("userId") Long userId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "10") int size) {
+        ReviewCursorResponseDto responseDto = userService.getPersonalReviews(userId, cursor,
+                CustomPageableResolver.normalizeSize(size));
+        return ResponseEntity.ok(responseDto);
+    }
+
     @Operation(
             summary = "유저 주문 목록 조회",
             description = """
                     특정 유저가 주문한 주문 목록을 조회합니다. 삭제한 주문은 조회할 수 없습니다.
                     """)
     @GetMapping("/{userId}/orders")
-    public ResponseEntity<Page<OrderResponseDto>> getUserOrdersByUserId(@PathVariable("userId") Long userId,
-                                                                        Pageable pageable) {
-        Page<OrderResponseDto> responseDto = userService.getPersonalOrders(userId, pageable);
+    public ResponseEntity<Page<OrderSummaryResponseDto>> getUserOrdersByUserId(@PathVariable("userId") Long userId,
+                                                                               Pageable pageable) {
+        Page<OrderSummaryResponseDto> responseDto = userService.getPersonalOrders(userId, pageable);
         return ResponseEntity.ok(responseDto);
     }
 }
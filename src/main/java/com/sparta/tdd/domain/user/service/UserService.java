@@ -1,12 +1,10 @@
 package com.sparta.tdd.domain.user.service;
 
-import com.sparta.tdd.domain.order.dto.OrderResponseDto;
-import com.sparta.tdd.domain.order.entity.Order;
-import com.sparta.tdd.domain.order.mapper.OrderMapper;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
+import com.sparta.tdd.domain.review.dto.response.ReviewCursorResponseDto;
 import com.sparta.tdd.domain.review.dto.response.ReviewResponseDto;
-import com.sparta.tdd.domain.review.entity.Review;
-import com.sparta.tdd.domain.review.repository.ReviewRepository;
+import com.sparta.tdd.domain.review.service.ReviewService;
 import com.sparta.tdd.domain.user.dto.UserNicknameRequestDto;
 import com.sparta.tdd.domain.user.dto.UserPasswordRequestDto;
 import com.sparta.tdd.domain.user.dto.UserResponseDto;
@@ -23,16 +21,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
-    private final OrderMapper orderMapper;
+    private final ReviewService reviewService;
     private final OrderRepository orderRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -93,16 +88,18 @@ public class UserService {
         return UserResponseDto.from(user);
     }
 
-    // 리뷰 목록 조회
+    // 리뷰 목록 조회 (DB 페이징, 답글 포함)
     public Page<ReviewResponseDto> getPersonalReviews(Long userId, Pageable pageable) {
-        List<Review> reviewList = reviewRepository.findByUserIdAndNotDeleted(userId);
-        Page<Review> reviews = new PageImpl<>(reviewList, pageable, reviewList.size());
-        return reviews.map(ReviewResponseDto::from);
+        return reviewService.getReviewsByUser(userId, pageable);
+    }
+
+    // 리뷰 목록 커서 조회 (최신순, 답글 포함)
+    public ReviewCursorResponseDto getPersonalReviews(Long userId, String cursor, int size) {
+        return reviewService.getReviewsByUser(userId, cursor, size);
     }
 
-    public Page<OrderResponseDto> getPersonalOrders(Long userId, Pageable pageable) {
-        Page<Order> orderList = orderRepository.findOrdersByUserIdAndNotDeleted(userId, pageable);
-        return orderList.map(orderMapper::toResponse);
+    public Page<OrderSummaryResponseDto> getPersonalOrders(Long userId, Pageable pageable) {
+        return orderRepository.findSummariesByUserId(userId, pageable);
     }
 
     private User getUserById(Long userId) {
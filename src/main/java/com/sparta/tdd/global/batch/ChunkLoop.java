@@ -0,0 +1,68 @@
+package com.sparta.tdd.global.batch;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 배치 작업의 chunk 반복 루프<br>
+ * chunk 가 batch-size 만큼 가득 차는 동안 throttle 만큼 쉬고 다음 chunk 를 실행하며,
+ * 덜 찬 chunk(빈 chunk 포함)가 나오거나 쉬는 도중 인터럽트되면 멈춥니다<br>
+ * chunk 사이에 쉬는 동안 일반 요청이 락/IO 를 가져갈 수 있습니다
+ */
+public final class ChunkLoop {
+
+    private final int batchSize;
+    private final long throttleMillis;
+
+    public ChunkLoop(int batchSize, long throttleMillis) {
+        this.batchSize = batchSize;
+        this.throttleMillis = throttleMillis;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * chunk 를 반복 실행합니다 (chunk 마다의 트랜잭션/누적은 호출한 쪽에서 처리)
+     *
+     * @param chunk 한 chunk 를 처리하고 읽은 행 수를 반환
+     * @return 실행한 chunk 수와 끝까지 처리했는지 여부 (빈 chunk 는 세지 않음)
+     */
+    public Result run(IntSupplier chunk) {
+        int chunks = 0;
+        while (true) {
+            int size = chunk.getAsInt();
+            if (size <= 0) {
+                return new Result(chunks, true);
+            }
+            chunks++;
+            if (size < batchSize) {
+                return new Result(chunks, true);
+            }
+            if (!throttle()) {
+                return new Result(chunks, false);
+            }
+        }
+    }
+
+    private boolean throttle() {
+        if (throttleMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param chunks    처리한 chunk 수
+     * @param completed 끝까지 처리했으면 true, 인터럽트로 중단했으면 false
+     */
+    public record Result(int chunks, boolean completed) {
+
+    }
+}
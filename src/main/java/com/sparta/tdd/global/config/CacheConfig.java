@@ -1,8 +1,12 @@
 package com.sparta.tdd.global.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
+import com.sparta.tdd.domain.store.service.StoreSearchCache;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -14,23 +18,51 @@ import org.springframework.context.annotation.Configuration;
 // 로컬 개발 환경 -> Caffeine Cache 사용
 // CacheManager 추상화로 인해 Redis 확장에도 열려있음
 // 캐시 타입이 많아지면 추후 enum으로 CacheType 관리 고려
+// 토큰 블랙리스트 캐시는 near-cache 역할만 함 (원본은 TokenBlacklistStore) -> 용량 초과로 밀려나도 원본에서 다시 확인
+// 메뉴 스냅샷 캐시는 MenuCatalogCache 의 version 으로 무효화하고, TTL 은 다른 인스턴스의 변경을 따라잡는 용도
+// 가게 검색 캐시는 변경 시 StoreSearchCache 가 해당 카테고리만 지우고, 나머지 변동(평점/주문 수)은 TTL 로 맞춤
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    private static final long MAXIMUM_CACHE_SIZE = 5000L;
+    // 블랙리스트 키가 고정 길이(서명 앞 22자)라 항목당 수십 바이트 수준
+    private static final long MAXIMUM_CACHE_SIZE = 50_000L;
+    private static final long FALLBACK_EXPIRATION_HOURS = 2L;
 
     @Bean
-    public CacheManager cacheManager(Cache accessTokenBlacklistCache, Cache refreshTokenBlacklistCache) {
+    public CacheManager cacheManager(Cache accessTokenBlacklistCache, Cache refreshTokenBlacklistCache,
+        Cache storeSearchCaffeineCache, Cache menuCatalogCaffeineCache) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(accessTokenBlacklistCache, refreshTokenBlacklistCache));
+        cacheManager.setCaches(List.of(accessTokenBlacklistCache, refreshTokenBlacklistCache,
+            storeSearchCaffeineCache, menuCatalogCaffeineCache));
         return cacheManager;
     }
 
+    // StoreSearchCache, MenuCatalogCache 컴포넌트와 bean 이름이 겹치지 않도록 구분
+    @Bean
+    public Cache storeSearchCaffeineCache(
+        @Value("${store.search-cache.maximum-size:10000}") long maximumSize,
+        @Value("${store.search-cache.ttl-seconds:60}") long ttlSeconds) {
+        return new CaffeineCache(StoreSearchCache.CACHE_NAME, Caffeine.newBuilder()
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .maximumSize(maximumSize)
+            .build());
+    }
+
+    @Bean
+    public Cache menuCatalogCaffeineCache(
+        @Value("${menu.catalog-cache.maximum-size:10000}") long maximumSize,
+        @Value("${menu.catalog-cache.ttl-seconds:300}") long ttlSeconds) {
+        return new CaffeineCache(MenuCatalogCache.CACHE_NAME, Caffeine.newBuilder()
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .maximumSize(maximumSize)
+            .build());
+    }
+
     @Bean
     public Cache accessTokenBlacklistCache() {
         return new CaffeineCache("accessTokenBlacklist", Caffeine.newBuilder()
-            .expireAfterWrite(2, TimeUnit.HOURS)
+            .expireAfter(untilTokenExpiration())
             .maximumSize(MAXIMUM_CACHE_SIZE)
             .build());
     }
@@ -38,8 +70,32 @@ public class CacheConfig {
     @Bean
     public Cache refreshTokenBlacklistCache() {
         return new CaffeineCache("refreshTokenBlacklist", Caffeine.newBuilder()
-            .expireAfterWrite(7, TimeUnit.DAYS)
+            .expireAfter(untilTokenExpiration())
             .maximumSize(MAXIMUM_CACHE_SIZE)
             .build());
     }
+
+    // 값으로 저장된 토큰 만료 시각(epoch millis)까지만 보관 -> 항목별 TTL = 토큰의 남은 수명
+    private static Expiry<Object, Object> untilTokenExpiration() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                if (value instanceof Long expiresAtMillis) {
+                    long remainingMillis = Math.max(0L, expiresAtMillis - System.currentTimeMillis());
+                    return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+                }
+                return TimeUnit.HOURS.toNanos(FALLBACK_EXPIRATION_HOURS);
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
 }
@@ -2,10 +2,9 @@ package com.sparta.tdd.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.tdd.global.jwt.JwtTokenValidator;
+import com.sparta.tdd.global.jwt.VerifiedAccessTokenCache;
 import com.sparta.tdd.global.jwt.filter.JwtAuthenticationFilter;
 import com.sparta.tdd.global.jwt.filter.JwtExceptionFilter;
-import com.sparta.tdd.global.jwt.provider.JwtTokenProvider;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,17 +12,17 @@ import org.springframework.context.annotation.Configuration;
 public class JwtFilterConfig {
 
     private final ObjectMapper objectMapper;
-    private final JwtTokenProvider accessTokenProvider;
     private final JwtTokenValidator jwtTokenValidator;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
 
     JwtFilterConfig(
         ObjectMapper objectMapper,
-        @Qualifier("accessTokenProvider") JwtTokenProvider accessTokenProvider,
-        JwtTokenValidator jwtTokenValidator
+        JwtTokenValidator jwtTokenValidator,
+        VerifiedAccessTokenCache verifiedAccessTokenCache
     ) {
         this.objectMapper = objectMapper;
-        this.accessTokenProvider = accessTokenProvider;
         this.jwtTokenValidator = jwtTokenValidator;
+        this.verifiedAccessTokenCache = verifiedAccessTokenCache;
     }
 
     @Bean
@@ -33,6 +32,6 @@ public class JwtFilterConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(accessTokenProvider, jwtTokenValidator);
+        return new JwtAuthenticationFilter(jwtTokenValidator, verifiedAccessTokenCache);
     }
 }
@@ -5,6 +5,7 @@ import com.sparta.tdd.global.jwt.entrypoint.JwtAuthenticationEntryPoint;
 import com.sparta.tdd.global.jwt.filter.JwtAuthenticationFilter;
 import com.sparta.tdd.global.jwt.filter.JwtExceptionFilter;
 import com.sparta.tdd.global.jwt.handler.JwtAccessDeniedHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +19,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -29,6 +33,8 @@ public class SecurityConfig {
     private final JwtExceptionFilter jwtExceptionFilter;
     private final ObjectMapper objectMapper;
 
+    private static final String ORDER_STREAM_URL = "/v1/orders/stream";
+
     private final String[] readOnlyUrl = {
         "/favicon.ico",
         "/api-docs/**",
@@ -50,6 +56,11 @@ public class SecurityConfig {
             .authorizeHttpRequests(authorizeHttpRequests ->
                 authorizeHttpRequests
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                    // SSE 완료/타임아웃 시의 async dispatch 는 최초 요청에서 이미 인가됨 - 주문 스트림에만 허용
+                    .requestMatchers(new AndRequestMatcher(
+                        new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                        PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, ORDER_STREAM_URL)
+                    )).permitAll()
                     .requestMatchers(HttpMethod.GET, readOnlyUrl).permitAll()
                     .requestMatchers(HttpMethod.GET, "/v1/auth/exists").permitAll()
                     .requestMatchers(HttpMethod.POST, "/v1/auth/login", "/v1/auth/signup",
@@ -42,6 +42,10 @@ public enum ErrorCode {
     ORDER_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "권한이 없습니다."),
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 주문입니다."),
     ORDER_CANCELLATION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "주문 생성 후 5분이 지나 취소할 수 없습니다."),
+    INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    ORDER_CURSOR_SORT_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "커서 조회는 createdAt, id 정렬만 지원합니다."),
+    ORDER_STATUS_TRANSITION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "현재 주문 상태에서는 다음 상태로 변경할 수 없습니다."),
+    ORDER_STATUS_CONFLICT(HttpStatus.CONFLICT, "주문 상태가 이미 변경되었습니다. 다시 조회 후 시도해주세요."),
 
     // MENU 도메인 관련
     IS_HIDDEN_MENU(HttpStatus.BAD_REQUEST, "숨겨진 메뉴입니다."),
@@ -57,6 +61,7 @@ public enum ErrorCode {
     REVIEW_REPLY_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "해당 가게의 소유자만 답글을 작성할 수 있습니다."),
     REVIEW_REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 답글입니다."),
     DUPLICATE_REVIEW(HttpStatus.CONFLICT, "이미 해당 주문에 대한 리뷰가 존재합니다."),
+    INVALID_REVIEW_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
 
     // PAYMENT 도메인 관련
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 결제 내역입니다."),
@@ -83,7 +88,10 @@ public enum ErrorCode {
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 쿠폰입니다."),
     COUPON_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "권한이 없습니다."),
     COUPON_ALL_SOLD_OUT(HttpStatus.BAD_REQUEST, "쿠폰이 모두 소진되었습니다."),
+    COUPON_ISSUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "쿠폰 발급이 지연되고 있습니다. 잠시 후 발급 여부를 확인해주세요."),
     USER_COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 유저쿠폰입니다."),
+    USER_COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "이미 발급받은 쿠폰입니다."),
+    INVALID_USER_COUPON_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     COUPON_MIN_PRICE_INVALID(HttpStatus.BAD_REQUEST, "최소금액이 부족합니다."),
 
     // ADDRESS 도메인 관련
@@ -4,7 +4,11 @@ import com.sparta.tdd.domain.auth.service.TokenBlacklistService;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.JwtTokenProvider;
 import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +20,19 @@ public class JwtTokenValidator {
     private final RefreshTokenProvider refreshTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
 
-    public void validateAccessToken(String accessToken) {
+    /**
+     * 블랙리스트 확인 후 서명을 한 번만 검증하고, 검증된 Claims 를 그대로 반환합니다<br>
+     * 만료된 토큰은 ExpiredJwtException 을 그대로 던져 호출부에서 만료 응답을 구분할 수 있게 합니다
+     */
+    public Claims validateAndGetAccessClaims(String accessToken) {
+        validateAccessTokenNotBlacklisted(accessToken);
+
+        return parseVerifiedClaims(accessTokenProvider, accessToken, "access",
+            ErrorCode.ACCESS_TOKEN_INVALID);
+    }
+
+    // 이미 검증된 토큰(VerifiedAccessTokenCache 적중)도 로그아웃 여부는 매번 확인
+    public void validateAccessTokenNotBlacklisted(String accessToken) {
         if (accessToken == null || accessToken.isEmpty()) {
             throw new BusinessException(ErrorCode.ACCESS_TOKEN_NOT_FOUND);
         }
@@ -24,11 +40,6 @@ public class JwtTokenValidator {
         if (tokenBlacklistService.isAccessTokenBlacklisted(accessToken)) {
             throw new BusinessException(ErrorCode.ACCESS_TOKEN_BLACKLISTED);
         }
-
-        String tokenType = accessTokenProvider.getTokenType(accessToken);
-        if (!"access".equals(tokenType) || !accessTokenProvider.validateToken(accessToken)) {
-            throw new BusinessException(ErrorCode.ACCESS_TOKEN_INVALID);
-        }
     }
 
     public void validateRefreshToken(String refreshToken) {
@@ -40,9 +51,28 @@ public class JwtTokenValidator {
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_BLACKLISTED);
         }
 
-        String tokenType = refreshTokenProvider.getTokenType(refreshToken);
-        if (!"refresh".equals(tokenType) || !refreshTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        parseVerifiedClaims(refreshTokenProvider, refreshToken, "refresh",
+            ErrorCode.REFRESH_TOKEN_INVALID);
+    }
+
+    private Claims parseVerifiedClaims(
+        JwtTokenProvider tokenProvider,
+        String token,
+        String expectedTokenType,
+        ErrorCode invalidErrorCode
+    ) {
+        Claims claims;
+        try {
+            claims = tokenProvider.getClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(invalidErrorCode);
+        }
+
+        if (!expectedTokenType.equals(claims.get("tokenType", String.class))) {
+            throw new BusinessException(invalidErrorCode);
         }
+        return claims;
     }
 }
@@ -0,0 +1,87 @@
+package com.sparta.tdd.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.tdd.domain.auth.UserDetailsImpl;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 액세스 토큰 -> UserDetailsImpl 단기 캐시<br>
+ * 같은 토큰으로 들어오는 연속 요청에서 HMAC 검증과 Base64/JSON 디코딩을 반복하지 않기 위함입니다<br>
+ * 키는 토큰 전체의 SHA-256 이며, 항목은 min(jwt.access.verified-cache.ttl-ms, 토큰 남은 수명) 동안만 유지됩니다<br>
+ * 블랙리스트 여부는 캐시와 별개로 매 요청 확인해야 합니다 (JwtAuthenticationFilter 참고)
+ */
+@Component
+public class VerifiedAccessTokenCache {
+
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public VerifiedAccessTokenCache(
+        @Value("${jwt.access.verified-cache.maximum-size:10000}") long maximumSize,
+        @Value("${jwt.access.verified-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(untilTtlOrTokenExpiration(TimeUnit.MILLISECONDS.toNanos(ttlMillis)))
+            .build();
+    }
+
+    public UserDetailsImpl get(String accessToken) {
+        VerifiedAccessToken verified = cache.getIfPresent(hash(accessToken));
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return verified.userDetails();
+    }
+
+    public void put(String accessToken, UserDetailsImpl userDetails, Date expiration) {
+        if (expiration == null) {
+            return;
+        }
+        cache.put(hash(accessToken), new VerifiedAccessToken(userDetails, expiration.getTime()));
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(accessToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Expiry<String, VerifiedAccessToken> untilTtlOrTokenExpiration(long ttlNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedAccessToken value, long currentTime) {
+                long remainingMillis = Math.max(0L, value.expiresAtMillis() - System.currentTimeMillis());
+                return Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedAccessToken value, long currentTime,
+                long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedAccessToken value, long currentTime,
+                long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private record VerifiedAccessToken(UserDetailsImpl userDetails, long expiresAtMillis) {
+
+    }
+}
@@ -6,7 +6,7 @@ import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.jwt.JwtTokenValidator;
 import com.sparta.tdd.global.jwt.RequestTokenExtractor;
-import com.sparta.tdd.global.jwt.provider.JwtTokenProvider;
+import com.sparta.tdd.global.jwt.VerifiedAccessTokenCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -27,8 +27,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider accessTokenProvider;
     private final JwtTokenValidator jwtTokenValidator;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -45,8 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = accessToken.get();
 
         try {
-            jwtTokenValidator.validateAccessToken(token);
-            UserDetailsImpl userDetails = getUserDetails(token);
+            UserDetailsImpl userDetails = authenticate(token);
             setAuthenticationUser(userDetails, request);
             log.info("Authenticated user: {}", userDetails.getUsername());
         } catch (ExpiredJwtException e) {
@@ -66,8 +65,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private UserDetailsImpl getUserDetails(String accessToken) {
-        Claims claims = accessTokenProvider.getClaims(accessToken);
+    private UserDetailsImpl authenticate(String accessToken) {
+        UserDetailsImpl cached = verifiedAccessTokenCache.get(accessToken);
+        if (cached != null) {
+            // 서명 검증은 생략하되 로그아웃 여부는 매 요청 확인
+            jwtTokenValidator.validateAccessTokenNotBlacklisted(accessToken);
+            return cached;
+        }
+
+        // 검증과 클레임 추출을 한 번의 파싱으로 처리
+        Claims claims = jwtTokenValidator.validateAndGetAccessClaims(accessToken);
+        UserDetailsImpl userDetails = toUserDetails(claims);
+        verifiedAccessTokenCache.put(accessToken, userDetails, claims.getExpiration());
+        return userDetails;
+    }
+
+    private UserDetailsImpl toUserDetails(Claims claims) {
         Long userId = Long.valueOf(claims.getSubject());
         String username = claims.get("username", String.class);
         UserAuthority authority = UserAuthority.valueOf(claims.get("authority", String.class));
@@ -78,4 +78,15 @@ public class AccessTokenProvider implements JwtTokenProvider {
             .getPayload()
             .get("tokenType", String.class);
     }
+
+    @Override
+    public Date getExpiration(String token) {
+        return Jwts
+            .parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(token)
+            .getPayload()
+            .getExpiration();
+    }
 }
@@ -2,6 +2,7 @@ package com.sparta.tdd.global.jwt.provider;
 
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import io.jsonwebtoken.Claims;
+import java.util.Date;
 
 public interface JwtTokenProvider {
 
@@ -12,4 +13,6 @@ public interface JwtTokenProvider {
     Claims getClaims(String token);
 
     String getTokenType(String token);
+
+    Date getExpiration(String token);
 }
@@ -93,6 +93,7 @@ public class RefreshTokenProvider implements JwtTokenProvider {
             .compact();
     }
 
+    @Override
     public Date getExpiration(String token) {
         return Jwts
             .parser()
@@ -60,12 +60,17 @@ public class CustomPageableResolver extends PageableHandlerMethodArgumentResolve
         @Nullable WebDataBinderFactory binderFactory) {
         Pageable base = super.resolveArgument(methodParameter, mavContainer, webRequest,
             binderFactory);
-        int normalized = ALLOWED.contains(base.getPageSize())
-            ? base.getPageSize()
-            : DEFAULT_PAGE_SIZE;
+        int normalized = normalizeSize(base.getPageSize());
         if (normalized == base.getPageSize()) {
             return base;
         }
         return PageRequest.of(base.getPageNumber(), normalized, base.getSort());
     }
+
+    /**
+     * Pageable 없이 size 만 받는 커서 조회도 같은 크기 제한을 쓰도록 공개합니다 (10, 30, 50 외에는 10)
+     */
+    public static int normalizeSize(int size) {
+        return ALLOWED.contains(size) ? size : DEFAULT_PAGE_SIZE;
+    }
 }
@@ -0,0 +1,69 @@
+package com.sparta.tdd.global.pageable;
+
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(keyset) 페이징 기준점의 문자열 변환<br>
+ * 마지막으로 내려준 행의 정렬 키들을 '|' 로 이어 Base64(URL-safe) 문자열로 감싸 클라이언트에게 전달합니다<br>
+ * 목록별 커서 record 는 키 순서와 타입 변환만 정하고, 인코딩과 잘못된 커서 처리는 여기서 합니다
+ */
+public final class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(DELIMITER));
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * @param keys 정렬 키 (toString 값에 '|' 가 없어야 함)
+     */
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys)
+            .map(String::valueOf)
+            .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다<br>
+     * Base64/키 개수/키 형식이 맞지 않으면 errorCode 로 BusinessException 을 던집니다
+     *
+     * @param cursor    이전 응답의 nextCursor (첫 페이지라면 null 또는 빈 문자열)
+     * @param keyCount  커서에 담긴 키 개수
+     * @param errorCode 잘못된 커서일 때 던질 에러 코드
+     * @param parser    키 문자열 배열 -> 커서 (형식 오류는 IllegalArgumentException, DateTimeParseException)
+     * @return 해석된 커서, 첫 페이지라면 null
+     */
+    public static <T> T decodeOrNull(
+        String cursor,
+        int keyCount,
+        ErrorCode errorCode,
+        Function<String[], T> parser) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = SPLITTER.split(raw, -1);
+            if (keys.length != keyCount) {
+                throw new BusinessException(errorCode);
+            }
+            return parser.apply(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(errorCode);
+        }
+    }
+}
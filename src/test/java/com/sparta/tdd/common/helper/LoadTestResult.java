@@ -0,0 +1,54 @@
+package com.sparta.tdd.common.helper;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 동시 요청 한 번의 측정 결과
+ *
+ * @param failures 실패 사유(ErrorCode 이름 또는 예외 클래스)별 건수
+ */
+public record LoadTestResult(
+    String name,
+    int requests,
+    int successes,
+    Map<String, Integer> failures,
+    double p50Millis,
+    double p99Millis,
+    double throughputPerSecond
+) {
+
+    public static LoadTestResult of(String name, long[] latencyNanos, int successes,
+        Map<String, Integer> failures, long elapsedNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        return new LoadTestResult(
+            name,
+            sorted.length,
+            successes,
+            failures,
+            percentileMillis(sorted, 0.50),
+            percentileMillis(sorted, 0.99),
+            sorted.length / (elapsedNanos / 1_000_000_000.0)
+        );
+    }
+
+    public int failureCount(String reason) {
+        return failures.getOrDefault(reason, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] requests=%d, successes=%d, failures=%s, p50=%.2fms, p99=%.2fms, throughput=%.1f/s",
+            name, requests, successes, failures, p50Millis, p99Millis, throughputPerSecond);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
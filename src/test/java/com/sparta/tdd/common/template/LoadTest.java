@@ -0,0 +1,76 @@
+package com.sparta.tdd.common.template;
+
+import com.sparta.tdd.common.helper.LoadTestResult;
+import com.sparta.tdd.global.exception.BusinessException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * 동시성 부하 테스트 템플릿<br>
+ * 요청마다 가상 스레드를 하나씩 띄워 동시에 출발시키고, 불변식 검증에 필요한 성공/실패 건수와 지연(p50/p99), 처리량을 남깁니다<br>
+ * 실행 시간이 길어 "load" 태그로 분리합니다 (예: ./gradlew test -PincludeTags=load)
+ */
+@Slf4j(topic = "LoadTest")
+@Tag("load")
+public abstract class LoadTest extends IntegrationTest {
+
+    /**
+     * @param task 요청 번호(0 ~ requests-1)를 받아 한 번의 요청을 수행
+     */
+    protected LoadTestResult runConcurrently(String name, int requests, IntConsumer task)
+        throws InterruptedException {
+        long[] latencyNanos = new long[requests];
+        AtomicInteger successes = new AtomicInteger();
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long elapsedNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        long begin = System.nanoTime();
+                        try {
+                            task.accept(index);
+                            successes.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.merge(failureReason(e), 1, Integer::sum);
+                        } finally {
+                            latencyNanos[index] = System.nanoTime() - begin;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            elapsedNanos = System.nanoTime() - begin;
+        }
+
+        LoadTestResult result = LoadTestResult.of(name, latencyNanos, successes.get(), failures, elapsedNanos);
+        log.info("{}", result);
+        return result;
+    }
+
+    private String failureReason(RuntimeException e) {
+        if (e instanceof BusinessException businessException) {
+            return businessException.getErrorCode().name();
+        }
+        return e.getClass().getSimpleName();
+    }
+}
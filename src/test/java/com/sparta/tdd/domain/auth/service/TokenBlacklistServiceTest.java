@@ -0,0 +1,237 @@
+package com.sparta.tdd.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.auth.dto.BlacklistEntry;
+import com.sparta.tdd.domain.auth.enums.BlacklistTokenType;
+import com.sparta.tdd.domain.auth.repository.InMemoryTokenBlacklistStore;
+import com.sparta.tdd.domain.auth.repository.TokenBlacklistStore;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.jwt.provider.AccessTokenProvider;
+import com.sparta.tdd.global.jwt.provider.RefreshTokenProvider;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TokenBlacklistServiceTest {
+
+    private InMemoryTokenBlacklistStore sharedStore;
+    private AccessTokenProvider accessTokenProvider;
+    private RefreshTokenProvider refreshTokenProvider;
+    private TokenBlacklistService nodeA;
+    private TokenBlacklistService nodeB;
+
+    private String accessToken;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenProvider = new AccessTokenProvider();
+        ReflectionTestUtils.setField(accessTokenProvider, "accessSecretKey", "testAccessSecrettestAccessSecret");
+        ReflectionTestUtils.setField(accessTokenProvider, "accessExpiration", 60_000L);
+        accessTokenProvider.init();
+
+        refreshTokenProvider = new RefreshTokenProvider();
+        ReflectionTestUtils.setField(refreshTokenProvider, "refreshSecretKey", "testRefreshSecrettestRefreshSecret");
+        ReflectionTestUtils.setField(refreshTokenProvider, "refreshExpiration", 60_000L);
+        refreshTokenProvider.init();
+
+        accessToken = accessTokenProvider.generateToken("user", 1L, UserAuthority.CUSTOMER);
+        refreshToken = refreshTokenProvider.generateToken("user", 1L, UserAuthority.CUSTOMER);
+
+        // 두 인스턴스가 같은 원본 저장소를 바라보는 상황
+        sharedStore = spy(new InMemoryTokenBlacklistStore());
+        nodeA = newNode();
+        nodeB = newNode();
+    }
+
+    private TokenBlacklistService newNode() {
+        return new TokenBlacklistService(sharedStore,
+            new ConcurrentMapCacheManager("accessTokenBlacklist", "refreshTokenBlacklist"),
+            accessTokenProvider, refreshTokenProvider, 1000L, 0.01, 30_000L);
+    }
+
+    @Nested
+    @DisplayName("블랙리스트 등록/조회")
+    class AddAndCheck {
+
+        @Test
+        @DisplayName("로그아웃한 노드에서는 즉시 블랙리스트로 판정된다")
+        void sameNode_blacklistedImmediately() {
+            nodeA.rebuildBloomFilter();
+
+            nodeA.addAccessTokenToBlacklist(accessToken);
+            nodeA.addRefreshTokenToBlacklist(refreshToken);
+
+            assertThat(nodeA.isAccessTokenBlacklisted(accessToken)).isTrue();
+            assertThat(nodeA.isRefreshTokenBlacklisted(refreshToken)).isTrue();
+            // 액세스/리프레시 블랙리스트는 서로 섞이지 않음
+            assertThat(nodeA.isRefreshTokenBlacklisted(accessToken)).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 노드의 로그아웃은 동기화 이후 반영된다")
+        void otherNode_visibleAfterSync() {
+            nodeA.rebuildBloomFilter();
+            nodeB.rebuildBloomFilter();
+
+            nodeA.addAccessTokenToBlacklist(accessToken);
+            nodeB.syncFromStore();
+
+            assertThat(nodeB.isAccessTokenBlacklisted(accessToken)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Bloom filter 준비 전에는 원본 저장소로 판정한다")
+        void beforeRebuild_fallsBackToStore() {
+            sharedStore.add(BlacklistTokenType.ACCESS,
+                TokenBlacklistService.toBlacklistKey(accessToken), LocalDateTime.now().plusHours(1));
+
+            assertThat(nodeB.isAccessTokenBlacklisted(accessToken)).isTrue();
+        }
+
+        @Test
+        @DisplayName("블랙리스트가 아닌 토큰은 원본 저장소를 조회하지 않는다")
+        void notBlacklisted_skipsStore() {
+            nodeA.rebuildBloomFilter();
+            nodeA.addAccessTokenToBlacklist(accessToken);
+
+            String otherToken = accessTokenProvider.generateToken("other", 2L, UserAuthority.CUSTOMER);
+            assertThat(nodeA.isAccessTokenBlacklisted(otherToken)).isFalse();
+            verify(sharedStore, never()).findExpiresAt(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("만료된 항목은 rebuild 시 정리된다")
+        void expiredEntry_removedOnRebuild() {
+            sharedStore.add(BlacklistTokenType.ACCESS, "expiredToken", LocalDateTime.now().minusSeconds(1));
+
+            nodeA.rebuildBloomFilter();
+
+            assertThat(nodeA.isAccessTokenBlacklisted("expiredToken")).isFalse();
+            assertThat(sharedStore.findAddedAfter(0L, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("블랙리스트 키 / 만료")
+    class KeyAndExpiration {
+
+        @Test
+        @DisplayName("토큰 전체가 아닌 고정 길이 키로, 토큰의 exp 까지만 저장한다")
+        void storesCompactKeyUntilTokenExpiration() {
+            nodeA.addAccessTokenToBlacklist(accessToken);
+
+            var entries = sharedStore.findAddedAfter(0L, 10);
+            var expiration = accessTokenProvider.getExpiration(accessToken).toInstant();
+
+            assertThat(entries).hasSize(1);
+            assertThat(entries.get(0).tokenKey()).hasSize(22);
+            assertThat(accessToken).contains(entries.get(0).tokenKey());
+            assertThat(entries.get(0).expiresAt().atZone(ZoneId.systemDefault()).toInstant())
+                .isEqualTo(expiration);
+        }
+
+        @Test
+        @DisplayName("이미 만료된 토큰은 블랙리스트에 저장하지 않는다")
+        void expiredToken_notStored() {
+            ReflectionTestUtils.setField(accessTokenProvider, "accessExpiration", -1_000L);
+            String expiredToken = accessTokenProvider.generateToken("user", 1L, UserAuthority.CUSTOMER);
+
+            nodeA.addAccessTokenToBlacklist(expiredToken);
+
+            assertThat(sharedStore.findAddedAfter(0L, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 간 동기화")
+    class Sync {
+
+        @Test
+        @DisplayName("더 큰 sequence 보다 늦게 커밋된 항목도 동기화 구간 안에 있으면 반영된다")
+        void lateCommittedEntry_loadedBySyncWindow() {
+            // given - 커밋된 항목만 보이는 원본 저장소 (sequence 가 커밋 순서와 다름)
+            List<BlacklistEntry> committed = new CopyOnWriteArrayList<>();
+            TokenBlacklistStore store = committedOnlyStore(committed);
+            TokenBlacklistService node = new TokenBlacklistService(store,
+                new ConcurrentMapCacheManager("accessTokenBlacklist", "refreshTokenBlacklist"),
+                accessTokenProvider, refreshTokenProvider, 1000L, 0.01, 30_000L);
+            node.rebuildBloomFilter();
+
+            String lateKey = TokenBlacklistService.toBlacklistKey(accessToken);
+            LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+            LocalDateTime createdAt = LocalDateTime.now();
+
+            // 뒤에 발급된 sequence 500 이 먼저 커밋되고 동기화됨
+            committed.add(new BlacklistEntry(500L, BlacklistTokenType.ACCESS, "fastKey", expiresAt, createdAt));
+            node.syncFromStore();
+            assertThat(node.isAccessTokenBlacklisted(accessToken)).isFalse();
+
+            // when - 그보다 한참 앞선 sequence 100 이 늦게 커밋됨
+            committed.add(new BlacklistEntry(100L, BlacklistTokenType.ACCESS, lateKey, expiresAt, createdAt));
+            node.syncFromStore();
+
+            // then
+            assertThat(node.isAccessTokenBlacklisted(accessToken)).isTrue();
+        }
+
+        @Test
+        @DisplayName("동기화 구간은 직전 동기화 시각에서 sync-window 만큼 앞선 시각부터다")
+        void syncReadsFromLastSyncMinusWindow() {
+            // given
+            TokenBlacklistStore store = committedOnlyStore(new CopyOnWriteArrayList<>());
+            TokenBlacklistService node = new TokenBlacklistService(store,
+                new ConcurrentMapCacheManager("accessTokenBlacklist", "refreshTokenBlacklist"),
+                accessTokenProvider, refreshTokenProvider, 1000L, 0.01, 30_000L);
+            LocalDateTime beforeRebuild = LocalDateTime.now();
+            node.rebuildBloomFilter();
+
+            // when
+            node.syncFromStore();
+
+            // then
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(store).findAddedSince(since.capture(), eq(0L), anyInt());
+            assertThat(since.getValue()).isAfterOrEqualTo(beforeRebuild.minusSeconds(30))
+                .isBeforeOrEqualTo(LocalDateTime.now().minusSeconds(30));
+        }
+
+        private TokenBlacklistStore committedOnlyStore(List<BlacklistEntry> committed) {
+            TokenBlacklistStore store = mock(TokenBlacklistStore.class);
+            given(store.findAddedAfter(anyLong(), anyInt())).willAnswer(inv -> committed.stream()
+                .filter(entry -> entry.sequence() > inv.<Long>getArgument(0))
+                .sorted((a, b) -> Long.compare(a.sequence(), b.sequence()))
+                .toList());
+            given(store.findAddedSince(any(), anyLong(), anyInt())).willAnswer(inv -> committed.stream()
+                .filter(entry -> !entry.createdAt().isBefore(inv.getArgument(0)))
+                .filter(entry -> entry.sequence() > inv.<Long>getArgument(1))
+                .sorted((a, b) -> Long.compare(a.sequence(), b.sequence()))
+                .toList());
+            given(store.findExpiresAt(any(), anyString())).willAnswer(inv -> committed.stream()
+                .filter(entry -> entry.tokenType() == inv.getArgument(0)
+                    && entry.tokenKey().equals(inv.getArgument(1)))
+                .map(BlacklistEntry::expiresAt)
+                .findFirst());
+            return store;
+        }
+    }
+}
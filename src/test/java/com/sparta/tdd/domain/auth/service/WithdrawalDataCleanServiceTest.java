@@ -0,0 +1,98 @@
+package com.sparta.tdd.domain.auth.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
+import com.sparta.tdd.domain.order.repository.OrderRepository;
+import com.sparta.tdd.domain.orderMenu.repository.OrderMenuRepository;
+import com.sparta.tdd.domain.payment.repository.PaymentRepository;
+import com.sparta.tdd.domain.review.repository.ReviewReplyRepository;
+import com.sparta.tdd.domain.review.repository.ReviewRepository;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
+import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.store.service.StoreSearchCache;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WithdrawalDataCleanServiceTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewReplyRepository reviewReplyRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private OrderMenuRepository orderMenuRepository;
+
+    @Mock
+    private MenuCatalogCache menuCatalogCache;
+
+    @Mock
+    private StoreSearchCache storeSearchCache;
+
+    @InjectMocks
+    private WithdrawalDataCleanService withdrawalDataCleanService;
+
+    @Test
+    @DisplayName("점주 탈퇴로 가게가 삭제되면 메뉴 스냅샷과 함께 가게 검색 캐시도 무효화한다")
+    void deleteOwnerRelatedData_evictsStoreSearchCache() {
+        // given
+        Long userId = 1L;
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<UUID> storeIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(storeRepository.findStoreIdsByUserIdAndDeletedAtIsNull(userId)).willReturn(storeIds);
+        given(reviewRepository.findReviewIdsByStoreIds(storeIds)).willReturn(List.of());
+
+        // when
+        withdrawalDataCleanService.deleteOwnerRelatedData(userId, deletedAt);
+
+        // then
+        verify(menuRepository).bulkSoftDeleteByStoreIds(storeIds, deletedAt, userId);
+        verify(storeRepository).bulkSoftDeleteByUserId(userId, deletedAt, userId);
+        verify(menuCatalogCache).bumpAfterCommit(storeIds);
+        verify(storeSearchCache).evictAfterCommit(StoreCategory.values());
+    }
+
+    @Test
+    @DisplayName("가게가 없는 점주의 탈퇴는 캐시를 건드리지 않는다")
+    void deleteOwnerRelatedData_noStores_keepsCaches() {
+        // given
+        Long userId = 1L;
+        LocalDateTime deletedAt = LocalDateTime.now();
+        given(storeRepository.findStoreIdsByUserIdAndDeletedAtIsNull(userId)).willReturn(List.of());
+
+        // when
+        withdrawalDataCleanService.deleteOwnerRelatedData(userId, deletedAt);
+
+        // then
+        verify(storeRepository).bulkSoftDeleteByUserId(userId, deletedAt, userId);
+        verify(menuCatalogCache, never()).bumpAfterCommit(anyList());
+        verify(storeSearchCache, never()).evictAfterCommit(any(StoreCategory[].class));
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.tdd.domain.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.helper.LoadTestResult;
+import com.sparta.tdd.common.template.LoadTest;
+import com.sparta.tdd.domain.cart.dto.request.CartItemRequestDto;
+import com.sparta.tdd.domain.cart.entity.CartItem;
+import com.sparta.tdd.domain.cart.repository.CartItemRepository;
+import com.sparta.tdd.domain.cart.repository.CartRepository;
+import com.sparta.tdd.domain.cart.service.CartService;
+import com.sparta.tdd.domain.menu.entity.Menu;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.store.entity.Store;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
+import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CartAddItemLoadTest extends LoadTest {
+
+    @Autowired
+    CartService cartService;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    CartItemRepository cartItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    StoreRepository storeRepository;
+
+    @Autowired
+    MenuRepository menuRepository;
+
+    User customer;
+    Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(User.builder()
+            .username("customer")
+            .password("password1")
+            .nickname("customer")
+            .authority(UserAuthority.CUSTOMER)
+            .build());
+
+        User owner = userRepository.save(User.builder()
+            .username("owner")
+            .password("password2")
+            .nickname("owner")
+            .authority(UserAuthority.OWNER)
+            .build());
+
+        Store store = storeRepository.save(Store.builder()
+            .name("store")
+            .category(StoreCategory.KOREAN)
+            .description("this is store description")
+            .imageUrl("this is image url")
+            .user(owner)
+            .build());
+
+        menu = menuRepository.save(Menu.builder()
+            .name("menu")
+            .description("this is menu")
+            .price(10000)
+            .imageUrl("this is image url")
+            .store(store)
+            .build());
+    }
+
+    @Test
+    @DisplayName("장바구니가 없는 상태에서 같은 메뉴를 동시에 담아도 장바구니와 아이템은 하나이고 수량은 요청 수와 같다")
+    void concurrentAdd_noDuplicateItems() throws InterruptedException {
+        // given
+        int requests = 200;
+        CartItemRequestDto request = new CartItemRequestDto(menu.getId(), 1);
+
+        // when
+        LoadTestResult result = runConcurrently("cart-add-item", requests,
+            i -> cartService.addItemToCart(customer.getId(), request));
+
+        // then
+        List<CartItem> activeItems = cartItemRepository.findAll().stream()
+            .filter(item -> !item.isDeleted())
+            .toList();
+
+        assertThat(result.successes()).isEqualTo(requests);
+        assertThat(cartRepository.count()).isEqualTo(1);
+        assertThat(activeItems).hasSize(1);
+        assertThat(activeItems.get(0).getQuantity()).isEqualTo(result.successes());
+    }
+}
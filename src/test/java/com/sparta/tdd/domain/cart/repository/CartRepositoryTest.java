@@ -19,7 +19,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -186,4 +188,19 @@ class CartRepositoryTest extends RepositoryTest {
         assertThat(actualCart).isPresent();
         assertThat(actualCart.get().isDeleted()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("insertIfAbsent - 장바구니가 없으면 만들고, 이미 있으면 아무것도 하지 않는다")
+    void insertIfAbsent_CreatesOnlyOnce() {
+        // when
+        int first = cartRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), LocalDateTime.now());
+        int second = cartRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), LocalDateTime.now());
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(cartRepository.findByUserIdForUpdate(user.getId())).isPresent();
+        assertThat(cartRepository.count()).isEqualTo(1);
+    }
+}
@@ -6,8 +6,10 @@ import com.sparta.tdd.domain.cart.entity.Cart;
 import com.sparta.tdd.domain.cart.entity.CartItem;
 import com.sparta.tdd.domain.cart.repository.CartItemRepository;
 import com.sparta.tdd.domain.cart.repository.CartRepository;
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.user.entity.User;
@@ -20,11 +22,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,6 +55,9 @@ class CartServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MenuCatalogCache menuCatalogCache;
+
     @InjectMocks
     private CartService cartService;
 
@@ -161,20 +169,18 @@ class CartServiceTest {
             // given
             Long userId = 1L;
             given(cartRepository.findByUserIdWithItems(userId))
-                    .willReturn(Optional.empty());
+                    .willReturn(Optional.empty(), Optional.of(cart));
             given(userRepository.findById(userId))
                     .willReturn(Optional.of(user));
-            given(cartRepository.save(any(Cart.class)))
-                    .willReturn(cart);
 
             // when
             CartResponseDto result = cartService.getCart(userId);
 
-            // then
+            // then - 동시 생성에도 하나만 남도록 ON CONFLICT 로 만든 뒤 다시 조회
             assertThat(result).isNotNull();
-            verify(cartRepository).findByUserIdWithItems(userId);
+            verify(cartRepository, times(2)).findByUserIdWithItems(userId);
             verify(userRepository).findById(userId);
-            verify(cartRepository).save(any(Cart.class));
+            verify(cartRepository).insertIfAbsent(any(UUID.class), eq(userId), any(LocalDateTime.class));
         }
 
         @Test
@@ -198,6 +204,44 @@ class CartServiceTest {
     @DisplayName("장바구니 아이템 추가")
     class AddItemToCartTest {
 
+        @BeforeEach
+        void setUp() {
+            lenient().when(cartRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(cart));
+        }
+
+        @Test
+        @DisplayName("장바구니가 없으면 ON CONFLICT 로 만든 뒤 그 행을 잠그고 추가 - 성공")
+        void addItemToCart_NoCart_CreatesThenLocks() {
+            // given
+            Long userId = 1L;
+            UUID menuId = menu.getId();
+            CartItemRequestDto request = new CartItemRequestDto(menuId, 1);
+
+            given(cartRepository.findByUserIdForUpdate(userId))
+                    .willReturn(Optional.empty(), Optional.of(cart));
+            given(userRepository.findById(userId))
+                    .willReturn(Optional.of(user));
+            given(cartRepository.findByUserIdWithItems(userId))
+                    .willReturn(Optional.of(cart));
+            given(menuRepository.findById(menuId))
+                    .willReturn(Optional.of(menu));
+            givenCatalogOf(menu);
+            given(cartItemRepository.findByCartIdAndMenuId(any(UUID.class), eq(menuId)))
+                    .willReturn(Optional.empty());
+
+            // when
+            CartResponseDto result = cartService.addItemToCart(userId, request);
+
+            // then - 생성(충돌 시 무시) 후 다시 잠근 다음에 기존 아이템 확인
+            assertThat(result).isNotNull();
+            InOrder inOrder = inOrder(cartRepository, cartItemRepository);
+            inOrder.verify(cartRepository).findByUserIdForUpdate(userId);
+            inOrder.verify(cartRepository).insertIfAbsent(any(UUID.class), eq(userId), any(LocalDateTime.class));
+            inOrder.verify(cartRepository).findByUserIdForUpdate(userId);
+            inOrder.verify(cartItemRepository).findByCartIdAndMenuId(any(UUID.class), eq(menuId));
+            verify(cartRepository, never()).save(any(Cart.class));
+        }
+
         @Test
         @DisplayName("새 아이템 추가 - 성공")
         void addItemToCart_NewItem_Success() {
@@ -210,6 +254,7 @@ class CartServiceTest {
                     .willReturn(Optional.of(cart));
             given(menuRepository.findById(menuId))
                     .willReturn(Optional.of(menu));
+            givenCatalogOf(menu);
             given(cartItemRepository.findByCartIdAndMenuId(any(UUID.class), eq(menuId)))
                     .willReturn(Optional.empty());
 
@@ -220,7 +265,11 @@ class CartServiceTest {
             assertThat(result).isNotNull();
             verify(cartRepository).findByUserIdWithItems(userId);
             verify(menuRepository).findById(menuId);
-            verify(cartItemRepository).findByCartIdAndMenuId(any(UUID.class), eq(menuId));
+
+            // 기존 아이템 확인 전에 장바구니 행을 잠금
+            InOrder inOrder = inOrder(cartRepository, cartItemRepository);
+            inOrder.verify(cartRepository).findByUserIdForUpdate(userId);
+            inOrder.verify(cartItemRepository).findByCartIdAndMenuId(any(UUID.class), eq(menuId));
         }
 
         @Test
@@ -237,6 +286,7 @@ class CartServiceTest {
                     .willReturn(Optional.of(cart));
             given(menuRepository.findById(menuId))
                     .willReturn(Optional.of(menu));
+            givenCatalogOf(menu);
             given(cartItemRepository.findByCartIdAndMenuId(any(UUID.class), eq(menuId)))
                     .willReturn(Optional.of(cartItem));
 
@@ -281,6 +331,7 @@ class CartServiceTest {
                     .willReturn(Optional.of(cart));
             given(menuRepository.findById(menuId))
                     .willReturn(Optional.of(differentMenu));
+            givenCatalogOf(differentMenu);
 
             // when & then
             assertThatThrownBy(() -> cartService.addItemToCart(userId, request))
@@ -288,6 +339,28 @@ class CartServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CART_DIFFERENT_STORE);
         }
 
+        @Test
+        @DisplayName("숨김 처리된 메뉴 추가 시도 - 실패")
+        void addItemToCart_HiddenMenu_Fail() {
+            // given
+            Long userId = 1L;
+            UUID menuId = menu.getId();
+            CartItemRequestDto request = new CartItemRequestDto(menuId, 2);
+            menu.updateStatus(true);
+
+            given(cartRepository.findByUserIdWithItems(userId))
+                    .willReturn(Optional.of(cart));
+            given(menuRepository.findById(menuId))
+                    .willReturn(Optional.of(menu));
+            givenCatalogOf(menu);
+
+            // when & then
+            assertThatThrownBy(() -> cartService.addItemToCart(userId, request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MENU_INVALID_INFO);
+            verify(cartItemRepository, never()).findByCartIdAndMenuId(any(), any());
+        }
+
         @Test
         @DisplayName("존재하지 않는 메뉴 - 실패")
         void addItemToCart_MenuNotFound_Fail() {
@@ -529,4 +602,10 @@ class CartServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CART_NOT_FOUND);
         }
     }
-}
\ No newline at end of file
+
+    private void givenCatalogOf(Menu menu) {
+        UUID storeId = menu.getStore().getId();
+        given(menuCatalogCache.get(storeId))
+                .willReturn(MenuCatalog.of(storeId, 0L, List.of(menu)));
+    }
+}
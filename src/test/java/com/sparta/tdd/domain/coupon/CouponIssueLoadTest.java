@@ -0,0 +1,101 @@
+package com.sparta.tdd.domain.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.helper.LoadTestResult;
+import com.sparta.tdd.common.template.LoadTest;
+import com.sparta.tdd.domain.coupon.dto.CouponRequestDto;
+import com.sparta.tdd.domain.coupon.entity.Coupon;
+import com.sparta.tdd.domain.coupon.enums.Scope;
+import com.sparta.tdd.domain.coupon.enums.Type;
+import com.sparta.tdd.domain.coupon.repository.CouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.service.UserCouponService;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CouponIssueLoadTest extends LoadTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int QUANTITY = 100;
+
+    @Autowired
+    UserCouponService userCouponService;
+
+    @Autowired
+    CouponRepository couponRepository;
+
+    @Autowired
+    UserCouponRepository userCouponRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    List<User> users;
+    Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        users = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+            .mapToObj(i -> User.builder()
+                .username("load" + i)
+                .password("password1")
+                .nickname("load" + i)
+                .authority(UserAuthority.CUSTOMER)
+                .build())
+            .toList());
+
+        coupon = couponRepository.save(Coupon.builder()
+            .dto(CouponRequestDto.builder()
+                .name("선착순 쿠폰")
+                .type(Type.FIXED)
+                .scope(Scope.MASTER)
+                .discountValue(2000)
+                .minOrderPrice(10000)
+                .quantity(QUANTITY)
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build())
+            .store(null)
+            .build());
+    }
+
+    @Test
+    @DisplayName("수량보다 많은 사용자가 동시에 요청해도 정확히 수량만큼만 발급된다")
+    void flashDrop_noOverIssue() throws InterruptedException {
+        // when
+        LoadTestResult result = runConcurrently("coupon-drop", USER_COUNT,
+            i -> userCouponService.createUserCoupon(coupon.getId(), users.get(i).getId()));
+
+        // then
+        assertThat(result.successes()).isEqualTo(QUANTITY);
+        assertThat(result.failureCount(ErrorCode.COUPON_ALL_SOLD_OUT.name())).isEqualTo(USER_COUNT - QUANTITY);
+        assertThat(userCouponRepository.count()).isEqualTo(QUANTITY);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(QUANTITY);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 요청해도 한 장만 발급된다")
+    void sameUser_issuedOnce() throws InterruptedException {
+        // given
+        Long userId = users.get(0).getId();
+
+        // when
+        LoadTestResult result = runConcurrently("coupon-same-user", 200,
+            i -> userCouponService.createUserCoupon(coupon.getId(), userId));
+
+        // then
+        assertThat(result.successes()).isEqualTo(1);
+        assertThat(result.failureCount(ErrorCode.USER_COUPON_ALREADY_ISSUED.name())).isEqualTo(199);
+        assertThat(userCouponRepository.count()).isEqualTo(1);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedCount()).isEqualTo(1);
+    }
+}
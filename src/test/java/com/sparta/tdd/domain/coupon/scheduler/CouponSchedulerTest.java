@@ -0,0 +1,130 @@
+package com.sparta.tdd.domain.coupon.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
+import com.sparta.tdd.domain.coupon.repository.CouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSchedulerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private UserCouponViewRepository userCouponViewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponScheduler couponScheduler;
+
+    @BeforeEach
+    void setUp() {
+        couponScheduler = new CouponScheduler(couponRepository, userCouponRepository,
+            userCouponViewRepository, transactionManager, BATCH_SIZE, 0L, false);
+    }
+
+    @Test
+    @DisplayName("유저쿠폰을 batch-size 단위 keyset 으로 만료시킨 뒤 쿠폰을 삭제한다")
+    void expireUserCoupons_chunkedByKeyset() {
+        // given
+        UUID couponId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        given(couponRepository.findExpiredCouponIds(any(LocalDateTime.class))).willReturn(List.of(couponId));
+        given(userCouponRepository.findIdsByCouponIdAndStatusAfter(eq(couponId), eq(CouponStatus.ACTIVE),
+            eq(new UUID(0L, 0L)), any(Limit.class))).willReturn(List.of(first, second));
+        given(userCouponRepository.findIdsByCouponIdAndStatusAfter(eq(couponId), eq(CouponStatus.ACTIVE),
+            eq(second), any(Limit.class))).willReturn(List.of(third));
+        given(userCouponRepository.updateStatusByIds(anyList(), eq(CouponStatus.ACTIVE), eq(CouponStatus.EXPIRED)))
+            .willReturn(BATCH_SIZE, 1);
+
+        // when
+        couponScheduler.expireUserCoupons();
+
+        // then
+        InOrder inOrder = inOrder(userCouponRepository, couponRepository);
+        inOrder.verify(userCouponRepository).updateStatusByIds(List.of(first, second),
+            CouponStatus.ACTIVE, CouponStatus.EXPIRED);
+        inOrder.verify(userCouponRepository).updateStatusByIds(List.of(third),
+            CouponStatus.ACTIVE, CouponStatus.EXPIRED);
+        inOrder.verify(couponRepository).softDeleteById(eq(couponId), any(LocalDateTime.class));
+        verify(userCouponViewRepository).updateStatusByIds(List.of(first, second), CouponStatus.EXPIRED, 1, null);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("만료 7일이 지난 유저쿠폰만 chunk 단위로 삭제하고 쿠폰은 건드리지 않는다")
+    void deleteOldExpiredUserCoupons_chunked() {
+        // given
+        UUID couponId = UUID.randomUUID();
+        UUID userCouponId = UUID.randomUUID();
+
+        given(couponRepository.findCouponIdsWithExpiredUserCouponsBefore(any(LocalDateTime.class)))
+            .willReturn(List.of(couponId));
+        given(userCouponRepository.findIdsByCouponIdAndStatusAfter(eq(couponId), eq(CouponStatus.EXPIRED),
+            any(UUID.class), any(Limit.class))).willReturn(List.of(userCouponId));
+
+        // when
+        couponScheduler.deleteOldExpiredUserCoupons();
+
+        // then
+        verify(userCouponRepository).softDeleteByIds(eq(List.of(userCouponId)), any(LocalDateTime.class));
+        verify(userCouponViewRepository).deleteAllByIdInBatch(List.of(userCouponId));
+        verify(couponRepository, never()).softDeleteById(any(), any());
+    }
+
+    @Test
+    @DisplayName("backfill-on-startup 이 꺼져 있으면 기동 시 쿠폰함 뷰를 채우지 않는다")
+    void backfillUserCouponView_disabled() {
+        // when
+        couponScheduler.backfillUserCouponView();
+
+        // then
+        verify(userCouponViewRepository, never()).backfillMissing();
+    }
+
+    @Test
+    @DisplayName("backfill-on-startup 을 켠 배포에서만 빠진 유저쿠폰을 뷰에 채운다")
+    void backfillUserCouponView_enabled() {
+        // given
+        CouponScheduler backfillEnabled = new CouponScheduler(couponRepository, userCouponRepository,
+            userCouponViewRepository, transactionManager, BATCH_SIZE, 0L, true);
+        given(userCouponViewRepository.backfillMissing()).willReturn(3);
+
+        // when
+        backfillEnabled.backfillUserCouponView();
+
+        // then
+        verify(userCouponViewRepository).backfillMissing();
+    }
+}
@@ -0,0 +1,219 @@
+package com.sparta.tdd.domain.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.coupon.dto.CouponRequestDto;
+import com.sparta.tdd.domain.coupon.entity.Coupon;
+import com.sparta.tdd.domain.coupon.enums.Scope;
+import com.sparta.tdd.domain.coupon.enums.Type;
+import com.sparta.tdd.domain.coupon.repository.CouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueEngineTest {
+
+    private static final int QUANTITY = 10;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private UserCouponViewRepository userCouponViewRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponIssueEngine engine;
+    private UUID couponId;
+    private Coupon coupon;
+
+    // DB 의 issued_count (조건부 UPDATE 흉내)
+    private final AtomicInteger issuedCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        couponId = UUID.randomUUID();
+        coupon = Coupon.builder()
+            .dto(CouponRequestDto.builder()
+                .name("선착순 쿠폰")
+                .type(Type.FIXED)
+                .scope(Scope.MASTER)
+                .discountValue(2000)
+                .minOrderPrice(10000)
+                .quantity(QUANTITY)
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build())
+            .store(null)
+            .build();
+        ReflectionTestUtils.setField(coupon, "id", couponId);
+
+        given(couponRepository.findByIdAndDeletedAtIsNull(couponId)).willReturn(Optional.of(coupon));
+        given(userCouponRepository.findUserIdsByCouponId(couponId)).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.stop();
+    }
+
+    private void startEngine(long timeoutMillis) {
+        engine = new CouponIssueEngine(couponRepository, userCouponRepository, userCouponViewRepository,
+            userRepository, transactionManager, 500, timeoutMillis, 100, 600);
+        engine.start();
+    }
+
+    private void givenWritableDb() {
+        Map<Long, User> users = new ConcurrentHashMap<>();
+        given(couponRepository.increaseIssuedCount(eq(couponId), anyInt())).willAnswer(inv -> {
+            int count = inv.getArgument(1);
+            int current;
+            do {
+                current = issuedCount.get();
+                if (current + count > QUANTITY) {
+                    return 0;
+                }
+            } while (!issuedCount.compareAndSet(current, current + count));
+            return 1;
+        });
+        given(couponRepository.getReferenceById(couponId)).willReturn(coupon);
+        given(userRepository.getReferenceById(anyLong())).willAnswer(inv -> users.computeIfAbsent(
+            inv.getArgument(0), id -> {
+                User user = User.builder()
+                    .username("user" + id)
+                    .password("password1")
+                    .nickname("user" + id)
+                    .authority(UserAuthority.CUSTOMER)
+                    .build();
+                ReflectionTestUtils.setField(user, "id", id);
+                return user;
+            }));
+    }
+
+    @Test
+    @DisplayName("수량보다 많은 사용자가 동시에 요청해도 정확히 수량만큼만 발급하고 나머지는 소진으로 거절한다")
+    void concurrentIssue_issuesExactlyQuantity() throws InterruptedException {
+        // given
+        startEngine(5_000);
+        givenWritableDb();
+        int requests = 100;
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= requests; userId++) {
+                long id = userId;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        engine.issue(couponId, id);
+                        issued.incrementAndGet();
+                    } catch (BusinessException e) {
+                        if (e.getErrorCode() == ErrorCode.COUPON_ALL_SOLD_OUT) {
+                            soldOut.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        // then
+        assertThat(issued.get()).isEqualTo(QUANTITY);
+        assertThat(soldOut.get()).isEqualTo(requests - QUANTITY);
+        assertThat(issuedCount.get()).isEqualTo(QUANTITY);
+    }
+
+    @Test
+    @DisplayName("기록이 timeout 안에 끝나지 않으면 발급 지연으로 응답한다")
+    void issue_timesOut() throws InterruptedException {
+        // given
+        startEngine(100);
+        CountDownLatch release = new CountDownLatch(1);
+        given(couponRepository.increaseIssuedCount(eq(couponId), anyInt())).willAnswer(inv -> {
+            release.await();
+            return 0;
+        });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> engine.issue(couponId, 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_ISSUE_TIMEOUT);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청한 evict 는 커밋 후에 적용되어 커밋 전 수량으로 다시 적재하지 않는다")
+    void evictAfterCommit_appliesOnCommit() throws InterruptedException {
+        // given - 첫 발급에서 메모리 재고 적재
+        startEngine(5_000);
+        givenWritableDb();
+        engine.issue(couponId, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when - 쿠폰 수정 트랜잭션 안에서 evict 요청
+            engine.evictAfterCommit(couponId);
+            engine.issue(couponId, 2L);
+
+            // then - 커밋 전에는 기존 재고 그대로 사용
+            verify(couponRepository, times(1)).findByIdAndDeletedAtIsNull(couponId);
+
+            // when - 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        engine.issue(couponId, 3L);
+
+        // then - 커밋 후 첫 요청에서 DB 기준으로 다시 적재
+        verify(couponRepository, times(2)).findByIdAndDeletedAtIsNull(couponId);
+    }
+}
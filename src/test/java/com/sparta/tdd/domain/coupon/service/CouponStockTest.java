@@ -0,0 +1,76 @@
+package com.sparta.tdd.domain.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.domain.coupon.service.CouponStock.Admission;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CouponStockTest {
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 남은 수량만큼만 입장시킨다")
+    void concurrentAcquire_admitsExactlyRemaining() throws InterruptedException {
+        // given
+        CouponStock stock = new CouponStock(100, List.of());
+        int requests = 1_000;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 0; userId < requests; userId++) {
+                long id = userId;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        if (stock.tryAcquire(id) == Admission.ADMITTED) {
+                            admitted.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+        }
+
+        // then
+        assertThat(admitted.get()).isEqualTo(100);
+        assertThat(stock.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 두 번째 요청은 중복으로 거절한다")
+    void sameUser_rejectedAsDuplicate() {
+        CouponStock stock = new CouponStock(10, List.of(2L));
+
+        assertThat(stock.tryAcquire(1L)).isEqualTo(Admission.ADMITTED);
+        assertThat(stock.tryAcquire(1L)).isEqualTo(Admission.DUPLICATE);
+        // 이미 DB 에 발급 이력이 있는 사용자
+        assertThat(stock.tryAcquire(2L)).isEqualTo(Admission.DUPLICATE);
+        assertThat(stock.remaining()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 요청은 수량을 되돌려 다른 사용자가 받을 수 있다")
+    void release_returnsStock() {
+        CouponStock stock = new CouponStock(1, List.of());
+
+        assertThat(stock.tryAcquire(1L)).isEqualTo(Admission.ADMITTED);
+        assertThat(stock.tryAcquire(2L)).isEqualTo(Admission.SOLD_OUT);
+
+        stock.release(1L);
+
+        assertThat(stock.tryAcquire(2L)).isEqualTo(Admission.ADMITTED);
+    }
+}
@@ -0,0 +1,179 @@
+package com.sparta.tdd.domain.coupon.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.coupon.dto.CouponRequestDto;
+import com.sparta.tdd.domain.coupon.dto.UserCouponCursor;
+import com.sparta.tdd.domain.coupon.dto.UserCouponWalletCursorResponseDto;
+import com.sparta.tdd.domain.coupon.dto.UserCouponWalletResponseDto;
+import com.sparta.tdd.domain.coupon.entity.Coupon;
+import com.sparta.tdd.domain.coupon.entity.UserCoupon;
+import com.sparta.tdd.domain.coupon.entity.UserCouponView;
+import com.sparta.tdd.domain.coupon.enums.CouponStatus;
+import com.sparta.tdd.domain.coupon.enums.Scope;
+import com.sparta.tdd.domain.coupon.enums.Type;
+import com.sparta.tdd.domain.coupon.repository.UserCouponRepository;
+import com.sparta.tdd.domain.coupon.repository.UserCouponViewRepository;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserCouponServiceTest {
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private UserCouponViewRepository userCouponViewRepository;
+
+    @Mock
+    private CouponIssueEngine couponIssueEngine;
+
+    @InjectMocks
+    private UserCouponService userCouponService;
+
+    private User user;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().username("customer").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        coupon = Coupon.builder()
+            .dto(CouponRequestDto.builder()
+                .name("2000원 할인 쿠폰")
+                .type(Type.FIXED)
+                .scope(Scope.MASTER)
+                .discountValue(2000)
+                .minOrderPrice(15000)
+                .quantity(100)
+                .expiredAt(LocalDateTime.now().plusDays(7))
+                .build())
+            .store(null)
+            .build();
+        ReflectionTestUtils.setField(coupon, "id", UUID.randomUUID());
+    }
+
+    @Nested
+    @DisplayName("내 쿠폰함 커서 조회")
+    class GetMyCouponsByCursorTest {
+
+        @Test
+        @DisplayName("size + 1 건이 오면 마지막 항목으로 다음 커서를 만들고, 그 커서로 이어서 조회한다")
+        void getMyCoupons_continuesFromNextCursor() {
+            // given
+            LocalDateTime issuedAt = LocalDateTime.of(2025, 9, 1, 12, 0);
+            UserCouponView first = view(issuedAt);
+            UserCouponView second = view(issuedAt.minusHours(1));
+            UserCouponView third = view(issuedAt.minusHours(2));
+
+            given(userCouponViewRepository.findWalletPage(1L, null, 2))
+                .willReturn(List.of(first, second, third));
+
+            // when
+            UserCouponWalletCursorResponseDto firstPage = userCouponService.getMyCoupons(1L, null,
+                PageRequest.of(0, 2));
+
+            // then
+            assertThat(firstPage.content()).extracting(UserCouponWalletResponseDto::userCouponId)
+                .containsExactly(first.getId(), second.getId());
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(UserCouponCursor.decodeOrNull(firstPage.nextCursor()))
+                .isEqualTo(new UserCouponCursor(second.getStatusOrder(), second.getIssuedAt(), second.getId()));
+
+            // given - 다음 페이지
+            given(userCouponViewRepository.findWalletPage(1L, UserCouponCursor.decodeOrNull(firstPage.nextCursor()), 2))
+                .willReturn(List.of(third));
+
+            // when
+            UserCouponWalletCursorResponseDto secondPage = userCouponService.getMyCoupons(1L,
+                firstPage.nextCursor(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(secondPage.content()).extracting(UserCouponWalletResponseDto::userCouponId)
+                .containsExactly(third.getId());
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 조회하지 않고 거절한다")
+        void getMyCoupons_invalidCursor() {
+            assertThatThrownBy(() -> userCouponService.getMyCoupons(1L, "not-a-cursor", PageRequest.of(0, 2)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.INVALID_USER_COUPON_CURSOR.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("유저쿠폰 사용")
+    class UseUserCouponTest {
+
+        @Test
+        @DisplayName("사용하면 쿠폰함 뷰도 같은 트랜잭션에서 USED 로 바뀌어 사용 가능한 쿠폰 뒤로 밀린다")
+        void useUserCoupon_updatesWalletView() {
+            // given
+            UserCoupon userCoupon = userCoupon();
+            given(userCouponRepository.findById(userCoupon.getId())).willReturn(Optional.of(userCoupon));
+
+            // when
+            Integer discount = userCouponService.useUserCoupon(1L, userCoupon.getId(), 20000);
+
+            // then
+            assertThat(discount).isEqualTo(2000);
+            assertThat(userCoupon.getCouponStatus()).isEqualTo(CouponStatus.USED);
+            verify(userCouponViewRepository).updateStatusByIds(List.of(userCoupon.getId()), CouponStatus.USED,
+                UserCouponView.statusOrder(CouponStatus.USED), userCoupon.getUsedAt());
+        }
+
+        @Test
+        @DisplayName("최소 주문 금액이 모자라면 사용하지 않고 쿠폰함 뷰도 그대로 둔다")
+        void useUserCoupon_belowMinPrice_keepsWalletView() {
+            // given
+            UserCoupon userCoupon = userCoupon();
+            given(userCouponRepository.findById(userCoupon.getId())).willReturn(Optional.of(userCoupon));
+
+            // when & then
+            assertThatThrownBy(() -> userCouponService.useUserCoupon(1L, userCoupon.getId(), 10000))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.COUPON_MIN_PRICE_INVALID.getMessage());
+            assertThat(userCoupon.getCouponStatus()).isEqualTo(CouponStatus.ACTIVE);
+            verify(userCouponViewRepository, never()).updateStatusByIds(anyList(), any(), anyInt(), any());
+        }
+    }
+
+    private UserCoupon userCoupon() {
+        UserCoupon userCoupon = UserCoupon.builder().user(user).coupon(coupon).build();
+        ReflectionTestUtils.setField(userCoupon, "id", UUID.randomUUID());
+        return userCoupon;
+    }
+
+    private UserCouponView view(LocalDateTime issuedAt) {
+        UserCoupon userCoupon = userCoupon();
+        ReflectionTestUtils.setField(userCoupon, "createdAt", issuedAt);
+        return UserCouponView.of(userCoupon, user.getId(), coupon);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sparta.tdd.domain.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
+import com.sparta.tdd.domain.menu.entity.Menu;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.store.entity.Store;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCatalogCacheTest {
+
+    private static final long TTL_SECONDS = 300;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    private MenuCatalogCache menuCatalogCache;
+
+    // version 보관 기간 확인용 시계 (nanos)
+    private final AtomicLong now = new AtomicLong();
+
+    private UUID storeId;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalogCache = new MenuCatalogCache(menuRepository,
+            new ConcurrentMapCacheManager(MenuCatalogCache.CACHE_NAME), TTL_SECONDS, now::get);
+
+        storeId = UUID.randomUUID();
+        Store store = Store.builder().name("치킨집").build();
+        ReflectionTestUtils.setField(store, "id", storeId);
+
+        menu = Menu.builder().name("후라이드").price(15000).store(store).build();
+        ReflectionTestUtils.setField(menu, "id", UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("같은 version 이면 캐시된 스냅샷을 재사용한다")
+    void get_reusesSnapshot() {
+        // given
+        when(menuRepository.findCatalogMenusByStoreId(storeId)).thenReturn(List.of(menu));
+
+        // when
+        MenuCatalog first = menuCatalogCache.get(storeId);
+        MenuCatalog second = menuCatalogCache.get(storeId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.storeName()).isEqualTo("치킨집");
+        assertThat(first.orderableItems()).extracting(MenuCatalog.Item::menuId).containsExactly(menu.getId());
+        verify(menuRepository, times(1)).findCatalogMenusByStoreId(storeId);
+    }
+
+    @Test
+    @DisplayName("version 이 올라가면 스냅샷을 다시 읽는다")
+    void bump_reloadsSnapshot() {
+        // given
+        when(menuRepository.findCatalogMenusByStoreId(storeId)).thenReturn(List.of(menu));
+        MenuCatalog before = menuCatalogCache.get(storeId);
+
+        // when
+        menu.updateStatus(true);
+        menuCatalogCache.bumpAfterCommit(storeId);
+        MenuCatalog after = menuCatalogCache.get(storeId);
+
+        // then
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.orderableItems()).isEmpty();
+        assertThat(after.allItems()).hasSize(1);
+        verify(menuRepository, times(2)).findCatalogMenusByStoreId(storeId);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 version 이 올라간 스냅샷은 캐시하지 않는다")
+    void get_doesNotCacheSnapshotLoadedDuringBump() {
+        // given - 적재 쿼리가 도는 사이에 메뉴 변경이 커밋됨
+        when(menuRepository.findCatalogMenusByStoreId(storeId)).thenAnswer(inv -> {
+            menuCatalogCache.bumpAfterCommit(storeId);
+            return List.of(menu);
+        }).thenReturn(List.of(menu));
+
+        // when
+        MenuCatalog stale = menuCatalogCache.get(storeId);
+        MenuCatalog fresh = menuCatalogCache.get(storeId);
+
+        // then
+        assertThat(stale.version()).isZero();
+        assertThat(fresh.version()).isEqualTo(1L);
+        verify(menuRepository, times(2)).findCatalogMenusByStoreId(storeId);
+    }
+
+    @Test
+    @DisplayName("마지막 변경 후 TTL 이 지난 가게의 version 은 지우고, 이전 스냅샷은 쓰지 않는다")
+    void version_prunedAfterTtl() {
+        // given - 삭제된 가게처럼 마지막 변경 이후 다시 바뀌지 않음
+        when(menuRepository.findCatalogMenusByStoreId(storeId)).thenReturn(List.of(menu));
+        menuCatalogCache.bumpAfterCommit(storeId);
+        MenuCatalog bumped = menuCatalogCache.get(storeId);
+        assertThat(menuCatalogCache.trackedStoreCount()).isEqualTo(1L);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS + 1));
+
+        // then
+        assertThat(menuCatalogCache.trackedStoreCount()).isZero();
+        MenuCatalog reloaded = menuCatalogCache.get(storeId);
+        assertThat(reloaded.version()).isZero().isNotEqualTo(bumped.version());
+        verify(menuRepository, times(2)).findCatalogMenusByStoreId(storeId);
+    }
+}
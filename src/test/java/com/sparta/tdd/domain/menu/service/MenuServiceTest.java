@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sparta.tdd.domain.menu.dto.MenuCatalog;
 import com.sparta.tdd.domain.menu.dto.MenuRequestDto;
 import com.sparta.tdd.domain.menu.dto.MenuResponseDto;
 import com.sparta.tdd.domain.menu.entity.Menu;
@@ -17,6 +18,7 @@ import com.sparta.tdd.domain.menu.repository.MenuRepository;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.store.repository.StoreRepository;
+import com.sparta.tdd.domain.store.service.StoreSearchCache;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.domain.user.repository.UserRepository;
@@ -46,6 +48,12 @@ public class MenuServiceTest {
     @Mock
     StoreRepository storeRepository;
 
+    @Mock
+    StoreSearchCache storeSearchCache;
+
+    @Mock
+    MenuCatalogCache menuCatalogCache;
+
     @Mock
     UserRepository userRepository;
 
@@ -122,8 +130,7 @@ public class MenuServiceTest {
         @DisplayName("Customer 메뉴 목록 조회 테스트")
         void getMenusCustomerTest() {
             // given
-            when(menuRepository.findAllByStoreIdAndIsHiddenFalseAndIsDeletedFalse(store.getId()))
-                .thenReturn(List.of(menu1));
+            givenCatalog();
 
             // when
             List<MenuResponseDto> testMenus = menuService.getMenus(store.getId(),
@@ -131,8 +138,7 @@ public class MenuServiceTest {
 
             // then
             assertNotNull(testMenus);
-            verify(menuRepository, times(1)).findAllByStoreIdAndIsHiddenFalseAndIsDeletedFalse(
-                store.getId());
+            verify(menuCatalogCache, times(1)).get(store.getId());
             verify(menuRepository, never()).findAllByStoreId(any());
             assertTrue(testMenus.stream().anyMatch(m -> m.menuId().equals(menu1.getId())));
             assertTrue(testMenus.stream().noneMatch(m -> m.menuId().equals(menu2.getId())));
@@ -142,8 +148,7 @@ public class MenuServiceTest {
         @DisplayName("OWNER 메뉴 목록 조회 테스트")
         void getMenusOwnerTest() {
             // given
-            when(menuRepository.findAllByStoreId(store.getId()))
-                .thenReturn(List.of(menu1, menu2));
+            givenCatalog();
 
             // when
             List<MenuResponseDto> testMenus = menuService.getMenus(store.getId(),
@@ -151,9 +156,7 @@ public class MenuServiceTest {
 
             // then
             assertNotNull(testMenus);
-            verify(menuRepository, times(1)).findAllByStoreId(store.getId());
-            verify(menuRepository, never()).findAllByStoreIdAndIsHiddenFalseAndIsDeletedFalse(
-                any());
+            verify(menuCatalogCache, times(1)).get(store.getId());
             assertTrue(testMenus.stream().anyMatch(m -> m.menuId().equals(menu1.getId())));
             assertTrue(testMenus.stream().anyMatch(m -> m.menuId().equals(menu2.getId())));
         }
@@ -167,22 +170,20 @@ public class MenuServiceTest {
         @DisplayName("Customer 메뉴 상세 테스트")
         void getMenusCustomerTest() {
             //given
-            when(menuRepository.findByIdAndStoreIdAndIsDeletedFalse(menu2.getId(), store.getId()))
-                .thenReturn(Optional.of(menu2));
+            givenCatalog();
 
             // when & then
             assertThrows(BusinessException.class,
                 () -> menuService.getMenu(store.getId(), menu2.getId(),
                     customer.getAuthority()));
-            verify(menuRepository, times(1)).findByIdAndStoreIdAndIsDeletedFalse(menu2.getId(), store.getId());
+            verify(menuRepository, never()).findByIdAndStoreIdAndIsDeletedFalse(any(), any());
         }
 
         @Test
         @DisplayName("OWNER 메뉴 상세 테스트")
         void getMenusOwnerTest() {
             //given
-            when(menuRepository.findByIdAndStoreIdAndIsDeletedFalse(menu2.getId(), store.getId()))
-                .thenReturn(Optional.of(menu2));
+            givenCatalog();
 
             // when
             MenuResponseDto testMenu = menuService.getMenu(store.getId(), menu2.getId(),
@@ -191,7 +192,7 @@ public class MenuServiceTest {
             // then
             assertNotNull(testMenu);
             assertEquals(menu2.getId(), testMenu.menuId());
-            verify(menuRepository, times(1)).findByIdAndStoreIdAndIsDeletedFalse(menu2.getId(), store.getId());
+            verify(menuCatalogCache, times(1)).get(store.getId());
         }
 
     }
@@ -299,4 +300,9 @@ public class MenuServiceTest {
         field.setAccessible(true);
         field.set(menu, isHidden);
     }
+
+    private void givenCatalog() {
+        when(menuCatalogCache.get(store.getId()))
+            .thenReturn(MenuCatalog.of(store.getId(), 0L, List.of(menu1, menu2)));
+    }
 }
@@ -14,6 +14,7 @@ import com.sparta.tdd.common.helper.CustomWithMockUser;
 import com.sparta.tdd.domain.order.dto.*;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.order.service.OrderService;
+import com.sparta.tdd.domain.order.service.OrderStreamService;
 import com.sparta.tdd.domain.orderMenu.dto.OrderMenuRequestDto;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import java.time.LocalDateTime;
@@ -41,6 +42,7 @@ class OrderControllerTest {
     @Autowired MockMvc mockMvc;
     @Autowired ObjectMapper objectMapper;
     @MockitoBean OrderService orderService;
+    @MockitoBean OrderStreamService orderStreamService;
 
     UUID orderId;
     UUID storeId;
@@ -59,17 +61,16 @@ class OrderControllerTest {
         @CustomWithMockUser(userId = 1L, authority = UserAuthority.CUSTOMER)
         @DisplayName("페이지 요청 시 사이즈 제한이 적용되고 200 반환")
         void getOrders_success() throws Exception {
-            OrderResponseDto dto = new OrderResponseDto(
+            OrderSummaryResponseDto dto = new OrderSummaryResponseDto(
                 orderId,
                 "홍길동",
                 "가게명",
                 10000,
                 "서울시 강남구",
-                List.of(),
                 LocalDateTime.now(),
                 OrderStatus.PENDING
             );
-            Page<OrderResponseDto> page = new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1);
+            Page<OrderSummaryResponseDto> page = new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1);
             given(orderService.getOrders(any(), any(), any())).willReturn(page);
 
             mockMvc.perform(get("/v1/orders?page=0&size=20"))
@@ -0,0 +1,234 @@
+package com.sparta.tdd.domain.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.template.RepositoryTest;
+import com.sparta.tdd.domain.menu.entity.Menu;
+import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.orderMenu.entity.OrderMenu;
+import com.sparta.tdd.domain.payment.entity.Payment;
+import com.sparta.tdd.domain.payment.enums.CardCompany;
+import com.sparta.tdd.domain.payment.enums.PaymentStatus;
+import com.sparta.tdd.domain.review.entity.Review;
+import com.sparta.tdd.domain.store.entity.Store;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(OrderArchiveRepository.class)
+class OrderArchiveRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    private OrderArchiveRepository archiveRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private User customer;
+    private Store store;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        // archive 테이블은 운영 DDL 로만 관리되므로 테스트에서 같은 모양으로 만든다 (partition 은 repository 가 생성)
+        for (String source : List.of("p_order", "p_order_menu", "p_payment")) {
+            em.createNativeQuery("CREATE TABLE IF NOT EXISTS " + source + "_archive (LIKE " + source
+                    + ") PARTITION BY RANGE (created_at)")
+                .executeUpdate();
+        }
+
+        User owner = User.builder()
+            .username("owner")
+            .password("password1")
+            .nickname("사장님")
+            .authority(UserAuthority.OWNER)
+            .build();
+        em.persist(owner);
+
+        customer = User.builder()
+            .username("customer")
+            .password("password1")
+            .nickname("손님")
+            .authority(UserAuthority.CUSTOMER)
+            .build();
+        em.persist(customer);
+
+        store = Store.builder()
+            .name("테스트 가게")
+            .category(StoreCategory.KOREAN)
+            .user(owner)
+            .build();
+        em.persist(store);
+
+        menu = Menu.builder()
+            .name("김치찌개")
+            .price(9000)
+            .store(store)
+            .build();
+        em.persist(menu);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("오래된 완료 주문과 soft delete 된 주문을 주문 메뉴, 결제와 함께 archive 로 옮기고 hot 에서 지운다")
+    void moveToArchive() {
+        // given
+        UUID oldDelivered = createOrder(OrderStatus.DELIVERED, now.minusDays(200), true);
+        UUID deleted = createOrder(OrderStatus.PENDING, now.minusDays(60), false);
+        em.createNativeQuery("UPDATE p_order SET deleted_at = :deletedAt, deleted_by = :userId WHERE id = :id")
+            .setParameter("deletedAt", now.minusDays(40))
+            .setParameter("userId", customer.getId())
+            .setParameter("id", deleted)
+            .executeUpdate();
+
+        UUID recentDelivered = createOrder(OrderStatus.DELIVERED, now.minusDays(1), true);
+        UUID oldPending = createOrder(OrderStatus.PENDING, now.minusDays(200), false);
+        UUID oldReviewed = createOrder(OrderStatus.DELIVERED, now.minusDays(200), false);
+        em.persist(Review.builder()
+            .user(customer)
+            .store(store)
+            .order(em.find(Order.class, oldReviewed))
+            .rating(5)
+            .content("맛있어요")
+            .build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<UUID> ids = archiveRepository.lockArchivableIds(now.minusDays(30), now.minusDays(180), 10);
+        int moved = archiveRepository.moveToArchive(ids);
+
+        // then - created_at 순으로 두 주문만 잡혀서 옮겨진다
+        assertThat(ids).containsExactly(oldDelivered, deleted);
+        assertThat(moved).isEqualTo(2);
+
+        assertThat(count("p_order_archive", "id", ids)).isEqualTo(2);
+        assertThat(count("p_order_menu_archive", "order_id", ids)).isEqualTo(4);
+        assertThat(count("p_payment_archive", "order_id", ids)).isEqualTo(1);
+
+        assertThat(count("p_order", "id", ids)).isZero();
+        assertThat(count("p_order_menu", "order_id", ids)).isZero();
+        assertThat(count("p_payment", "order_id", ids)).isZero();
+
+        // 대상이 아닌 주문은 hot 에 그대로 남는다
+        List<UUID> remaining = List.of(recentDelivered, oldPending, oldReviewed);
+        assertThat(count("p_order", "id", remaining)).isEqualTo(3);
+        assertThat(count("p_order_menu", "order_id", remaining)).isEqualTo(6);
+        assertThat(count("p_payment", "order_id", remaining)).isEqualTo(1);
+
+        // 컬럼 값이 그대로 복사된다
+        Object[] archived = (Object[]) em.createNativeQuery(
+                "SELECT total_price, order_status, deleted_at FROM p_order_archive WHERE id = :id")
+            .setParameter("id", deleted)
+            .getSingleResult();
+        assertThat(((Number) archived[0]).intValue()).isEqualTo(18000);
+        assertThat(archived[1]).isEqualTo(OrderStatus.PENDING.name());
+        assertThat(archived[2]).isNotNull();
+    }
+
+    @Test
+    @DisplayName("옮길 행이 걸친 달마다 세 archive 테이블에 월 partition 을 만든다")
+    void createsMonthlyPartitions() {
+        // given
+        LocalDateTime createdAt = now.minusDays(200);
+        UUID orderId = createOrder(OrderStatus.CANCELLED, createdAt, true);
+        // 결제는 주문 다음 달에 생성된 경우
+        LocalDateTime paidAt = createdAt.plusMonths(1);
+        em.createNativeQuery("UPDATE p_payment SET created_at = :createdAt WHERE order_id = :id")
+            .setParameter("createdAt", paidAt)
+            .setParameter("id", orderId)
+            .executeUpdate();
+        em.clear();
+
+        // when
+        archiveRepository.moveToArchive(List.of(orderId));
+
+        // then
+        assertThat(partitionsOf("p_order_archive")).containsExactly("p_order_archive_" + suffix(createdAt));
+        assertThat(partitionsOf("p_order_menu_archive"))
+            .containsExactly("p_order_menu_archive_" + suffix(createdAt));
+        assertThat(partitionsOf("p_payment_archive")).containsExactly("p_payment_archive_" + suffix(paidAt));
+        assertThat(count("p_payment_archive_" + suffix(paidAt), "order_id", List.of(orderId))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("옮길 주문이 없으면 빈 목록을 반환한다")
+    void nothingToArchive() {
+        // given
+        createOrder(OrderStatus.DELIVERED, now.minusDays(1), true);
+        em.clear();
+
+        // when
+        List<UUID> ids = archiveRepository.lockArchivableIds(now.minusDays(30), now.minusDays(180), 10);
+
+        // then
+        assertThat(ids).isEmpty();
+    }
+
+    // 주문 메뉴 2건(9000원 x 1)과 선택적으로 결제를 만들고 세 테이블의 created_at 을 함께 옮긴다
+    private UUID createOrder(OrderStatus status, LocalDateTime createdAt, boolean paid) {
+        Order order = Order.builder()
+            .address("서울시 강남구")
+            .orderStatus(status)
+            .store(store)
+            .user(customer)
+            .build();
+        order.addOrderMenu(OrderMenu.builder().quantity(1).price(9000).menu(menu).build());
+        order.addOrderMenu(OrderMenu.builder().quantity(1).price(9000).menu(menu).build());
+        em.persist(order);
+        if (paid) {
+            em.persist(Payment.builder()
+                .number("PAY-" + order.getId())
+                .amount(18000L)
+                .cardCompany(CardCompany.SHINHAN)
+                .cardNumber("1234-5678-9012-3456")
+                .status(PaymentStatus.COMPLETED)
+                .user(customer)
+                .order(order)
+                .build());
+        }
+        em.flush();
+
+        em.createNativeQuery("UPDATE p_order SET created_at = :createdAt WHERE id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", order.getId())
+            .executeUpdate();
+        for (String source : List.of("p_order_menu", "p_payment")) {
+            em.createNativeQuery("UPDATE " + source + " SET created_at = :createdAt WHERE order_id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", order.getId())
+                .executeUpdate();
+        }
+        return order.getId();
+    }
+
+    private long count(String table, String key, List<UUID> orderIds) {
+        return ((Number) em.createNativeQuery("SELECT count(*) FROM " + table + " WHERE " + key + " IN (:ids)")
+            .setParameter("ids", orderIds)
+            .getSingleResult()).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> partitionsOf(String table) {
+        return em.createNativeQuery("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = :table
+                """, String.class)
+            .setParameter("table", table)
+            .getResultList();
+    }
+
+    private String suffix(LocalDateTime dateTime) {
+        return String.format("%d%02d", dateTime.getYear(), dateTime.getMonthValue());
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.sparta.tdd.common.template.RepositoryTest;
 import com.sparta.tdd.domain.menu.dto.MenuRequestDto;
 import com.sparta.tdd.domain.menu.entity.Menu;
+import com.sparta.tdd.domain.order.dto.OrderCursor;
 import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
@@ -14,10 +15,13 @@ import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.global.exception.BusinessException;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Assertions;
@@ -181,8 +185,8 @@ class OrderRepositoryTest
     }
 
     @Nested
-    @DisplayName("findPageIds 테스트")
-    class findPageIds {
+    @DisplayName("findSummaries 테스트")
+    class findSummaries {
 
         private void seedOrders(int ownerCount, int otherCount) {
             for (int i = 0; i < ownerCount; i++) {
@@ -208,32 +212,21 @@ class OrderRepositoryTest
             var opt = new OrderSearchOptionDto(null, null, null, null, null);
 
             // when
-            var page = orderRepository.findPageIds(pageable, opt);
+            var page = orderRepository.findSummaries(pageable, opt);
 
             // then
-            var ids = page.getContent();
+            var summaries = page.getContent();
             Assertions.assertAll(
-                () -> Assertions.assertEquals(10, ids.size()),
+                () -> Assertions.assertEquals(10, summaries.size()),
                 () -> Assertions.assertEquals(43, page.getTotalElements()),
-                () -> {
-                    var firstTwo = ids.stream()
-                            .limit(2)
-                            .toList();
-                    var orders = orderRepository.findDetailsByIdIn(firstTwo);
-                    var map = orders.stream()
-                            .collect(Collectors.toMap(Order::getId, o -> o));
-
-                    var o0 = map.get(firstTwo.get(0));
-                    var o1 = map.get(firstTwo.get(1));
-                    Assertions.assertTrue(
-                        !o0.getCreatedAt().isBefore(o1.getCreatedAt()),
-                        "createdAt must be DESC");
-                }
+                () -> Assertions.assertTrue(
+                    !summaries.get(0).createdAt().isBefore(summaries.get(1).createdAt()),
+                    "createdAt must be DESC")
             );
         }
 
         @Test
-        @DisplayName("owner 필터: page=0,size=10, createdAt DESC → 총23, 모두 owner 소유")
+        @DisplayName("owner 필터: page=0,size=10, createdAt DESC → 총25, 모두 owner 소유")
         void page0_size10_sortedByCreatedAtDesc_ownerOnly() {
             // given
             seedOrders(23, 17);
@@ -242,31 +235,105 @@ class OrderRepositoryTest
             var opt = new OrderSearchOptionDto(null, null, owner.getId(), null, null);
 
             // when
-            var page = orderRepository.findPageIds(pageable, opt);
+            var page = orderRepository.findSummaries(pageable, opt);
 
             // then
-            var ids = page.getContent();
-            var orders = orderRepository.findDetailsByIdIn(ids);
-            var map = orders.stream().collect(Collectors.toMap(Order::getId, o -> o));
-            var firstTwo = ids.stream()
-                    .limit(2)
-                    .toList();
-            var o0 = map.get(firstTwo.get(0));
-            var o1 = map.get(firstTwo.get(1));
-
-            org.junit.jupiter.api.Assertions.assertAll(
-                () -> Assertions.assertEquals(10, ids.size()),
+            var summaries = page.getContent();
+            Assertions.assertAll(
+                () -> Assertions.assertEquals(10, summaries.size()),
                 () -> Assertions.assertEquals(25, page.getTotalElements()),
                 () -> Assertions.assertTrue(
-                    orders.stream().allMatch(o -> o.getStore().getUser().getId().equals(owner.getId())),
+                    summaries.stream().allMatch(o -> o.storeName().equals(ownerStore.getName())),
                     "모든 결과가 owner 소유여야 함"),
                 () -> Assertions.assertTrue(
-                    !o0.getCreatedAt().isBefore(o1.getCreatedAt()),
+                    !summaries.get(0).createdAt().isBefore(summaries.get(1).createdAt()),
                     "createdAt 내림차순 정렬")
             );
         }
 
     }
 
+    @Nested
+    @DisplayName("findStatusByIdAndDeletedAtIsNull 테스트")
+    class findStatusByIdAndDeletedAtIsNull {
+
+        @Test
+        @DisplayName("삭제되지 않은 주문은 상태를 반환한다")
+        void notDeleted_returnsStatus() {
+            // when
+            Optional<OrderStatus> result = orderRepository.findStatusByIdAndDeletedAtIsNull(target.getId());
+
+            // then
+            Assertions.assertEquals(Optional.of(OrderStatus.PENDING), result);
+        }
+
+        @Test
+        @DisplayName("soft delete 된 주문은 조회되지 않는다")
+        void softDeleted_returnsEmpty() {
+            // given
+            Order deleted = em.find(Order.class, target.getId());
+            deleted.delete(owner.getId());
+            em.flush();
+            em.clear();
+
+            // when & then
+            assertTrue(orderRepository.findStatusByIdAndDeletedAtIsNull(target.getId()).isEmpty());
+            assertTrue(orderRepository.findStatusByIdAndStoreUserIdAndDeletedAtIsNull(
+                target.getId(), owner.getId()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("findCursorKeys 테스트")
+    class findCursorKeys {
+
+        private void seedOrders(int count) {
+            for (int i = 0; i < count; i++) {
+                Order order = orderOf(ownerStore, owner, "addr-c-" + i, OrderStatus.PENDING);
+                try { Thread.sleep(1); } catch (InterruptedException ignored) {}
+                em.persist(order);
+            }
+            em.flush(); em.clear();
+        }
+
+        @Test
+        @DisplayName("size + 1 건을 createdAt DESC 로 반환하고, 커서 이후부터 중복 없이 이어서 조회한다")
+        void cursor_continuesWithoutDuplicates() {
+            // given
+            seedOrders(12); // beforeEach 3건 포함 15건
+            var pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+            var opt = new OrderSearchOptionDto(null, null, null, null, null);
+
+            // when
+            List<OrderCursor> first = orderRepository.findCursorKeys(null, pageable, opt);
+            OrderCursor last = first.get(pageable.getPageSize() - 1);
+            List<OrderCursor> second = orderRepository.findCursorKeys(last, pageable, opt);
+
+            // then
+            Set<UUID> seen = new HashSet<>();
+            first.subList(0, pageable.getPageSize()).forEach(key -> seen.add(key.id()));
+            Assertions.assertAll(
+                () -> Assertions.assertEquals(11, first.size(), "다음 페이지 판단용 1건 포함"),
+                () -> Assertions.assertEquals(5, second.size()),
+                () -> Assertions.assertTrue(
+                    second.stream().noneMatch(key -> seen.contains(key.id())),
+                    "이전 페이지와 겹치지 않아야 함"),
+                () -> Assertions.assertTrue(
+                    !first.get(0).createdAt().isBefore(first.get(1).createdAt()),
+                    "createdAt 내림차순 정렬")
+            );
+        }
+
+        @Test
+        @DisplayName("orderStatus 정렬은 커서 조회에서 지원하지 않는다")
+        void orderStatusSort_throws() {
+            var pageable = PageRequest.of(0, 10, Sort.by("orderStatus"));
+            var opt = new OrderSearchOptionDto(null, null, null, null, null);
+
+            Assertions.assertThrows(BusinessException.class,
+                () -> orderRepository.findCursorKeys(null, pageable, opt));
+        }
+    }
+
 
-}
\ No newline at end of file
+}
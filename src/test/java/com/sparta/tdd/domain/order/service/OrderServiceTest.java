@@ -1,27 +1,42 @@
 package com.sparta.tdd.domain.order.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sparta.tdd.domain.auth.UserDetailsImpl;
 import com.sparta.tdd.domain.menu.entity.Menu;
 import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.order.dto.OrderCursor;
+import com.sparta.tdd.domain.order.dto.OrderCursorResponseDto;
+import com.sparta.tdd.domain.order.dto.OrderEvent;
 import com.sparta.tdd.domain.order.dto.OrderRequestDto;
 import com.sparta.tdd.domain.order.dto.OrderResponseDto;
+import com.sparta.tdd.domain.order.dto.OrderSearchOptionDto;
+import com.sparta.tdd.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.order.mapper.OrderMapper;
 import com.sparta.tdd.domain.order.mapper.OrderMapperImpl;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
 import com.sparta.tdd.domain.orderMenu.dto.OrderMenuRequestDto;
+import com.sparta.tdd.domain.orderMenu.dto.OrderMenuResponseDto;
 import com.sparta.tdd.domain.orderMenu.mapper.OrderMenuMapper;
 import com.sparta.tdd.domain.store.entity.Store;
-import com.sparta.tdd.domain.store.repository.StoreRepository;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,8 +44,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +59,9 @@ class OrderServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private StoreRepository storeRepository;
-    @Mock
     private MenuRepository menuRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private OrderMapper orderMapper;
     private OrderService orderService;
@@ -66,7 +84,8 @@ class OrderServiceTest {
         this.orderMapper = impl;
 
         // 2. Service 생성
-        orderService = new OrderService(orderRepository, userRepository, storeRepository, orderMapper, menuRepository);
+        orderService = new OrderService(orderRepository, userRepository, orderMapper, menuRepository,
+            eventPublisher, new OrderStateMachine(orderRepository));
 
         // 3. 유저 세팅
         user = User.builder()
@@ -75,7 +94,7 @@ class OrderServiceTest {
             .nickname("nick")
             .build();
         ReflectionTestUtils.setField(user, "id", 1L);
-        userDetails = new UserDetailsImpl(1L, "testUser", UserAuthority.CUSTOMER);
+        userDetails = new UserDetailsImpl(1L, "tester", UserAuthority.CUSTOMER);
 
         // 4. 매장 세팅
         storeUUID = UUID.randomUUID();
@@ -131,10 +150,7 @@ class OrderServiceTest {
             return order;
         });
 
-        when(menuRepository.findAllVaildMenuIds(any(), eq(storeUUID)))
-            .thenReturn(List.of(friedMenu, seasonedMenu));
-        when(storeRepository.findById(storeUUID)).thenReturn(Optional.of(store));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        givenOrderableMenus(friedMenu, seasonedMenu);
 
         // when
         OrderResponseDto response = orderService.createOrder(userDetails, orderRequestDto);
@@ -143,5 +159,162 @@ class OrderServiceTest {
         assertThat(response.customerName()).isEqualTo(user.getUsername());
         assertThat(response.storeName()).isEqualTo(store.getName());
         assertThat(response.price()).isEqualTo(78000);
+
+        ArgumentCaptor<OrderEvent> event = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(OrderEventType.CREATED);
+        assertThat(event.getValue().orderId()).isEqualTo(response.id());
+        assertThat(event.getValue().storeId()).isEqualTo(storeUUID);
+    }
+
+    @Test
+    @DisplayName("주문 생성: 주문 금액은 클라이언트가 보낸 가격이 아닌 메뉴 가격으로 계산한다")
+    void createOrder_usesMenuPriceInsteadOfRequestPrice() {
+        // given
+        OrderRequestDto tampered = new OrderRequestDto(
+            "서울시 강남구",
+            "tester",
+            storeUUID,
+            "치킨집",
+            0,
+            List.of(new OrderMenuRequestDto(friedMenu.getId(), "후라이드", 0, 2))
+        );
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+        givenOrderableMenus(friedMenu);
+
+        // when
+        OrderResponseDto response = orderService.createOrder(userDetails, tampered);
+
+        // then
+        assertThat(response.price()).isEqualTo(30000);
+        assertThat(response.orderMenuList()).extracting("price").containsExactly(15000);
+    }
+
+    @Test
+    @DisplayName("주문 생성: 가게에 없거나 주문할 수 없는 메뉴가 섞여 있으면 예외가 발생한다")
+    void createOrder_invalidMenu_throwsException() {
+        // given
+        // 양념치킨은 다른 인스턴스에서 숨김 처리되어 DB 조회 결과에서 빠짐 (메뉴 스냅샷은 보지 않음)
+        givenOrderableMenus(friedMenu);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(userDetails, orderRequestDto))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.MENU_INVALID_INFO);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("커서 주문 목록: projection 으로 읽은 주문과 주문 메뉴를 커서 순서대로 합친다")
+    void getOrders_cursor_assemblesProjectionsInCursorOrder() {
+        // given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = List.of(firstId, secondId);
+        OrderSearchOptionDto searchOption = new OrderSearchOptionDto(null, null, 1L, null, null);
+
+        when(orderRepository.findCursorKeys(any(), any(), eq(searchOption))).thenReturn(List.of(
+            new OrderCursor(now, firstId),
+            new OrderCursor(now.minusMinutes(1), secondId)));
+        when(orderRepository.findSummariesByIdIn(ids)).thenReturn(List.of(
+            new OrderSummaryResponseDto(secondId, "tester", "치킨집", 16000, "서울시 강남구", now, OrderStatus.PENDING),
+            new OrderSummaryResponseDto(firstId, "tester", "치킨집", 30000, "서울시 강남구", now, OrderStatus.PENDING)));
+        when(orderRepository.findOrderMenusByOrderIdIn(ids)).thenReturn(Map.of(
+            firstId, List.of(new OrderMenuResponseDto(UUID.randomUUID(), "후라이드", 15000, 2))));
+
+        // when
+        OrderCursorResponseDto response = orderService.getOrders(userDetails, null, PageRequest.of(0, 10),
+            searchOption);
+
+        // then
+        assertThat(response.content()).extracting(OrderResponseDto::id).containsExactly(firstId, secondId);
+        assertThat(response.content().get(0).orderMenuList()).extracting("name").containsExactly("후라이드");
+        assertThat(response.content().get(1).orderMenuList()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 상태 전이: 주문을 로딩하지 않고 조건부 UPDATE 후 응답용으로만 조회한다")
+    void nextOrderStatus_updatesConditionallyThenLoadsForResponse() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        UserDetailsImpl manager = new UserDetailsImpl(2L, "manager", UserAuthority.MANAGER);
+        Order delivered = Order.builder()
+            .address("서울시 강남구")
+            .orderStatus(OrderStatus.DELIVERED)
+            .orderMenuList(List.of())
+            .build();
+        delivered.assignUser(user);
+        delivered.assignStore(store);
+        ReflectionTestUtils.setField(delivered, "id", orderId);
+
+        when(orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(OrderStatus.PENDING));
+        when(orderRepository.updateStatusIfCurrent(orderId, OrderStatus.PENDING, OrderStatus.DELIVERED))
+            .thenReturn(1);
+        when(orderRepository.findDetailById(orderId)).thenReturn(Optional.of(delivered));
+
+        // when
+        OrderResponseDto response = orderService.nextOrderStatus(orderId, manager);
+
+        // then
+        assertThat(response.orderStatus()).isEqualTo(OrderStatus.DELIVERED);
+        verify(eventPublisher).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 상태 전이: 그 사이 다른 요청이 상태를 바꿨다면 충돌 예외가 발생한다")
+    void nextOrderStatus_concurrentTransition_throwsConflict() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        UserDetailsImpl manager = new UserDetailsImpl(2L, "manager", UserAuthority.MANAGER);
+        when(orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(OrderStatus.PENDING));
+        when(orderRepository.updateStatusIfCurrent(orderId, OrderStatus.PENDING, OrderStatus.DELIVERED))
+            .thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.nextOrderStatus(orderId, manager))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ORDER_STATUS_CONFLICT);
+        verify(orderRepository, never()).findDetailById(any());
+    }
+
+    @Test
+    @DisplayName("주문 상태 전이: 다음 상태가 없는 주문은 UPDATE 없이 거절한다")
+    void nextOrderStatus_terminalStatus_throwsTransitionNotAllowed() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        UserDetailsImpl manager = new UserDetailsImpl(2L, "manager", UserAuthority.MANAGER);
+        when(orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(OrderStatus.DELIVERED));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.nextOrderStatus(orderId, manager))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ORDER_STATUS_TRANSITION_NOT_ALLOWED);
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경: 삭제된 주문은 UPDATE 없이 주문 없음으로 거절한다")
+    void changeOrderStatus_deletedOrder_throwsOrderNotFound() {
+        // given
+        UUID orderId = UUID.randomUUID();
+        when(orderRepository.findStatusByIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.changeOrderStatus(orderId,
+            new OrderStatusRequestDto(OrderStatus.DELIVERED)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ORDER_NOT_FOUND);
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any());
+    }
+
+    private void givenOrderableMenus(Menu... menus) {
+        when(menuRepository.findOrderableMenusWithStore(any(), eq(storeUUID))).thenReturn(List.of(menus));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
     }
 }
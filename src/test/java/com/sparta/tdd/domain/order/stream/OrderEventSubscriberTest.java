@@ -0,0 +1,81 @@
+package com.sparta.tdd.domain.order.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class OrderEventSubscriberTest {
+
+    private static final int CAPACITY = 3;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 이벤트부터 버리고 버린 개수를 센다")
+    void offer_dropsOldestWhenFull() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        Executor pending = scheduled::add;
+        OrderEventSubscriber subscriber = new OrderEventSubscriber(storeId, new SseEmitter(), CAPACITY);
+
+        // when
+        for (int i = 0; i < CAPACITY + 2; i++) {
+            subscriber.offer(event(), pending);
+        }
+
+        // then
+        assertThat(subscriber.bufferedCount()).isEqualTo(CAPACITY);
+        assertThat(subscriber.droppedCount()).isEqualTo(2);
+        assertThat(scheduled).as("전송 중인 drain 이 있으면 추가로 예약하지 않음").hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전송 스레드가 버퍼를 비우고 유실 개수를 초기화한다")
+    void drain_flushesBuffer() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        OrderEventSubscriber subscriber = new OrderEventSubscriber(storeId, new SseEmitter(), CAPACITY);
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            subscriber.offer(event(), scheduled::add);
+        }
+
+        // when
+        scheduled.get(0).run();
+
+        // then
+        assertThat(subscriber.bufferedCount()).isZero();
+        assertThat(subscriber.droppedCount()).isZero();
+        assertThat(subscriber.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("닫힌 구독자에게는 이벤트를 쌓지 않는다")
+    void offer_ignoredAfterClose() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        OrderEventSubscriber subscriber = new OrderEventSubscriber(storeId, new SseEmitter(), CAPACITY);
+        subscriber.close();
+
+        // when
+        subscriber.offer(event(), scheduled::add);
+
+        // then
+        assertThat(subscriber.bufferedCount()).isZero();
+        assertThat(scheduled).isEmpty();
+    }
+
+    private OrderEvent event() {
+        return new OrderEvent(OrderEventType.CREATED, UUID.randomUUID(), storeId, OrderStatus.PENDING,
+            LocalDateTime.now());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.tdd.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.order.service.OrderStateMachine;
+import com.sparta.tdd.domain.payment.entity.Payment;
+import com.sparta.tdd.domain.payment.enums.CardCompany;
+import com.sparta.tdd.domain.payment.enums.PaymentStatus;
+import com.sparta.tdd.domain.point.service.PointOutboxService;
+import com.sparta.tdd.domain.store.entity.Store;
+import com.sparta.tdd.domain.store.enums.StoreCategory;
+import com.sparta.tdd.domain.store.service.StoreStatsService;
+import com.sparta.tdd.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentResultProcessServiceTest {
+
+    @Mock
+    private PointOutboxService pointOutboxService;
+
+    @Mock
+    private OrderStateMachine orderStateMachine;
+
+    @Mock
+    private StoreStatsService storeStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PaymentResultProcessService paymentResultProcessService;
+
+    private Store store;
+    private Order order;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        User customer = User.builder().username("customer").build();
+        ReflectionTestUtils.setField(customer, "id", 1L);
+
+        store = Store.builder().name("맛있는 식당").category(StoreCategory.KOREAN).build();
+        ReflectionTestUtils.setField(store, "id", UUID.randomUUID());
+
+        order = Order.builder()
+            .address("서울시 강남구")
+            .orderStatus(OrderStatus.PENDING)
+            .orderMenuList(new ArrayList<>())
+            .store(store)
+            .user(customer)
+            .build();
+        ReflectionTestUtils.setField(order, "id", UUID.randomUUID());
+
+        payment = Payment.builder()
+            .number("TEST-PAY-1")
+            .amount(16000L)
+            .cardCompany(CardCompany.SHINHAN)
+            .cardNumber("1234567890123456")
+            .user(customer)
+            .order(order)
+            .build();
+        ReflectionTestUtils.setField(payment, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(payment, "createdAt", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 결제의 취소는 포인트 회수 outbox 도, 매출 차감도 남기지 않는다")
+    void cancelPending_noPointReclaim() {
+        // given
+        payment.cancel();
+
+        // when
+        paymentResultProcessService.processPaymentResult(payment, PaymentStatus.PENDING);
+
+        // then - 주문도 이미 PENDING 이므로 전이/알림 없음
+        verify(orderStateMachine, never()).transition(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(OrderEvent.class));
+        verify(pointOutboxService, never()).appendPaymentCancelled(any());
+        verify(storeStatsService, never()).recordPaymentRefunded(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("완료된 결제의 취소는 포인트 회수를 outbox 에 남기고 매출을 차감한다")
+    void cancelCompleted_reclaimsPoints() {
+        // given
+        order.changeOrderStatus(OrderStatus.DELIVERED);
+        payment.approve();
+        payment.cancel();
+
+        // when
+        paymentResultProcessService.processPaymentResult(payment, PaymentStatus.COMPLETED);
+
+        // then
+        verify(pointOutboxService).appendPaymentCancelled(payment);
+        verify(storeStatsService).recordPaymentRefunded(store.getId(), 16000L);
+        verify(orderStateMachine).transition(order.getId(), OrderStatus.DELIVERED, OrderStatus.PENDING);
+        assertPublished(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("결제 완료로 주문이 전이되면 가게 주문 스트림에 상태 변경을 알린다")
+    void approve_publishesStatusChanged() {
+        // given
+        payment.approve();
+        given(orderStateMachine.advance(order.getId(), OrderStatus.PENDING)).willReturn(OrderStatus.DELIVERED);
+
+        // when
+        paymentResultProcessService.processPaymentResult(payment, PaymentStatus.PENDING);
+
+        // then
+        verify(pointOutboxService).appendPaymentCompleted(payment);
+        assertPublished(OrderStatus.DELIVERED);
+    }
+
+    private void assertPublished(OrderStatus orderStatus) {
+        ArgumentCaptor<OrderEvent> captor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(OrderEventType.STATUS_CHANGED);
+        assertThat(captor.getValue().orderId()).isEqualTo(order.getId());
+        assertThat(captor.getValue().storeId()).isEqualTo(store.getId());
+        assertThat(captor.getValue().orderStatus()).isEqualTo(orderStatus);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.tdd.domain.point;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.helper.LoadTestResult;
+import com.sparta.tdd.common.template.LoadTest;
+import com.sparta.tdd.domain.point.dto.PointRequest;
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.repository.PointHistoryRepository;
+import com.sparta.tdd.domain.point.repository.PointWalletRepository;
+import com.sparta.tdd.domain.point.scheduler.PointLedgerCompactor;
+import com.sparta.tdd.domain.point.service.PointService;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class PointEarnLoadTest extends LoadTest {
+
+    private static final long AMOUNT = 10L;
+
+    @Autowired
+    PointService pointService;
+
+    @Autowired
+    PointWalletRepository walletRepository;
+
+    @Autowired
+    PointHistoryRepository historyRepository;
+
+    @Autowired
+    PointLedgerCompactor compactor;
+
+    @Autowired
+    UserRepository userRepository;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .username("customer")
+            .password("password1")
+            .nickname("customer")
+            .authority(UserAuthority.CUSTOMER)
+            .build());
+
+        // 지갑 생성 경합이 아닌 잔액 갱신 경합을 보기 위해 지갑을 먼저 만들어 둠
+        pointService.earnPoints(PointRequest.forPayment(user, UUID.randomUUID(), AMOUNT, "초기 적립"));
+    }
+
+    @Test
+    @DisplayName("한 지갑에 동시에 적립해도 잔액은 적립 이력의 합과 같다")
+    void concurrentEarn_balanceMatchesHistory() throws InterruptedException {
+        // given
+        int requests = 500;
+
+        // when
+        LoadTestResult result = runConcurrently("point-earn", requests,
+            i -> pointService.earnPoints(PointRequest.forPayment(user, UUID.randomUUID(), AMOUNT, "동시 적립")));
+
+        // then
+        List<PointHistory> histories = historyRepository.findAll();
+        long historySum = histories.stream().mapToLong(PointHistory::getAmount).sum();
+
+        assertThat(histories).hasSize(result.successes() + 1);
+        assertThat(pointService.getBalance(user.getId())).isEqualTo(historySum);
+
+        // compaction 후에는 스냅샷만으로도 원장 합과 같아야 함
+        compactor.compact();
+        assertThat(walletRepository.findByUserId(user.getId()).orElseThrow().getBalance())
+            .isEqualTo(historySum);
+    }
+
+    @Test
+    @DisplayName("같은 참조 ID 로 동시에 적립해도 한 번만 반영된다")
+    void duplicateReference_earnedOnce() throws InterruptedException {
+        // given
+        UUID orderId = UUID.randomUUID();
+
+        // when
+        runConcurrently("point-earn-duplicate", 100,
+            i -> pointService.earnPoints(PointRequest.forPayment(user, orderId, AMOUNT, "중복 적립")));
+
+        // then
+        long earnedForOrder = historyRepository.findAll().stream()
+            .filter(history -> orderId.equals(history.getReferenceId()))
+            .count();
+
+        assertThat(earnedForOrder).isEqualTo(1);
+        assertThat(pointService.getBalance(user.getId())).isEqualTo(AMOUNT * 2);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sparta.tdd.domain.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.template.RepositoryTest;
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointWallet;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class PointHistoryRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    private PointHistoryRepository historyRepository;
+
+    private PointWallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+            .username("customer")
+            .password("password1")
+            .nickname("customer")
+            .authority(UserAuthority.CUSTOMER)
+            .build();
+        em.persist(user);
+
+        wallet = PointWallet.builder().user(user).build();
+        em.persist(wallet);
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("원장 추가")
+    class AppendIfAbsentTest {
+
+        @Test
+        @DisplayName("같은 (reference_id, type) 은 한 번만 기록되고 두 번째는 0 을 반환한다")
+        void sameReferenceAndType_appendedOnce() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+
+            // when
+            int first = append(paymentId, 300L, PointType.PAYMENT_EARNED);
+            int second = append(paymentId, 300L, PointType.PAYMENT_EARNED);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(historyRepository.count()).isEqualTo(1);
+
+            PointHistory saved = historyRepository
+                .findByReferenceIdAndTypeAndDeletedAtIsNull(paymentId, PointType.PAYMENT_EARNED).orElseThrow();
+            assertThat(saved.getAmount()).isEqualTo(300L);
+            assertThat(saved.isCompacted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("같은 결제라도 종류가 다르면 (적립 / 취소) 각각 기록된다")
+        void sameReferenceDifferentType_appendedBoth() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+
+            // when
+            int earned = append(paymentId, 300L, PointType.PAYMENT_EARNED);
+            int cancelled = append(paymentId, -300L, PointType.PAYMENT_CANCELLED);
+
+            // then
+            assertThat(earned).isEqualTo(1);
+            assertThat(cancelled).isEqualTo(1);
+            assertThat(historyRepository.count()).isEqualTo(2);
+        }
+    }
+
+    private int append(UUID referenceId, long amount, PointType type) {
+        LocalDateTime now = LocalDateTime.now();
+        int appended = historyRepository.appendIfAbsent(UUID.randomUUID(), wallet.getId(), referenceId, amount,
+            type.name(), type.name(), now.plusYears(1), now);
+        em.clear();
+        return appended;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sparta.tdd.domain.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.template.RepositoryTest;
+import com.sparta.tdd.domain.point.entity.PointOutbox;
+import com.sparta.tdd.domain.point.enums.PointOutboxStatus;
+import com.sparta.tdd.domain.point.enums.PointType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointOutboxRepositoryTest extends RepositoryTest {
+
+    private static final long LEASE_SECONDS = 60L;
+
+    @Autowired
+    private PointOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Nested
+    @DisplayName("선점")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("처리할 때가 된 PENDING 만 next_attempt_at 순으로 limit 건 고른다")
+        void findClaimableIds_dueAndPendingOnly() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            PointOutbox oldest = outbox(now.minusMinutes(3), PointOutboxStatus.PENDING);
+            PointOutbox older = outbox(now.minusMinutes(2), PointOutboxStatus.PENDING);
+            PointOutbox recent = outbox(now.minusMinutes(1), PointOutboxStatus.PENDING);
+            outbox(now.plusMinutes(1), PointOutboxStatus.PENDING);
+            outbox(now.minusMinutes(5), PointOutboxStatus.PROCESSED);
+            outbox(now.minusMinutes(5), PointOutboxStatus.FAILED);
+            em.flush();
+            em.clear();
+
+            // when
+            List<UUID> ids = outboxRepository.findClaimableIds(now, 2);
+
+            // then
+            assertThat(ids).containsExactly(oldest.getId(), older.getId());
+            assertThat(outboxRepository.findClaimableIds(now, 10))
+                .containsExactly(oldest.getId(), older.getId(), recent.getId());
+        }
+
+        @Test
+        @DisplayName("선점하면 시도 횟수가 늘고 lease 가 끝날 때까지 다시 잡히지 않는다")
+        void claim_hiddenUntilLeaseExpires() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            PointOutbox event = outbox(now.minusSeconds(1), PointOutboxStatus.PENDING);
+            em.flush();
+            em.clear();
+
+            // when
+            outboxRepository.claim(List.of(event.getId()), now.plusSeconds(LEASE_SECONDS));
+            em.clear();
+
+            // then
+            assertThat(outboxRepository.findById(event.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+            assertThat(outboxRepository.findClaimableIds(now, 10)).isEmpty();
+            assertThat(outboxRepository.findClaimableIds(now.plusSeconds(LEASE_SECONDS - 1), 10)).isEmpty();
+
+            // lease 가 지나면 (처리하던 인스턴스가 죽은 경우) 다시 잡힘
+            assertThat(outboxRepository.findClaimableIds(now.plusSeconds(LEASE_SECONDS + 1), 10))
+                .containsExactly(event.getId());
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("다른 트랜잭션이 잠근 행은 건너뛰고 남은 행만 고른다 (SKIP LOCKED)")
+        void findClaimableIds_skipsLockedRows() throws Exception {
+            // given - 다른 연결에서 보이도록 커밋
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            LocalDateTime now = LocalDateTime.now();
+            List<UUID> seeded = tx.execute(status -> List.of(
+                outbox(now.minusMinutes(3), PointOutboxStatus.PENDING).getId(),
+                outbox(now.minusMinutes(2), PointOutboxStatus.PENDING).getId(),
+                outbox(now.minusMinutes(1), PointOutboxStatus.PENDING).getId()));
+
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when - 첫 worker 가 앞의 두 행을 잠근 채로 머무는 동안 두 번째 worker 가 선점
+            CompletableFuture<List<UUID>> first = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+                List<UUID> ids = outboxRepository.findClaimableIds(now, 2);
+                locked.countDown();
+                awaitQuietly(release);
+                return ids;
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+            List<UUID> second = tx.execute(status -> outboxRepository.findClaimableIds(now, 10));
+            release.countDown();
+
+            // then - 기다리지 않고 잠기지 않은 행만 가져감
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(seeded.get(0), seeded.get(1));
+            assertThat(second).containsExactly(seeded.get(2));
+        }
+    }
+
+    private PointOutbox outbox(LocalDateTime nextAttemptAt, PointOutboxStatus status) {
+        PointOutbox outbox = PointOutbox.builder()
+            .userId(1L)
+            .referenceId(UUID.randomUUID())
+            .type(PointType.PAYMENT_EARNED)
+            .amount(100L)
+            .description("결제 적립")
+            .build();
+        ReflectionTestUtils.setField(outbox, "nextAttemptAt", nextAttemptAt);
+        ReflectionTestUtils.setField(outbox, "status", status);
+        return outboxRepository.save(outbox);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.tdd.domain.point.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.tdd.common.template.RepositoryTest;
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointWallet;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+class PointWalletRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    private PointWalletRepository walletRepository;
+
+    @Autowired
+    private PointHistoryRepository historyRepository;
+
+    private User user;
+    private PointWallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .username("customer")
+            .password("password1")
+            .nickname("customer")
+            .authority(UserAuthority.CUSTOMER)
+            .build();
+        em.persist(user);
+
+        wallet = PointWallet.builder().user(user).build();
+        wallet.fold(1000L);
+        em.persist(wallet);
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("현재 잔액 조회")
+    class FindCurrentBalanceTest {
+
+        @Test
+        @DisplayName("지갑 스냅샷에 아직 접히지 않은 적립/회수 합을 더한다")
+        void snapshotPlusPending() {
+            // given - 스냅샷 1000, 접히지 않은 적립 +500 / 회수 -300
+            append(UUID.randomUUID(), 500L, PointType.PAYMENT_EARNED);
+            append(UUID.randomUUID(), -300L, PointType.PAYMENT_CANCELLED);
+
+            // when & then
+            assertThat(walletRepository.findCurrentBalance(wallet.getId())).isEqualTo(1200L);
+        }
+
+        @Test
+        @DisplayName("접히지 않은 원장이 없으면 스냅샷 그대로다")
+        void noPending_snapshotOnly() {
+            assertThat(walletRepository.findCurrentBalance(wallet.getId())).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("compaction 이 접은 행은 스냅샷에만 한 번 반영되어 접기 전후 잔액이 같다")
+        void sameBalanceBeforeAndAfterCompaction() {
+            // given
+            append(UUID.randomUUID(), 500L, PointType.PAYMENT_EARNED);
+            append(UUID.randomUUID(), -300L, PointType.PAYMENT_CANCELLED);
+            long before = walletRepository.findCurrentBalance(wallet.getId());
+
+            // when - PointLedgerCompactor 와 같은 순서로 접음
+            List<PointHistory> pending = historyRepository.findPendingByWalletId(wallet.getId(), Limit.of(100));
+            historyRepository.markCompacted(pending.stream().map(PointHistory::getId).toList());
+            walletRepository.findById(wallet.getId()).orElseThrow()
+                .fold(pending.stream().mapToLong(PointHistory::getAmount).sum());
+            em.flush();
+            em.clear();
+
+            // then
+            assertThat(before).isEqualTo(1200L);
+            assertThat(walletRepository.findCurrentBalance(wallet.getId())).isEqualTo(1200L);
+            assertThat(walletRepository.findById(wallet.getId()).orElseThrow().getBalance()).isEqualTo(1200L);
+        }
+    }
+
+    @Nested
+    @DisplayName("지갑 생성")
+    class InsertIfAbsentTest {
+
+        @Test
+        @DisplayName("지갑이 없으면 만들고, 이미 있으면 아무것도 하지 않는다")
+        void insertIfAbsent_createsOnlyOnce() {
+            // given
+            User other = User.builder()
+                .username("other")
+                .password("password1")
+                .nickname("other")
+                .authority(UserAuthority.CUSTOMER)
+                .build();
+            em.persist(other);
+            em.flush();
+
+            // when
+            int first = walletRepository.insertIfAbsent(UUID.randomUUID(), other.getId(), LocalDateTime.now());
+            int second = walletRepository.insertIfAbsent(UUID.randomUUID(), other.getId(), LocalDateTime.now());
+            int existing = walletRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), LocalDateTime.now());
+            em.clear();
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(existing).isZero();
+            assertThat(walletRepository.findIdByUserId(other.getId())).isPresent();
+            assertThat(walletRepository.findIdByUserId(user.getId())).contains(wallet.getId());
+            assertThat(walletRepository.findCurrentBalance(walletRepository.findIdByUserId(other.getId()).orElseThrow()))
+                .isZero();
+        }
+    }
+
+    private void append(UUID referenceId, long amount, PointType type) {
+        LocalDateTime now = LocalDateTime.now();
+        historyRepository.appendIfAbsent(UUID.randomUUID(), wallet.getId(), referenceId, amount, type.name(),
+            type.name(), now.plusYears(1), now);
+    }
+}
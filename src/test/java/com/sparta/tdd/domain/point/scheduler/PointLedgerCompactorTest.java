@@ -0,0 +1,97 @@
+package com.sparta.tdd.domain.point.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointWallet;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.point.repository.PointHistoryRepository;
+import com.sparta.tdd.domain.point.repository.PointWalletRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerCompactorTest {
+
+    @Mock
+    private PointWalletRepository walletRepository;
+
+    @Mock
+    private PointHistoryRepository historyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PointLedgerCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new PointLedgerCompactor(walletRepository, historyRepository, transactionManager, 10, 100);
+    }
+
+    @Test
+    @DisplayName("접히지 않은 원장 금액의 합을 지갑 스냅샷에 더한다")
+    void compact_foldsPendingHistoryIntoSnapshot() {
+        // given
+        PointWallet wallet = PointWallet.builder().build();
+        UUID walletId = UUID.randomUUID();
+        PointHistory earned = history(500L, PointType.PAYMENT_EARNED);
+        PointHistory cancelled = history(-200L, PointType.PAYMENT_CANCELLED);
+
+        given(historyRepository.findWalletIdsWithPendingHistory(any(Limit.class))).willReturn(List.of(walletId));
+        given(historyRepository.findPendingByWalletId(eq(walletId), any(Limit.class)))
+            .willReturn(List.of(earned, cancelled));
+        given(historyRepository.markCompacted(List.of(earned.getId(), cancelled.getId()))).willReturn(2);
+        given(walletRepository.findById(walletId)).willReturn(Optional.of(wallet));
+
+        // when
+        compactor.compact();
+
+        // then
+        assertThat(wallet.getBalance()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("다른 compaction 이 먼저 접은 행이 있으면 스냅샷을 갱신하지 않는다")
+    void compact_skipsWalletWhenRowsAlreadyCompacted() {
+        // given
+        UUID walletId = UUID.randomUUID();
+        PointHistory earned = history(500L, PointType.PAYMENT_EARNED);
+
+        given(historyRepository.findWalletIdsWithPendingHistory(any(Limit.class))).willReturn(List.of(walletId));
+        given(historyRepository.findPendingByWalletId(eq(walletId), any(Limit.class))).willReturn(List.of(earned));
+        given(historyRepository.markCompacted(anyList())).willReturn(0);
+
+        // when
+        compactor.compact();
+
+        // then
+        verify(walletRepository, never()).findById(any());
+    }
+
+    private PointHistory history(long amount, PointType type) {
+        PointHistory history = PointHistory.builder()
+            .referenceId(UUID.randomUUID())
+            .amount(amount)
+            .type(type)
+            .build();
+        ReflectionTestUtils.setField(history, "id", UUID.randomUUID());
+        return history;
+    }
+}
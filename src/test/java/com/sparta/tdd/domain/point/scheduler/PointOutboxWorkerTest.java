@@ -0,0 +1,191 @@
+package com.sparta.tdd.domain.point.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.point.dto.PointRequest;
+import com.sparta.tdd.domain.point.entity.PointOutbox;
+import com.sparta.tdd.domain.point.enums.PointOutboxStatus;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.point.repository.PointOutboxRepository;
+import com.sparta.tdd.domain.point.service.PointService;
+import com.sparta.tdd.domain.user.entity.User;
+import com.sparta.tdd.domain.user.repository.UserRepository;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PointOutboxWorkerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private PointOutboxRepository outboxRepository;
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private User user;
+
+    private PointOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PointOutboxWorker(outboxRepository, pointService, userRepository, transactionManager,
+            1, 100, MAX_ATTEMPTS, 1000L, 60000L);
+        given(userRepository.getReferenceById(USER_ID)).willReturn(user);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.stop();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 요청을 한 번에 반영하고 처리 완료로 표시한다")
+    void poll_appliesUserEventsTogether() {
+        // given
+        PointOutbox earned = outbox(PointType.PAYMENT_EARNED, 100L, 1);
+        PointOutbox cancelled = outbox(PointType.PAYMENT_CANCELLED, null, 1);
+        givenClaimed(earned, cancelled);
+
+        // when
+        worker.poll();
+
+        // then - 반영은 worker pool 에서 비동기로 진행
+        verify(outboxRepository, timeout(1000)).updateStatus(List.of(earned.getId(), cancelled.getId()),
+            PointOutboxStatus.PROCESSED);
+        verify(pointService).earnPoints(any(PointRequest.class));
+        verify(pointService).losePoints(user, cancelled.getReferenceId());
+        verify(outboxRepository, never()).reschedule(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 건별로 다시 처리하고 실패한 요청만 재시도 예약한다")
+    void poll_fallsBackToSingleEvents() {
+        // given
+        PointOutbox earned = outbox(PointType.PAYMENT_EARNED, 100L, 1);
+        PointOutbox cancelled = outbox(PointType.PAYMENT_CANCELLED, null, 1);
+        givenClaimed(earned, cancelled);
+        willThrow(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND))
+            .given(pointService).losePoints(user, cancelled.getReferenceId());
+
+        // when
+        worker.poll();
+
+        // then
+        verify(outboxRepository, timeout(1000)).reschedule(eq(cancelled.getId()), eq(PointOutboxStatus.PENDING),
+            any(LocalDateTime.class), anyString());
+        verify(pointService, times(2)).earnPoints(any(PointRequest.class));
+        verify(outboxRepository).updateStatus(List.of(earned.getId()), PointOutboxStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED 로 남긴다")
+    void poll_marksFailedAfterMaxAttempts() {
+        // given
+        PointOutbox earned = outbox(PointType.REVIEW_EARNED, 500L, MAX_ATTEMPTS);
+        givenClaimed(earned);
+        willThrow(new IllegalStateException("db down"))
+            .given(pointService).earnPoints(any(PointRequest.class));
+
+        // when
+        worker.poll();
+
+        // then
+        verify(outboxRepository, timeout(1000)).reschedule(eq(earned.getId()), eq(PointOutboxStatus.FAILED),
+            any(LocalDateTime.class), eq("db down"));
+        verify(outboxRepository, never()).updateStatus(anyList(), eq(PointOutboxStatus.PROCESSED));
+    }
+
+    @Test
+    @DisplayName("poll 은 반영을 기다리지 않고, 같은 사용자의 다음 묶음은 앞 묶음이 끝난 뒤에 반영한다")
+    void poll_doesNotBlockAndKeepsUserOrder() throws InterruptedException {
+        // given - 첫 묶음의 반영이 멈춰 있는 상황
+        PointOutbox first = outbox(PointType.PAYMENT_EARNED, 100L, 1);
+        PointOutbox second = outbox(PointType.REVIEW_EARNED, 500L, 1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(inv -> {
+            entered.countDown();
+            release.await();
+            return null;
+        }).given(pointService).earnPoints(argThat(request -> request.referenceId().equals(first.getReferenceId())));
+
+        // when - 첫 poll 은 처리 중인 묶음을 기다리지 않고 반환
+        givenClaimed(first);
+        worker.poll();
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+        givenClaimed(second);
+        worker.poll();
+
+        // then - 처리 중인 1건만큼 선점 수를 줄이고, 같은 사용자의 다음 묶음은 아직 반영하지 않음
+        verify(outboxRepository).findClaimableIds(any(LocalDateTime.class), eq(99));
+        verify(outboxRepository, after(200).never()).updateStatus(List.of(second.getId()),
+            PointOutboxStatus.PROCESSED);
+
+        release.countDown();
+        InOrder inOrder = inOrder(outboxRepository);
+        inOrder.verify(outboxRepository, timeout(1000)).updateStatus(List.of(first.getId()),
+            PointOutboxStatus.PROCESSED);
+        inOrder.verify(outboxRepository, timeout(1000)).updateStatus(List.of(second.getId()),
+            PointOutboxStatus.PROCESSED);
+    }
+
+    private void givenClaimed(PointOutbox... events) {
+        List<UUID> ids = Arrays.stream(events).map(PointOutbox::getId).toList();
+        given(outboxRepository.findClaimableIds(any(LocalDateTime.class), anyInt())).willReturn(ids);
+        given(outboxRepository.findAllByIdInOrderByCreatedAt(ids)).willReturn(List.of(events));
+    }
+
+    private PointOutbox outbox(PointType type, Long amount, int attempts) {
+        PointOutbox outbox = PointOutbox.builder()
+            .userId(USER_ID)
+            .referenceId(UUID.randomUUID())
+            .type(type)
+            .amount(amount)
+            .build();
+        ReflectionTestUtils.setField(outbox, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        return outbox;
+    }
+}
@@ -0,0 +1,268 @@
+package com.sparta.tdd.domain.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.point.dto.PointRequest;
+import com.sparta.tdd.domain.point.entity.PointHistory;
+import com.sparta.tdd.domain.point.entity.PointLot;
+import com.sparta.tdd.domain.point.entity.PointWallet;
+import com.sparta.tdd.domain.point.enums.PointType;
+import com.sparta.tdd.domain.point.repository.PointHistoryRepository;
+import com.sparta.tdd.domain.point.repository.PointLotRepository;
+import com.sparta.tdd.domain.point.repository.PointWalletRepository;
+import com.sparta.tdd.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PointServiceTest {
+
+    @Mock
+    private PointWalletRepository walletRepository;
+
+    @Mock
+    private PointHistoryRepository historyRepository;
+
+    @Mock
+    private PointLotRepository lotRepository;
+
+    @InjectMocks
+    private PointService pointService;
+
+    private User user;
+    private PointWallet wallet;
+    private UUID walletId;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().username("customer").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        wallet = PointWallet.builder().user(user).build();
+        walletId = UUID.randomUUID();
+        ReflectionTestUtils.setField(wallet, "id", walletId);
+    }
+
+    @Nested
+    @DisplayName("적립")
+    class EarnPointsTest {
+
+        @Test
+        @DisplayName("원장에 +금액을 남기고 같은 금액의 lot 을 만든다")
+        void earnPoints_appendsLedgerAndLot() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+            given(walletRepository.findIdByUserId(1L)).willReturn(Optional.of(walletId));
+            given(historyRepository.appendIfAbsent(any(), eq(walletId), eq(paymentId), eq(300L),
+                eq(PointType.PAYMENT_EARNED.name()), anyString(), any(), any())).willReturn(1);
+
+            // when
+            pointService.earnPoints(PointRequest.forPayment(user, paymentId, 300L, "결제 적립"));
+
+            // then
+            ArgumentCaptor<PointLot> captor = ArgumentCaptor.forClass(PointLot.class);
+            verify(lotRepository).save(captor.capture());
+            assertThat(captor.getValue().getRemaining()).isEqualTo(300L);
+            assertThat(captor.getValue().getReferenceId()).isEqualTo(paymentId);
+        }
+
+        @Test
+        @DisplayName("이미 적립된 참조라면 lot 을 다시 만들지 않는다")
+        void earnPoints_duplicate_skipsLot() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+            given(walletRepository.findIdByUserId(1L)).willReturn(Optional.of(walletId));
+            given(historyRepository.appendIfAbsent(any(), any(), any(), anyLong(), anyString(), anyString(),
+                any(), any())).willReturn(0);
+
+            // when
+            pointService.earnPoints(PointRequest.forPayment(user, paymentId, 300L, "결제 적립"));
+
+            // then
+            verify(lotRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("잔액")
+    class BalanceTest {
+
+        @Test
+        @DisplayName("잔액은 스냅샷과 접히지 않은 원장 합을 한 문장으로 읽은 값이다")
+        void getBalance_readsSnapshotAndPendingTogether() {
+            // given
+            given(walletRepository.findIdByUserId(1L)).willReturn(Optional.of(walletId));
+            given(walletRepository.findCurrentBalance(walletId)).willReturn(1200L);
+
+            // when & then
+            assertThat(pointService.getBalance(1L)).isEqualTo(1200L);
+        }
+
+        @Test
+        @DisplayName("지갑이 없으면 잔액은 0 이다")
+        void getBalance_noWallet() {
+            given(walletRepository.findIdByUserId(1L)).willReturn(Optional.empty());
+
+            assertThat(pointService.getBalance(1L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 취소 회수")
+    class LosePointsTest {
+
+        @Test
+        @DisplayName("적립액이 현재 잔액보다 크면 잔액만큼만 회수해 잔액이 음수가 되지 않는다")
+        void losePoints_cappedAtBalance() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+            PointHistory earned = PointHistory.builder()
+                .referenceId(paymentId).amount(300L).type(PointType.PAYMENT_EARNED).build();
+
+            given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(wallet));
+            given(historyRepository.findByReferenceIdAndTypeAndDeletedAtIsNull(paymentId, PointType.PAYMENT_EARNED))
+                .willReturn(Optional.of(earned));
+            given(walletRepository.findCurrentBalance(walletId)).willReturn(100L);
+            given(historyRepository.appendIfAbsent(any(), any(), any(), anyLong(), anyString(), anyString(),
+                any(), any())).willReturn(1);
+            given(lotRepository.findConsumeOrder(walletId, paymentId)).willReturn(List.of());
+
+            // when
+            pointService.losePoints(user, paymentId);
+
+            // then
+            verify(historyRepository).appendIfAbsent(any(), eq(walletId), eq(paymentId), eq(-100L),
+                eq(PointType.PAYMENT_CANCELLED.name()), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("취소한 결제의 lot 부터, 모자라면 만료가 빠른 lot 순으로 소진한다")
+        void losePoints_consumesOwnLotThenFifo() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+            PointHistory earned = PointHistory.builder()
+                .referenceId(paymentId).amount(300L).type(PointType.PAYMENT_EARNED).build();
+            PointLot ownLot = lot(paymentId, 100L, 30);
+            PointLot oldestLot = lot(UUID.randomUUID(), 250L, 10);
+            PointLot newerLot = lot(UUID.randomUUID(), 500L, 60);
+
+            given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(wallet));
+            given(historyRepository.findByReferenceIdAndTypeAndDeletedAtIsNull(paymentId, PointType.PAYMENT_EARNED))
+                .willReturn(Optional.of(earned));
+            given(walletRepository.findCurrentBalance(walletId)).willReturn(850L);
+            given(historyRepository.appendIfAbsent(any(), eq(walletId), eq(paymentId), eq(-300L),
+                eq(PointType.PAYMENT_CANCELLED.name()), anyString(), any(), any())).willReturn(1);
+            given(lotRepository.findConsumeOrder(walletId, paymentId))
+                .willReturn(List.of(ownLot, oldestLot, newerLot));
+
+            // when
+            pointService.losePoints(user, paymentId);
+
+            // then
+            assertThat(ownLot.getRemaining()).isZero();
+            assertThat(oldestLot.getRemaining()).isEqualTo(50L);
+            assertThat(newerLot.getRemaining()).isEqualTo(500L);
+            verify(lotRepository).deleteAllInBatch(List.of(ownLot));
+        }
+
+        @Test
+        @DisplayName("이미 취소된 결제라면 lot 을 다시 소진하지 않는다")
+        void losePoints_duplicateCancel_keepsLots() {
+            // given
+            UUID paymentId = UUID.randomUUID();
+            PointHistory earned = PointHistory.builder()
+                .referenceId(paymentId).amount(300L).type(PointType.PAYMENT_EARNED).build();
+
+            given(walletRepository.findByUserIdForUpdate(1L)).willReturn(Optional.of(wallet));
+            given(historyRepository.findByReferenceIdAndTypeAndDeletedAtIsNull(paymentId, PointType.PAYMENT_EARNED))
+                .willReturn(Optional.of(earned));
+            given(walletRepository.findCurrentBalance(walletId)).willReturn(0L);
+            given(historyRepository.appendIfAbsent(any(), any(), any(), anyLong(), anyString(), anyString(),
+                any(), any())).willReturn(0);
+
+            // when
+            pointService.losePoints(user, paymentId);
+
+            // then
+            verify(lotRepository, never()).findConsumeOrder(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("포인트 만료")
+    class ExpireLotsTest {
+
+        @Test
+        @DisplayName("만료된 lot 의 남은 금액을 원장에 만료로 기록하고 lot 을 지운다")
+        void expireLots_appendsExpiredAndDeletesLots() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            PointLot lot = lot(UUID.randomUUID(), 200L, -1);
+            lot.consume(50L);
+            List<UUID> lotIds = List.of(lot.getId());
+
+            given(lotRepository.findWalletIdsByIdIn(lotIds)).willReturn(List.of(walletId));
+            given(lotRepository.findDueByIdIn(lotIds, now)).willReturn(List.of(lot));
+
+            // when
+            int expired = pointService.expireLots(lotIds, now);
+
+            // then
+            assertThat(expired).isEqualTo(1);
+            verify(walletRepository).findAllByIdInForUpdate(List.of(walletId));
+            verify(historyRepository).appendIfAbsent(any(), eq(walletId), eq(lot.getId()), eq(-150L),
+                eq(PointType.EXPIRED.name()), anyString(), eq(lot.getExpireAt()), eq(now));
+            verify(lotRepository).deleteAllInBatch(List.of(lot));
+        }
+
+        @Test
+        @DisplayName("그 사이 모두 소진된 lot 은 만료 기록을 남기지 않는다")
+        void expireLots_skipsConsumedLots() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<UUID> lotIds = List.of(UUID.randomUUID());
+
+            given(lotRepository.findWalletIdsByIdIn(lotIds)).willReturn(List.of(walletId));
+            given(lotRepository.findDueByIdIn(lotIds, now)).willReturn(List.of());
+
+            // when
+            int expired = pointService.expireLots(lotIds, now);
+
+            // then
+            assertThat(expired).isZero();
+            verify(historyRepository, never()).appendIfAbsent(any(), any(), any(), anyLong(), anyString(),
+                anyString(), any(), any());
+            verify(lotRepository).deleteAllInBatch(anyList());
+        }
+    }
+
+    private PointLot lot(UUID referenceId, long amount, int expireInDays) {
+        PointLot lot = PointLot.builder()
+            .walletId(walletId)
+            .referenceId(referenceId)
+            .amount(amount)
+            .expireAt(LocalDateTime.now().plusDays(expireInDays))
+            .build();
+        ReflectionTestUtils.setField(lot, "id", UUID.randomUUID());
+        return lot;
+    }
+}
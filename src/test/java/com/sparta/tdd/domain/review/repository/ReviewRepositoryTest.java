@@ -131,11 +131,12 @@ class ReviewRepositoryTest extends RepositoryTest {
         reviewRepository.save(review2);
 
         // when
-        List<Review> result = reviewRepository.findByUserIdAndNotDeleted(testUser.getId());
+        Page<Review> result = reviewRepository.findPageByUserIdAndNotDeleted(testUser.getId(),
+            PageRequest.of(0, 10));
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result).extracting(Review::getUserId)
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Review::getUserId)
             .containsOnly(testUser.getId());
     }
 
@@ -3,7 +3,9 @@ package com.sparta.tdd.domain.review.service;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
+import com.sparta.tdd.domain.point.service.PointOutboxService;
 import com.sparta.tdd.domain.review.dto.request.ReviewRequestDto;
+import com.sparta.tdd.domain.review.dto.response.ReviewCursorResponseDto;
 import com.sparta.tdd.domain.review.dto.response.ReviewResponseDto;
 import com.sparta.tdd.domain.review.dto.ReviewUpdateDto;
 import com.sparta.tdd.domain.review.entity.Review;
@@ -23,15 +25,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +46,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +69,9 @@ class ReviewServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private PointOutboxService pointOutboxService;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -168,6 +178,8 @@ class ReviewServiceTest {
             verify(storeRepository).findById(storeId);
             verify(orderRepository).findById(orderId);
             verify(reviewRepository).save(any(Review.class));
+            verify(pointOutboxService).appendReviewCreated(testReview);
+            verify(storeRepository).applyRatingDelta(storeId, 5, 1);
         }
 
         @Test
@@ -260,6 +272,26 @@ class ReviewServiceTest {
             // then
             assertThat(result).isNotNull();
             verify(reviewRepository).findByIdAndNotDeleted(reviewId);
+            verify(storeRepository).applyRatingDelta(storeId, -1, 0);
+        }
+
+        @Test
+        @DisplayName("리뷰 수정 - 평점이 그대로면 가게 평점을 갱신하지 않음")
+        void 평점변경없는_리뷰_수정() {
+            // given
+            ReviewUpdateDto updateDto = new ReviewUpdateDto(
+                    "내용만 수정",
+                    5,
+                    "http://example.com/image.jpg"
+            );
+
+            given(reviewRepository.findByIdAndNotDeleted(reviewId)).willReturn(Optional.of(testReview));
+
+            // when
+            reviewService.updateReview(reviewId, userId, updateDto);
+
+            // then
+            verify(storeRepository, never()).applyRatingDelta(any(), anyInt(), anyInt());
         }
 
         @Test
@@ -416,6 +448,92 @@ class ReviewServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("유저별 리뷰 목록 조회 테스트")
+    class GetReviewsByUserTest {
+
+        @Test
+        @DisplayName("정렬이 없으면 최신순으로 DB 페이징하고 답글은 한 번에 조회한다")
+        void 유저리뷰목록조회() {
+            // given
+            ReviewReply reply = ReviewReply.builder()
+                    .review(testReview)
+                    .content("감사합니다!")
+                    .ownerId(ownerId)
+                    .build();
+
+            Pageable pageable = PageRequest.of(1, 1);
+            given(reviewRepository.findPageByUserIdAndNotDeleted(eq(userId), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(testReview), pageable, 3));
+            given(reviewReplyRepository.findByReviewIdsAndNotDeleted(List.of(reviewId)))
+                    .willReturn(List.of(reply));
+
+            // when
+            Page<ReviewResponseDto> result = reviewService.getReviewsByUser(userId, pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).reply().content()).isEqualTo("감사합니다!");
+
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            verify(reviewRepository).findPageByUserIdAndNotDeleted(eq(userId), captor.capture());
+            assertThat(captor.getValue().getPageNumber()).isEqualTo(1);
+            assertThat(captor.getValue().getSort().getOrderFor("createdAt").isDescending()).isTrue();
+        }
+
+        @Test
+        @DisplayName("커서 조회 - size + 1 건이 오면 다음 커서를 내려주고 그 커서로 이어서 조회한다")
+        void 유저리뷰커서조회() throws Exception {
+            // given
+            Review review2 = Review.builder()
+                    .user(testUser)
+                    .store(testStore)
+                    .order(testOrder)
+                    .rating(4)
+                    .content("두 번째 리뷰")
+                    .build();
+            setReviewId(review2, UUID.randomUUID());
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            ReflectionTestUtils.setField(testReview, "createdAt", createdAt);
+            ReflectionTestUtils.setField(review2, "createdAt", createdAt.minusMinutes(1));
+
+            given(reviewRepository.findLatestByUserId(userId, Limit.of(2)))
+                    .willReturn(List.of(testReview, review2));
+            given(reviewReplyRepository.findByReviewIdsAndNotDeleted(List.of(reviewId)))
+                    .willReturn(List.of());
+
+            // when
+            ReviewCursorResponseDto first = reviewService.getReviewsByUser(userId, null, 1);
+
+            // then
+            assertThat(first.content()).hasSize(1);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(first.nextCursor()).isNotNull();
+
+            // when - 다음 페이지
+            given(reviewRepository.findLatestByUserIdBefore(userId, createdAt, reviewId, Limit.of(2)))
+                    .willReturn(List.of(review2));
+            given(reviewReplyRepository.findByReviewIdsAndNotDeleted(List.of(review2.getId())))
+                    .willReturn(List.of());
+
+            ReviewCursorResponseDto second = reviewService.getReviewsByUser(userId, first.nextCursor(), 1);
+
+            // then
+            assertThat(second.content()).extracting(ReviewResponseDto::content).containsExactly("두 번째 리뷰");
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 조회 실패 - 잘못된 커서")
+        void 잘못된커서() {
+            assertThatThrownBy(() -> reviewService.getReviewsByUser(userId, "not-a-cursor", 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage(ErrorCode.INVALID_REVIEW_CURSOR.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("리뷰 삭제 테스트")
     class DeleteReviewTest {
@@ -431,6 +549,7 @@ class ReviewServiceTest {
 
             // then
             verify(reviewRepository).findByIdAndNotDeleted(reviewId);
+            verify(storeRepository).applyRatingDelta(storeId, -5, -1);
         }
 
         @Test
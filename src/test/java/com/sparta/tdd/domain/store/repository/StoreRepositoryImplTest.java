@@ -5,14 +5,15 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import com.sparta.tdd.common.template.RepositoryTest;
 import com.sparta.tdd.domain.menu.dto.MenuRequestDto;
 import com.sparta.tdd.domain.menu.entity.Menu;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
 import com.sparta.tdd.domain.order.entity.Order;
 import com.sparta.tdd.domain.order.enums.OrderStatus;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +31,9 @@ class StoreRepositoryImplTest extends RepositoryTest {
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private MenuRepository menuRepository;
+
     private User testUser;
     private Store store1;
     private Store store2;
@@ -161,21 +165,93 @@ class StoreRepositoryImplTest extends RepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("노출 메뉴 조건 테스트")
+    class VisibleMenuTest {
+
+        private List<UUID> search(String keyword) {
+            return storeRepository.findPagedStoreIdsByKeyword(PageRequest.of(0, 20), keyword, null);
+        }
+
+        private Long count(String keyword) {
+            return storeRepository.countStoresByKeyword(keyword, null);
+        }
+
+        @Test
+        @DisplayName("가게명에만 키워드가 있어도 검색되고 개수도 같다")
+        void keywordOnStoreName() {
+            //when
+            List<UUID> stores = search("천국");
+
+            //then
+            assertThat(stores).containsExactly(store1.getId());
+            assertThat(count("천국")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("메뉴명에만 키워드가 있어도 검색되고 개수도 같다")
+        void keywordOnMenuName() {
+            //when
+            List<UUID> stores = search("떡볶이");
+
+            //then
+            assertThat(stores).containsExactly(store2.getId());
+            assertThat(count("떡볶이")).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("숨긴 메뉴만 있는 가게는 가게명, 메뉴명 어느 쪽으로도 검색되지 않는다")
+        void hiddenMenuOnly() {
+            // given
+            Store hiddenStore = createStore("숨김식당", StoreCategory.KOREAN, "image", testUser);
+            em.persist(hiddenStore);
+            Menu hidden = createMenu("비밀메뉴", "비밀메뉴", 8000, "image", hiddenStore);
+            hidden.updateStatus(true);
+            em.persist(hidden);
+            em.flush();
+            em.clear();
+
+            //when & then
+            assertThat(search("")).hasSize(12).doesNotContain(hiddenStore.getId());
+            assertThat(count("")).isEqualTo(12L);
+            assertThat(search("숨김")).isEmpty();
+            assertThat(count("숨김")).isZero();
+            assertThat(search("비밀")).isEmpty();
+            assertThat(count("비밀")).isZero();
+        }
+
+        @Test
+        @DisplayName("일괄 삭제된 메뉴는 숨김 여부와 상관없이 노출 메뉴로 보지 않는다")
+        void deletedMenu() {
+            // given
+            Store closedStore = createStore("폐업식당", StoreCategory.KOREAN, "image", testUser);
+            em.persist(closedStore);
+            em.persist(createMenu("냉면", "냉면", 9000, "image", closedStore));
+            em.flush();
+            menuRepository.bulkSoftDeleteByStoreIds(List.of(closedStore.getId()), LocalDateTime.now(),
+                testUser.getId());
+            em.clear();
+
+            //when & then
+            assertThat(search("")).hasSize(12).doesNotContain(closedStore.getId());
+            assertThat(count("")).isEqualTo(12L);
+            assertThat(search("냉면")).isEmpty();
+            assertThat(count("냉면")).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("정렬 테스트")
     class SortingTest {
 
         @Test
         @DisplayName("평균 평점 내림차순 정렬")
-        void sortByAvgRatingDesc() throws Exception {
+        void sortByAvgRatingDesc() {
             // given
             pageable = PageRequest.of(0, 10, Direction.DESC, "avgRating");
-            setStoreAvgRating(store1, BigDecimal.valueOf(5.0));
-            setStoreAvgRating(store2, BigDecimal.valueOf(3.0));
-
-            em.merge(store1);
-            em.merge(store2);
-            em.flush();
+            // 평점 컬럼은 엔티티 flush 로 바뀌지 않으므로 증분 UPDATE 로 맞춤
+            storeRepository.applyRatingDelta(store1.getId(), 5, 1);
+            storeRepository.applyRatingDelta(store2.getId(), 3, 1);
             em.clear();
 
             //when
@@ -192,15 +268,11 @@ class StoreRepositoryImplTest extends RepositoryTest {
 
         @Test
         @DisplayName("리뷰 개수 내림차순 정렬")
-        void sortByReviewCountDesc() throws Exception {
+        void sortByReviewCountDesc() {
             // given
             pageable = PageRequest.of(0, 10, Direction.DESC, "reviewCount");
-            setReviewCount(store1, 4);
-            setReviewCount(store2, 21);
-
-            em.merge(store1);
-            em.merge(store2);
-            em.flush();
+            storeRepository.applyRatingDelta(store1.getId(), 4 * 5, 4);
+            storeRepository.applyRatingDelta(store2.getId(), 21 * 5, 21);
             em.clear();
 
             //when
@@ -307,16 +379,4 @@ class StoreRepositoryImplTest extends RepositoryTest {
             .user(user)
             .build();
     }
-
-    private void setStoreAvgRating(Store store, BigDecimal avgRating) throws Exception {
-        Field field = Store.class.getDeclaredField("avgRating");
-        field.setAccessible(true);
-        field.set(store, avgRating);
-    }
-
-    private void setReviewCount(Store store, Integer reviewCount) throws Exception {
-        Field field = Store.class.getDeclaredField("reviewCount");
-        field.setAccessible(true);
-        field.set(store, reviewCount);
-    }
-}
\ No newline at end of file
+}
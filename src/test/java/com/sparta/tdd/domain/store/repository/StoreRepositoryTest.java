@@ -4,14 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sparta.tdd.common.template.RepositoryTest;
+import com.sparta.tdd.domain.order.entity.Order;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.review.entity.Review;
+import com.sparta.tdd.domain.review.repository.ReviewRepository;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,9 @@ class StoreRepositoryTest extends RepositoryTest {
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -134,4 +143,116 @@ class StoreRepositoryTest extends RepositoryTest {
         //then
         assertEquals("BBQ 본점", updatedStore.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("가게 수정 flush 가 그 사이 반영된 리뷰 평점 증분을 덮어쓰지 않는다")
+    void updateStore_keepsConcurrentRatingDelta() {
+        //given
+        User user = em.find(User.class, testUser.getId());
+        Store savedStore = storeRepository.saveAndFlush(Store.builder()
+            .name("BBQ")
+            .category(StoreCategory.CHICKEN)
+            .user(user)
+            .build());
+
+        //when - 평점 0 인 가게를 읽어둔 상태에서 리뷰 증분이 먼저 반영되고, 이후 가게 수정이 flush 됨
+        Store toUpdate = storeRepository.findById(savedStore.getId()).orElseThrow();
+        storeRepository.applyRatingDelta(savedStore.getId(), 5, 1);
+        toUpdate.updateName("BBQ 본점");
+        storeRepository.flush();
+        em.clear();
+
+        //then
+        Store updatedStore = storeRepository.findById(savedStore.getId()).orElseThrow();
+        assertEquals("BBQ 본점", updatedStore.getName());
+        assertEquals(1, updatedStore.getReviewCount());
+        assertEquals(5L, updatedStore.getRatingSum());
+        assertEquals(new BigDecimal("5.0"), updatedStore.getAvgRating());
+    }
+
+    @Test
+    @DisplayName("평점 재집계: 잠근 가게의 어긋난 평점 합/리뷰 수를 삭제되지 않은 리뷰 기준으로 고친다")
+    void recomputeRatings_correctsDriftedStores() {
+        //given
+        User user = em.find(User.class, testUser.getId());
+
+        // 리뷰 5, 4, 3 이 있지만 합/수가 2/1 로 어긋난 가게
+        Store drifted = saveStore(user, "BBQ");
+        List.of(5, 4, 3).forEach(rating -> saveReview(user, drifted, rating));
+        driftRatings(drifted.getId(), 2L, 1);
+
+        // 리뷰가 bulk soft delete 되어 증분 없이 9/2 로 남은 가게
+        Store bulkDeleted = saveStore(user, "도미노피자");
+        List.of(5, 4).forEach(rating -> saveReview(user, bulkDeleted, rating));
+        driftRatings(bulkDeleted.getId(), 9L, 2);
+        reviewRepository.bulkSoftDeleteByStoreIds(List.of(bulkDeleted.getId()), LocalDateTime.now(), user.getId());
+
+        // 이미 맞는 가게
+        Store correct = saveStore(user, "교촌치킨");
+        saveReview(user, correct, 4);
+        storeRepository.applyRatingDelta(correct.getId(), 4, 1);
+        em.flush();
+        em.clear();
+
+        //when
+        List<UUID> storeIds = storeRepository.lockStoreIdsAfter(new UUID(0L, 0L), 10);
+        int corrected = storeRepository.recomputeRatings(storeIds);
+        em.clear();
+
+        //then - 값이 어긋난 두 가게만 고친다
+        assertEquals(3, storeIds.size());
+        assertEquals(2, corrected);
+
+        Store recomputed = storeRepository.findById(drifted.getId()).orElseThrow();
+        assertEquals(12L, recomputed.getRatingSum());
+        assertEquals(3, recomputed.getReviewCount());
+        assertEquals(new BigDecimal("4.0"), recomputed.getAvgRating());
+
+        Store emptied = storeRepository.findById(bulkDeleted.getId()).orElseThrow();
+        assertEquals(0L, emptied.getRatingSum());
+        assertEquals(0, emptied.getReviewCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(emptied.getAvgRating()));
+
+        Store untouched = storeRepository.findById(correct.getId()).orElseThrow();
+        assertEquals(4L, untouched.getRatingSum());
+        assertEquals(1, untouched.getReviewCount());
+        assertEquals(new BigDecimal("4.0"), untouched.getAvgRating());
+    }
+
+    private Store saveStore(User user, String name) {
+        Store store = Store.builder()
+            .name(name)
+            .category(StoreCategory.CHICKEN)
+            .user(user)
+            .build();
+        em.persist(store);
+        return store;
+    }
+
+    private void saveReview(User user, Store store, int rating) {
+        Order order = Order.builder()
+            .address("서울시 종로구")
+            .orderStatus(OrderStatus.DELIVERED)
+            .store(store)
+            .user(user)
+            .build();
+        em.persist(order);
+        em.persist(Review.builder()
+            .user(user)
+            .store(store)
+            .order(order)
+            .rating(rating)
+            .content("리뷰")
+            .build());
+    }
+
+    private void driftRatings(UUID storeId, long ratingSum, int reviewCount) {
+        em.flush();
+        em.createNativeQuery("UPDATE p_store SET rating_sum = :ratingSum, review_count = :reviewCount "
+                + "WHERE store_id = :storeId")
+            .setParameter("ratingSum", ratingSum)
+            .setParameter("reviewCount", reviewCount)
+            .setParameter("storeId", storeId)
+            .executeUpdate();
+    }
+}
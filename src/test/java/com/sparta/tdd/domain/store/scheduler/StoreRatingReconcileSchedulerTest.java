@@ -0,0 +1,74 @@
+package com.sparta.tdd.domain.store.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.store.repository.StoreRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingReconcileSchedulerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreRatingReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new StoreRatingReconcileScheduler(storeRepository, transactionManager, BATCH_SIZE, 0);
+    }
+
+    @Test
+    @DisplayName("이전 chunk 의 마지막 가게 id 다음부터 이어서 재집계하고, 덜 찬 chunk 에서 멈춘다")
+    void reconcileRatings_continuesAfterLastStoreId() {
+        // given
+        UUID lastOfFirst = UUID.randomUUID();
+        List<UUID> first = List.of(UUID.randomUUID(), lastOfFirst);
+        List<UUID> second = List.of(UUID.randomUUID());
+        given(storeRepository.lockStoreIdsAfter(any(UUID.class), eq(BATCH_SIZE)))
+            .willReturn(first, second);
+        given(storeRepository.recomputeRatings(anyList())).willReturn(1, 0);
+
+        // when
+        scheduler.reconcileRatings();
+
+        // then
+        verify(storeRepository, times(2)).lockStoreIdsAfter(any(UUID.class), anyInt());
+        verify(storeRepository).lockStoreIdsAfter(lastOfFirst, BATCH_SIZE);
+        verify(storeRepository).recomputeRatings(first);
+        verify(storeRepository).recomputeRatings(second);
+    }
+
+    @Test
+    @DisplayName("가게가 없으면 재집계하지 않는다")
+    void reconcileRatings_noStores() {
+        // given
+        given(storeRepository.lockStoreIdsAfter(any(UUID.class), anyInt())).willReturn(List.of());
+
+        // when
+        scheduler.reconcileRatings();
+
+        // then
+        verify(storeRepository, never()).recomputeRatings(anyList());
+    }
+}
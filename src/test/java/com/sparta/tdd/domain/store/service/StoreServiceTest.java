@@ -4,26 +4,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.querydsl.core.Tuple;
+import com.sparta.tdd.domain.auth.UserDetailsImpl;
 import com.sparta.tdd.domain.menu.dto.MenuRequestDto;
+import com.sparta.tdd.domain.menu.dto.MenuWithStoreResponseDto;
 import com.sparta.tdd.domain.menu.entity.Menu;
-import com.sparta.tdd.domain.menu.entity.QMenu;
+import com.sparta.tdd.domain.menu.repository.MenuRepository;
+import com.sparta.tdd.domain.menu.service.MenuCatalogCache;
+import com.sparta.tdd.domain.store.dto.StoreRequestDto;
 import com.sparta.tdd.domain.store.dto.StoreResponseDto;
-import com.sparta.tdd.domain.store.entity.QStore;
 import com.sparta.tdd.domain.store.entity.Store;
 import com.sparta.tdd.domain.store.enums.StoreCategory;
 import com.sparta.tdd.domain.store.repository.StoreRepository;
 import com.sparta.tdd.domain.user.entity.User;
 import com.sparta.tdd.domain.user.enums.UserAuthority;
+import com.sparta.tdd.domain.user.repository.UserRepository;
 import com.sparta.tdd.global.config.QueryDSLConfig;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +38,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
@@ -47,6 +51,18 @@ class StoreServiceTest {
     @Mock
     private StoreRepository storeRepository;
 
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StoreSearchCache storeSearchCache;
+
+    @Mock
+    private MenuCatalogCache menuCatalogCache;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -82,12 +98,10 @@ class StoreServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             List<UUID> storeIds = List.of(koreanStore.getId(), chineseStore.getId());
 
-            List<Tuple> tuples = createTuples(List.of(koreanStore, chineseStore));
 
             given(storeRepository.findPagedStoreIdsByKeyword(pageable, "", null))
                 .willReturn(storeIds);
-            given(storeRepository.findStoresWithMenusByIds(storeIds))
-                .willReturn(tuples);
+            givenStoresWithMenus(storeIds);
 
             //when
             Page<StoreResponseDto> result = storeService.searchStoresByKeywordAndCategoryWithMenus(
@@ -95,6 +109,10 @@ class StoreServiceTest {
 
             //then
             assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent()).extracting(StoreResponseDto::id)
+                .as("페이지 id 순서 유지").containsExactlyElementsOf(storeIds);
+            assertThat(result.getContent().get(0).menus())
+                .extracting(MenuWithStoreResponseDto::name).containsExactly("김밥");
             verify(storeRepository).findPagedStoreIdsByKeyword(pageable, "", null);
         }
 
@@ -105,12 +123,10 @@ class StoreServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             String keyword = "김밥";
             List<UUID> storeIds = List.of(koreanStore.getId());
-            List<Tuple> tuples = createTuples(List.of(koreanStore));
 
             given(storeRepository.findPagedStoreIdsByKeyword(pageable, keyword, null))
                 .willReturn(storeIds);
-            given(storeRepository.findStoresWithMenusByIds(storeIds))
-                .willReturn(tuples);
+            givenStoresWithMenus(storeIds);
 
             //when
             Page<StoreResponseDto> result = storeService.searchStoresByKeywordAndCategoryWithMenus(
@@ -139,7 +155,27 @@ class StoreServiceTest {
             //then
             assertThat(result).isEmpty();
             verify(storeRepository).findPagedStoreIdsByKeyword(pageable, keyword, null);
-            verify(storeRepository, never()).findStoresWithMenusByIds(any());
+            verify(storeRepository, never()).findStoresByIds(any());
+        }
+
+        @Test
+        @DisplayName("캐시된 검색 결과가 있으면 DB 를 조회하지 않음")
+        void searchStoresFromCache() {
+            //given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<StoreResponseDto> cached = new PageImpl<>(List.of(StoreResponseDto.from(koreanStore)),
+                pageable, 1);
+
+            given(storeSearchCache.get(StoreSearchCache.Key.of("김밥", null, pageable)))
+                .willReturn(cached);
+
+            //when
+            Page<StoreResponseDto> result = storeService.searchStoresByKeywordAndCategoryWithMenus(
+                "  김밥 ", null, pageable);
+
+            //then
+            assertThat(result).isSameAs(cached);
+            verify(storeRepository, never()).findPagedStoreIdsByKeyword(any(), any(), any());
         }
     }
 
@@ -153,14 +189,12 @@ class StoreServiceTest {
             //given
             Pageable pageable = PageRequest.of(0, 10, Direction.DESC, "avgRating");
             List<UUID> storeIds = List.of(koreanStore.getId(), chineseStore.getId());
-            List<Tuple> tuples = createTuples(List.of(koreanStore, chineseStore));
             setStoreAvgRating(koreanStore, BigDecimal.valueOf(4.2));
             setStoreAvgRating(chineseStore, BigDecimal.valueOf(4.0));
 
             given(storeRepository.findPagedStoreIdsByKeyword(pageable, "", null))
                 .willReturn(storeIds);
-            given(storeRepository.findStoresWithMenusByIds(storeIds))
-                .willReturn(tuples);
+            givenStoresWithMenus(storeIds);
 
             //when
             Page<StoreResponseDto> result = storeService.searchStoresByKeywordAndCategoryWithMenus(
@@ -186,12 +220,10 @@ class StoreServiceTest {
             //given
             Pageable pageable = PageRequest.of(0, 10);
             List<UUID> storeIds = List.of(koreanStore.getId(), chineseStore.getId());
-            List<Tuple> tuples = createTuples(List.of(koreanStore, chineseStore));
 
             given(storeRepository.findPagedStoreIdsByKeyword(pageable, "", null))
                 .willReturn(storeIds);
-            given(storeRepository.findStoresWithMenusByIds(storeIds))
-                .willReturn(tuples);
+            givenStoresWithMenus(storeIds);
             //when
             Page<StoreResponseDto> result = storeService.searchStoresByKeywordAndCategoryWithMenus(
                 "", null, pageable);
@@ -203,6 +235,67 @@ class StoreServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("가게 변경 시 캐시 무효화 테스트")
+    class CacheEvictionTest {
+
+        private final StoreRequestDto requestDto = StoreRequestDto.builder()
+            .name("홍콩반점")
+            .category(StoreCategory.CHINESE)
+            .description("테스트용")
+            .build();
+
+        @BeforeEach
+        void setUp() throws Exception {
+            setUserId(testUser, 1L);
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        }
+
+        @Test
+        @DisplayName("가게 등록 - 등록한 카테고리의 검색 캐시를 지운다")
+        void createStore_evictsCategory() {
+            // given
+            given(storeRepository.save(any(Store.class))).willReturn(chineseStore);
+
+            // when
+            storeService.createStore(1L, requestDto);
+
+            // then
+            verify(storeSearchCache).evictAfterCommit(StoreCategory.CHINESE);
+        }
+
+        @Test
+        @DisplayName("가게 수정 - 변경 전/후 카테고리의 검색 캐시를 지우고 메뉴 스냅샷 version 을 올린다")
+        void updateStore_evictsBothCategories() {
+            // given
+            given(storeRepository.findByStoreIdAndNotDeleted(koreanStore.getId()))
+                .willReturn(Optional.of(koreanStore));
+
+            // when
+            storeService.updateStore(new UserDetailsImpl(1L, "testUser", UserAuthority.OWNER),
+                koreanStore.getId(), requestDto);
+
+            // then
+            verify(storeSearchCache).evictAfterCommit(StoreCategory.KOREAN, StoreCategory.CHINESE);
+            verify(menuCatalogCache).bumpAfterCommit(koreanStore.getId());
+        }
+
+        @Test
+        @DisplayName("가게 삭제 - 가게 카테고리의 검색 캐시를 지우고 메뉴 스냅샷 version 을 올린다")
+        void deleteStore_evictsCategory() {
+            // given
+            given(storeRepository.findByStoreIdAndNotDeleted(koreanStore.getId()))
+                .willReturn(Optional.of(koreanStore));
+
+            // when
+            storeService.deleteStore(1L, koreanStore.getId());
+
+            // then
+            verify(storeSearchCache).evictAfterCommit(StoreCategory.KOREAN);
+            verify(menuCatalogCache).bumpAfterCommit(koreanStore.getId());
+        }
+    }
+
     private User createUser(String username, String password, String nickname,
         UserAuthority userAuthority) {
         return User.builder()
@@ -239,26 +332,30 @@ class StoreServiceTest {
         field.set(store, storeId);
     }
 
+    private void setUserId(User user, Long userId) throws Exception {
+        Field field = User.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(user, userId);
+    }
+
     private void setStoreAvgRating(Store store, BigDecimal avgRating) throws Exception {
         Field field = Store.class.getDeclaredField("avgRating");
         field.setAccessible(true);
         field.set(store, avgRating);
     }
 
-    private List<Tuple> createTuples(List<Store> stores) {
-        List<Tuple> tuples = new ArrayList<>();
-
-        for (Store store : stores) {
-            Menu menu = store.getCategory() == StoreCategory.KOREAN
-                ? koreaMenu
-                : chinaMenu;
-
-            Tuple tuple = mock(Tuple.class);
-            given(tuple.get(QStore.store)).willReturn(store);
-            given(tuple.get(QMenu.menu)).willReturn(menu);
-
-            tuples.add(tuple);
-        }
-        return tuples;
+    private void givenStoresWithMenus(List<UUID> storeIds) {
+        List<Store> stores = List.of(koreanStore, chineseStore).stream()
+            .filter(store -> storeIds.contains(store.getId()))
+            .toList();
+
+        // IN 조회 결과 순서와 상관없이 페이지 순서를 지키는지 보기 위해 뒤집어서 반환
+        given(storeRepository.findStoresByIds(storeIds))
+            .willReturn(stores.stream().map(StoreResponseDto::from).toList().reversed());
+        given(menuRepository.findVisibleByStoreIds(storeIds))
+            .willReturn(Map.of(
+                koreanStore.getId(), List.of(MenuWithStoreResponseDto.from(koreaMenu)),
+                chineseStore.getId(), List.of(MenuWithStoreResponseDto.from(chinaMenu))
+            ));
     }
-}
\ No newline at end of file
+}
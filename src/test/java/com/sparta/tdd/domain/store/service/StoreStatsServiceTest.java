@@ -0,0 +1,69 @@
+package com.sparta.tdd.domain.store.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.tdd.domain.order.dto.OrderEvent;
+import com.sparta.tdd.domain.order.enums.OrderEventType;
+import com.sparta.tdd.domain.order.enums.OrderStatus;
+import com.sparta.tdd.domain.store.repository.StoreStatsRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreStatsServiceTest {
+
+    @Mock
+    private StoreStatsRepository storeStatsRepository;
+
+    @InjectMocks
+    private StoreStatsService storeStatsService;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("주문 생성 이벤트는 가게 주문 수를 누적한다")
+    void onOrderEvent_created_incrementsOrderCount() {
+        // given
+        LocalDateTime orderedAt = LocalDateTime.now();
+        OrderEvent event = new OrderEvent(OrderEventType.CREATED, UUID.randomUUID(), storeId,
+            OrderStatus.PENDING, orderedAt);
+
+        // when
+        storeStatsService.onOrderEvent(event);
+
+        // then
+        verify(storeStatsRepository).incrementOrderCount(storeId, orderedAt);
+    }
+
+    @Test
+    @DisplayName("상태 변경 이벤트는 주문 수에 영향을 주지 않는다")
+    void onOrderEvent_statusChanged_ignored() {
+        // given
+        OrderEvent event = new OrderEvent(OrderEventType.STATUS_CHANGED, UUID.randomUUID(), storeId,
+            OrderStatus.DELIVERED, LocalDateTime.now());
+
+        // when
+        storeStatsService.onOrderEvent(event);
+
+        // then
+        verify(storeStatsRepository, never()).incrementOrderCount(any(), any());
+    }
+
+    @Test
+    @DisplayName("완료된 결제가 취소되면 매출을 차감한다")
+    void recordPaymentRefunded_subtractsRevenue() {
+        // when
+        storeStatsService.recordPaymentRefunded(storeId, 15000L);
+
+        // then
+        verify(storeStatsRepository).addRevenue(storeId, -15000L);
+    }
+}
@@ -1,11 +1,10 @@
 package com.sparta.tdd.domain.user.service;
 
-import com.sparta.tdd.domain.order.dto.OrderResponseDto;
-import com.sparta.tdd.domain.order.entity.Order;
-import com.sparta.tdd.domain.order.mapper.OrderMapper;
+import com.sparta.tdd.domain.order.dto.OrderSummaryResponseDto;
 import com.sparta.tdd.domain.order.repository.OrderRepository;
-import com.sparta.tdd.domain.review.entity.Review;
-import com.sparta.tdd.domain.review.repository.ReviewRepository;
+import com.sparta.tdd.domain.review.dto.response.ReviewCursorResponseDto;
+import com.sparta.tdd.domain.review.dto.response.ReviewResponseDto;
+import com.sparta.tdd.domain.review.service.ReviewService;
 import com.sparta.tdd.domain.user.dto.UserNicknameRequestDto;
 import com.sparta.tdd.domain.user.dto.UserResponseDto;
 import com.sparta.tdd.domain.user.entity.User;
@@ -35,9 +34,7 @@ class UserServiceTest {
     @Mock
     UserRepository userRepository;
     @Mock
-    ReviewRepository reviewRepository;
-    @Mock
-    OrderMapper orderMapper;
+    ReviewService reviewService;
     @Mock
     OrderRepository orderRepository;
     @InjectMocks
@@ -153,51 +150,34 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("유저가 작성한 리뷰 조회 성공")
-    void findReviewByUserSuccess() {
+    @DisplayName("유저가 작성한 리뷰 페이지 조회는 ReviewService 에 그대로 위임한다")
+    void getPersonalReviewsDelegatesToReviewService() {
         // given
-        User user1 = mock(User.class);
-        Pageable pageable = mock(Pageable.class);
-        Review review1 = new Review(user1, null, null, null, null, "맛없어요ㅠ");
-        Review review2 = new Review(user1, null, null, null, null, "맛있어요!");
-
-        List<Review> reviewList = List.of(review1, review2);
-        when(user1.getId()).thenReturn(1L);
-        when(reviewRepository.findByUserIdAndNotDeleted(user1.getId())).thenReturn(reviewList);
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ReviewResponseDto> reviews = new PageImpl<>(List.of(mock(ReviewResponseDto.class)), pageable, 1);
+        when(reviewService.getReviewsByUser(1L, pageable)).thenReturn(reviews);
 
         // when
-        List<Review> byUserIdAndNotDeleted = reviewRepository.findByUserIdAndNotDeleted(user1.getId());
-        Page<Review> reviews = new PageImpl<>(byUserIdAndNotDeleted, pageable, byUserIdAndNotDeleted.size());
+        Page<ReviewResponseDto> result = userService.getPersonalReviews(1L, pageable);
 
         // then
-        assertEquals(reviews.getTotalElements(), 2);
-        assertTrue(reviews.stream().anyMatch(review -> {
-            return review.getContent().equals("맛있어요!");
-        }));
+        assertSame(reviews, result);
+        verify(reviewService, times(1)).getReviewsByUser(1L, pageable);
     }
 
     @Test
-    @DisplayName("유저가 작성한 리뷰 조회 실패")
-    void findReviewByUserFail() {
+    @DisplayName("유저가 작성한 리뷰 커서 조회는 커서와 size 를 ReviewService 에 그대로 위임한다")
+    void getPersonalReviewsByCursorDelegatesToReviewService() {
         // given
-        User user1 = mock(User.class);
-        Pageable pageable = mock(Pageable.class);
-        Review review1 = new Review(user1, null, null, null, null, "맛없어요ㅠ");
-        Review review2 = new Review(user1, null, null, null, null, "맛있어요!");
-
-        List<Review> reviewList = List.of(review1, review2);
-        when(user1.getId()).thenReturn(1L);
-        when(reviewRepository.findByUserIdAndNotDeleted(user1.getId())).thenReturn(reviewList);
+        ReviewCursorResponseDto reviews = new ReviewCursorResponseDto(List.of(), 0, false, null);
+        when(reviewService.getReviewsByUser(1L, "cursor", 30)).thenReturn(reviews);
 
         // when
-        List<Review> byUserIdAndNotDeleted = reviewRepository.findByUserIdAndNotDeleted(user1.getId());
-        Page<Review> reviews = new PageImpl<>(byUserIdAndNotDeleted, pageable, byUserIdAndNotDeleted.size());
+        ReviewCursorResponseDto result = userService.getPersonalReviews(1L, "cursor", 30);
 
         // then
-        assertEquals(reviews.getTotalElements(), 2);
-        assertFalse(reviews.stream().anyMatch(review -> {
-            return review.getContent().equals("맛있는지 모르겠어요.");
-        }));
+        assertSame(reviews, result);
+        verify(reviewService, times(1)).getReviewsByUser(1L, "cursor", 30);
     }
 
     @Test
@@ -207,25 +187,20 @@ class UserServiceTest {
         User user = mock(User.class);
         Pageable pageable = PageRequest.of(0, 10);
 
-        Order order1 = new Order();
-        Order order2 = new Order();
-        List<Order> orderList = List.of(order1, order2);
-        Page<Order> orders = new PageImpl<>(orderList, pageable, orderList.size());
-
+        List<OrderSummaryResponseDto> summaries = List.of(
+                mock(OrderSummaryResponseDto.class),
+                mock(OrderSummaryResponseDto.class));
+        Page<OrderSummaryResponseDto> orders = new PageImpl<>(summaries, pageable, summaries.size());
 
         when(user.getId()).thenReturn(1L);
-        when(orderRepository.findOrdersByUserIdAndNotDeleted(user.getId(), pageable))
+        when(orderRepository.findSummariesByUserId(user.getId(), pageable))
                 .thenReturn(orders);
-        when(orderMapper.toResponse(order1)).thenReturn(mock(OrderResponseDto.class));
-        when(orderMapper.toResponse(order2)).thenReturn(mock(OrderResponseDto.class));
         // when
-        Page<OrderResponseDto> personalOrders = userService.getPersonalOrders(user.getId(), pageable);
+        Page<OrderSummaryResponseDto> personalOrders = userService.getPersonalOrders(user.getId(), pageable);
 
         // then
         assertEquals(2, personalOrders.getContent().size());
-        verify(orderRepository, times(1)).findOrdersByUserIdAndNotDeleted(user.getId(), pageable);
-        verify(orderMapper, times(1)).toResponse(order1);
-        verify(orderMapper, times(1)).toResponse(order2);
+        verify(orderRepository, times(1)).findSummariesByUserId(user.getId(), pageable);
 
     }
 
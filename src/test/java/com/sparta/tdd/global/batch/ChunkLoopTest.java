@@ -0,0 +1,64 @@
+package com.sparta.tdd.global.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkLoopTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Test
+    @DisplayName("가득 찬 chunk 가 나오는 동안 이어서 실행하고, 덜 찬 chunk 에서 멈춘다")
+    void run_stopsAtShortChunk() {
+        // given
+        Deque<Integer> sizes = new ArrayDeque<>(List.of(2, 2, 1, 2));
+        ChunkLoop chunkLoop = new ChunkLoop(BATCH_SIZE, 0);
+
+        // when
+        ChunkLoop.Result result = chunkLoop.run(sizes::poll);
+
+        // then
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+        assertThat(sizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("빈 chunk 는 세지 않고 바로 멈춘다")
+    void run_emptyChunk() {
+        // given
+        ChunkLoop chunkLoop = new ChunkLoop(BATCH_SIZE, 0);
+
+        // when
+        ChunkLoop.Result result = chunkLoop.run(() -> 0);
+
+        // then
+        assertThat(result.chunks()).isZero();
+        assertThat(result.completed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("chunk 사이에 쉬는 도중 인터럽트되면 중단하고 인터럽트 상태를 남긴다")
+    void run_interruptedWhileThrottling() {
+        // given
+        ChunkLoop chunkLoop = new ChunkLoop(BATCH_SIZE, 1_000);
+        Thread.currentThread().interrupt();
+
+        try {
+            // when
+            ChunkLoop.Result result = chunkLoop.run(() -> BATCH_SIZE);
+
+            // then
+            assertThat(result.chunks()).isEqualTo(1);
+            assertThat(result.completed()).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
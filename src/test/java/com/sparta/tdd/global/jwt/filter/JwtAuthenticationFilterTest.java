@@ -1,17 +1,21 @@
 package com.sparta.tdd.global.jwt.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sparta.tdd.domain.auth.UserDetailsImpl;
+import com.sparta.tdd.domain.user.enums.UserAuthority;
 import com.sparta.tdd.global.exception.BusinessException;
 import com.sparta.tdd.global.exception.ErrorCode;
 import com.sparta.tdd.global.jwt.JwtTokenValidator;
-import com.sparta.tdd.global.jwt.provider.JwtTokenProvider;
+import com.sparta.tdd.global.jwt.VerifiedAccessTokenCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -20,6 +24,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Date;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,10 +39,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 class JwtAuthenticationFilterTest {
 
     @Mock
-    private JwtTokenProvider accessTokenProvider;
+    private JwtTokenValidator jwtTokenValidator;
 
     @Mock
-    private JwtTokenValidator jwtTokenValidator;
+    private VerifiedAccessTokenCache verifiedAccessTokenCache;
 
     @Mock
     private HttpServletRequest request;
@@ -63,7 +68,7 @@ class JwtAuthenticationFilterTest {
 
         // then
         verify(filterChain).doFilter(request, response);
-        verify(jwtTokenValidator, never()).validateAccessToken(anyString());
+        verify(jwtTokenValidator, never()).validateAndGetAccessClaims(anyString());
     }
 
     @Test
@@ -79,17 +84,16 @@ class JwtAuthenticationFilterTest {
             .add("tokenType", "access")
             .add("username", "testUser")
             .add("authority", "CUSTOMER")
+            .expiration(new Date(System.currentTimeMillis() + 60_000L))
             .build();
-        when(accessTokenProvider.getClaims(token)).thenReturn(claims);
-
-        // validateAccessToken은 정상 동작 (예외 없음)
-        doNothing().when(jwtTokenValidator).validateAccessToken(token);
+        when(jwtTokenValidator.validateAndGetAccessClaims(token)).thenReturn(claims);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // then
-        verify(jwtTokenValidator).validateAccessToken(token);
+        verify(jwtTokenValidator, times(1)).validateAndGetAccessClaims(token);
+        verify(verifiedAccessTokenCache).put(eq(token), any(), eq(claims.getExpiration()));
         verify(filterChain).doFilter(request, response);
 
         // SecurityContext에 인증 정보가 설정되었는지 확인
@@ -106,7 +110,7 @@ class JwtAuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
 
         doThrow(new ExpiredJwtException(null, null, "Expired"))
-            .when(jwtTokenValidator).validateAccessToken(token);
+            .when(jwtTokenValidator).validateAndGetAccessClaims(token);
 
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
@@ -129,7 +133,7 @@ class JwtAuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
 
         doThrow(new BusinessException(ErrorCode.ACCESS_TOKEN_BLACKLISTED))
-            .when(jwtTokenValidator).validateAccessToken(token);
+            .when(jwtTokenValidator).validateAndGetAccessClaims(token);
 
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
@@ -152,7 +156,49 @@ class JwtAuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
 
         doThrow(new BusinessException(ErrorCode.ACCESS_TOKEN_INVALID))
-            .when(jwtTokenValidator).validateAccessToken(token);
+            .when(jwtTokenValidator).validateAndGetAccessClaims(token);
+
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter writer = new PrintWriter(stringWriter);
+        when(response.getWriter()).thenReturn(writer);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("검증 캐시에 있는 토큰인 경우 - 재파싱 없이 블랙리스트만 확인하고 인증 성공")
+    void doFilterInternal_cachedToken_shouldSkipParsing() throws Exception {
+        // given
+        String token = "cachedToken";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(verifiedAccessTokenCache.get(token))
+            .thenReturn(new UserDetailsImpl(1L, "testUser", UserAuthority.CUSTOMER));
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(jwtTokenValidator).validateAccessTokenNotBlacklisted(token);
+        verify(jwtTokenValidator, never()).validateAndGetAccessClaims(anyString());
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("검증 캐시에 있어도 로그아웃된 토큰인 경우 - 401 에러 반환")
+    void doFilterInternal_cachedButBlacklistedToken_shouldReturnUnauthorized() throws Exception {
+        // given
+        String token = "cachedToken";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(verifiedAccessTokenCache.get(token))
+            .thenReturn(new UserDetailsImpl(1L, "testUser", UserAuthority.CUSTOMER));
+        doThrow(new BusinessException(ErrorCode.ACCESS_TOKEN_BLACKLISTED))
+            .when(jwtTokenValidator).validateAccessTokenNotBlacklisted(token);
 
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
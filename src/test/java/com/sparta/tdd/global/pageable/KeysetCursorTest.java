@@ -0,0 +1,60 @@
+package com.sparta.tdd.global.pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.tdd.domain.order.dto.OrderCursor;
+import com.sparta.tdd.global.exception.BusinessException;
+import com.sparta.tdd.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 키로 되돌린다")
+    void encodeThenDecode() {
+        // given
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5), UUID.randomUUID());
+
+        // when
+        OrderCursor decoded = OrderCursor.decodeOrNull(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 보고 null 을 반환한다")
+    void decode_blank() {
+        assertThat(OrderCursor.decodeOrNull(null)).isNull();
+        assertThat(OrderCursor.decodeOrNull("")).isNull();
+        assertThat(OrderCursor.decodeOrNull(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Base64/키 개수/키 형식이 맞지 않으면 넘겨받은 에러 코드로 예외가 발생한다")
+    void decode_invalid() {
+        List<String> cursors = List.of(
+            "not-base64!",
+            encodeRaw("a|b|c"),
+            encodeRaw("2025-01-02T03:04:05|not-a-uuid"),
+            encodeRaw("2025-01-02T03:04:05|"));
+
+        cursors.forEach(cursor -> assertThatThrownBy(() -> OrderCursor.decodeOrNull(cursor))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_ORDER_CURSOR));
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}